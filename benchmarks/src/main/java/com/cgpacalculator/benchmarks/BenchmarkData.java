@@ -0,0 +1,95 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic inputs shared by the benchmarks
+ */
+final class BenchmarkData {
+    
+    private static final long SEED = 0x5EED_C6FAL;
+    
+    private BenchmarkData() {
+    }
+    
+    /**
+     * Labels of the grading scale in use, drawn at random
+     */
+    static String[] grades(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] labels = GradingScales.current().getLabels();
+        String[] grades = new String[count];
+        for (int i = 0; i < count; i++) {
+            grades[i] = labels[random.nextInt(labels.length)];
+        }
+        return grades;
+    }
+    
+    /**
+     * CGPAs spread evenly over 0.00-5.00 in random order, so the class of one
+     * student says nothing about the next
+     */
+    static double[] cgpas(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] cgpas = new double[count];
+        for (int i = 0; i < count; i++) {
+            cgpas[i] = random.nextDouble(Constants.MIN_CGPA, Constants.MAX_CGPA);
+        }
+        return cgpas;
+    }
+    
+    /**
+     * Courses of 3 units each, so 6-8 courses form a valid 18-24 unit semester
+     */
+    static List<Course> courses(int count) {
+        String[] grades = grades(count);
+        List<Course> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            courses.add(new Course("COURSE " + i, 3, grades[i]));
+        }
+        return courses;
+    }
+    
+    /**
+     * A cohort where every student takes the given number of 3-unit courses
+     * drawn from a catalogue of 500 course names
+     */
+    static CourseStore cohort(int studentCount, int coursesPerStudent) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        CourseStore.Builder builder = new CourseStore.Builder(studentCount, studentCount * coursesPerStudent);
+        for (int student = 0; student < studentCount; student++) {
+            builder.startStudent(1.0 + random.nextInt(400) / 100.0, 24 + random.nextInt(100));
+            for (int i = 0; i < coursesPerStudent; i++) {
+                String grade = Constants.VALID_GRADES[random.nextInt(Constants.VALID_GRADES.length)];
+                builder.addCourse("COURSE " + random.nextInt(500), 3, grade);
+            }
+        }
+        return builder.build();
+    }
+    
+    /**
+     * A cohort with between minCourses and maxCourses courses of 1-6 units per student, so
+     * segments are ragged and rarely a multiple of the vector length
+     */
+    static CourseStore raggedCohort(int studentCount, int minCourses, int maxCourses) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int gradeCount = GradingScales.current().count();
+        CourseStore.Builder builder = new CourseStore.Builder(studentCount, studentCount * (minCourses + maxCourses) / 2);
+        for (int course = 0; course < 500; course++) {
+            builder.courseId("COURSE " + course);
+        }
+        for (int student = 0; student < studentCount; student++) {
+            builder.startStudent(1.0 + random.nextInt(400) / 100.0, 24 + random.nextInt(100));
+            for (int i = random.nextInt(minCourses, maxCourses + 1); i > 0; i--) {
+                builder.addCourse(random.nextInt(500), 1 + random.nextInt(6), random.nextInt(gradeCount));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.engine.CohortSummary;
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Classifying a cohort of random CGPAs: the bucket table of {@link ClassificationScheme}
+ * against the threshold if/else chain it replaced, for double and fixed-point CGPAs
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassificationBenchmark {
+    
+    private static final int CGPA_COUNT = 1 << 20;
+    
+    private double[] cgpas;
+    private int[] cgpaHundredths;
+    private ClassificationScheme scheme;
+    
+    @Setup
+    public void setUp() {
+        cgpas = BenchmarkData.cgpas(CGPA_COUNT);
+        cgpaHundredths = new int[CGPA_COUNT];
+        for (int i = 0; i < CGPA_COUNT; i++) {
+            cgpaHundredths[i] = (int) Decimals.toHundredths(cgpas[i]);
+            cgpas[i] = Decimals.toDouble(cgpaHundredths[i]);
+        }
+        scheme = ClassificationScheme.FIVE_POINT;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CGPA_COUNT)
+    public long[] thresholdChain() {
+        long[] counts = new long[5];
+        for (double cgpa : cgpas) {
+            counts[classifyByThresholds(cgpa)]++;
+        }
+        return counts;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CGPA_COUNT)
+    public long[] bucketTable() {
+        long[] counts = new long[scheme.count()];
+        for (double cgpa : cgpas) {
+            counts[scheme.classify(cgpa)]++;
+        }
+        return counts;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CGPA_COUNT)
+    public long[] bucketTableHundredths() {
+        long[] counts = new long[scheme.count()];
+        for (int cgpa : cgpaHundredths) {
+            counts[scheme.classifyHundredths(cgpa)]++;
+        }
+        return counts;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CGPA_COUNT)
+    public CohortSummary cohortSummary() {
+        CohortSummary summary = new CohortSummary(scheme);
+        for (int cgpa : cgpaHundredths) {
+            summary.accept(cgpa);
+        }
+        return summary;
+    }
+    
+    // The classification used before schemes were configurable
+    private static int classifyByThresholds(double cgpa) {
+        if (cgpa >= Constants.FIRST_CLASS_MIN) {
+            return 0;
+        } else if (cgpa >= Constants.SECOND_CLASS_UPPER_MIN) {
+            return 1;
+        } else if (cgpa >= Constants.SECOND_CLASS_LOWER_MIN) {
+            return 2;
+        } else if (cgpa >= Constants.THIRD_CLASS_MIN) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+}
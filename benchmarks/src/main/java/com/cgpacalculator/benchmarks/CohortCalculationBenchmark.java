@@ -0,0 +1,67 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.engine.CGPAEngine;
+import com.cgpacalculator.engine.CohortCalculator;
+import com.cgpacalculator.engine.CohortResult;
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.utils.CGPACalculationValidator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the columnar batch paths over a whole cohort
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CohortCalculationBenchmark {
+    
+    @Param({"10000", "1000000"})
+    public int cohortSize;
+    
+    @Param({"8"})
+    public int coursesPerStudent;
+    
+    private CourseStore store;
+    
+    @Setup
+    public void setUp() {
+        store = BenchmarkData.cohort(cohortSize, coursesPerStudent);
+    }
+    
+    @Benchmark
+    public double calculateBatch() {
+        double[] checksum = new double[1];
+        CGPAEngine.calculateBatch(store, (student, gpa, cgpa, semesterUnits, totalUnits) -> checksum[0] += cgpa);
+        return checksum[0];
+    }
+    
+    @Benchmark
+    public CohortResult parallelCohort() {
+        return new CohortCalculator().calculate(store);
+    }
+    
+    @Benchmark
+    public int canCalculateCohort() {
+        int ready = 0;
+        for (int student = 0; student < store.getStudentCount(); student++) {
+            if (CGPACalculationValidator.canCalculate(store, student)) {
+                ready++;
+            }
+        }
+        return ready;
+    }
+}
@@ -0,0 +1,78 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.engine.CGPAEngine;
+import com.cgpacalculator.engine.CohortKernel;
+import com.cgpacalculator.engine.CohortKernels;
+import com.cgpacalculator.model.CourseStore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scalar against Vector API cohort kernels over ragged per-student segments, on their own
+ * and inside the single-threaded batch calculation. The forks add the incubator module;
+ * the vector runs fail in setup on CPUs with vectors narrower than eight ints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class CohortKernelBenchmark {
+    
+    private static final int BLOCK_STUDENTS = 256;
+    
+    @Param({"1000000"})
+    public int cohortSize;
+    
+    // Minimum-maximum courses per student
+    @Param({"6-10", "12-20"})
+    public String coursesPerStudent;
+    
+    @Param({"scalar", "vector"})
+    public String kernelName;
+    
+    private CourseStore store;
+    private CohortKernel kernel;
+    private final long[] credit = new long[BLOCK_STUDENTS];
+    private final int[] units = new int[BLOCK_STUDENTS];
+    
+    @Setup
+    public void setUp() {
+        String[] range = coursesPerStudent.split("-");
+        store = BenchmarkData.raggedCohort(cohortSize, Integer.parseInt(range[0]), Integer.parseInt(range[1]));
+        kernel = "vector".equals(kernelName) ? CohortKernels.vector() : CohortKernels.SCALAR;
+        if (kernel == null) {
+            throw new IllegalStateException("Vector kernel unavailable on this JVM or CPU");
+        }
+    }
+    
+    @Benchmark
+    public long kernel() {
+        long checksum = 0;
+        for (int from = 0; from < store.getStudentCount(); from += BLOCK_STUDENTS) {
+            int to = Math.min(from + BLOCK_STUDENTS, store.getStudentCount());
+            kernel.sum(store, from, to, credit, units);
+            checksum += credit[0] + units[to - from - 1];
+        }
+        return checksum;
+    }
+    
+    @Benchmark
+    public long calculateBatch() {
+        long[] checksum = new long[1];
+        CGPAEngine.calculateBatch(store, 0, store.getStudentCount(), kernel,
+            (student, gpa, cgpa, semesterUnits, totalUnits) -> checksum[0] += cgpa);
+        return checksum[0];
+    }
+}
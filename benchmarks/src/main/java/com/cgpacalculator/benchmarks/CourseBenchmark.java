@@ -0,0 +1,50 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.model.Course;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of building Course objects, as the table and loaders do for every row
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseBenchmark {
+    
+    @Param({"8", "64", "1024"})
+    public int courseCount;
+    
+    private String[] names;
+    private String[] grades;
+    
+    @Setup
+    public void setUp() {
+        grades = BenchmarkData.grades(courseCount);
+        names = new String[courseCount];
+        for (int i = 0; i < courseCount; i++) {
+            names[i] = "COURSE " + i;
+        }
+    }
+    
+    @Benchmark
+    public void construct(Blackhole blackhole) {
+        for (int i = 0; i < courseCount; i++) {
+            blackhole.consume(new Course(names[i], 3, grades[i]));
+        }
+    }
+}
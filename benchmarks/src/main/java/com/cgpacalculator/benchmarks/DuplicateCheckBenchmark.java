@@ -0,0 +1,60 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.model.CourseNameIndex;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Duplicate course-name check: linear equalsIgnoreCase scan versus the case-folded index
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DuplicateCheckBenchmark {
+    
+    @Param({"8", "64", "10000"})
+    public int courseCount;
+    
+    private String[] names;
+    private CourseNameIndex index;
+    private String probe;
+    
+    @Setup
+    public void setUp() {
+        names = new String[courseCount];
+        index = new CourseNameIndex(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            names[i] = "COURSE " + i;
+            index.add(names[i]);
+        }
+        probe = "course " + (courseCount - 1); // Worst case for the scan
+    }
+    
+    @Benchmark
+    public boolean linearScan() {
+        for (String name : names) {
+            if (probe.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Benchmark
+    public boolean nameIndex() {
+        return index.contains(probe);
+    }
+}
@@ -0,0 +1,79 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.GradingScaleConfig;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of resolving a letter grade to grade points, on the built-in scale and on a
+ * configured scale with two-character labels
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeLookupBenchmark {
+    
+    private static final int GRADE_COUNT = 1024;
+    
+    private static final GradingScale FOUR_POINT = GradingScaleConfig.parse("four-point", null,
+        "A=4.0, A-=3.7, B+=3.3, B=3.0, B-=2.7, C+=2.3, C=2.0, D=1.0, F=0.0");
+    
+    @Param({"five-point", "four-point"})
+    public String scale;
+    
+    private String[] grades;
+    private GradingScale previous;
+    
+    @Setup
+    public void setUp() {
+        GradingScales.install(Arrays.asList(GradingScale.FIVE_POINT, FOUR_POINT), GradingScale.FIVE_POINT);
+        previous = GradingScales.use(scale);
+        grades = BenchmarkData.grades(GRADE_COUNT);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        GradingScales.use(previous);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(GRADE_COUNT)
+    public double getGradePoints() {
+        double sum = 0.0;
+        for (String grade : grades) {
+            sum += Constants.getGradePoints(grade);
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(GRADE_COUNT)
+    public int isValidGrade() {
+        int valid = 0;
+        for (String grade : grades) {
+            if (Constants.isValidGrade(grade)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
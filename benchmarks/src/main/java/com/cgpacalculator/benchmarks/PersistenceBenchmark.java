@@ -0,0 +1,65 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.persistence.BinaryCourseDataFile;
+import com.cgpacalculator.persistence.CourseData;
+import com.cgpacalculator.persistence.TextCourseDataFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Save/load round trip of the legacy text format and the binary format
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+    
+    @Param({"8", "64", "1024"})
+    public int courseCount;
+    
+    private CourseData data;
+    private Path dataFile;
+    private Path binaryFile;
+    
+    @Setup
+    public void setUp() throws IOException {
+        data = new CourseData(BenchmarkData.courses(courseCount), "4.20", "48");
+        dataFile = Files.createTempFile("cgpa_data", ".txt");
+        binaryFile = Files.createTempFile("cgpa_data", ".bin");
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(binaryFile);
+    }
+    
+    @Benchmark
+    public CourseData textRoundTrip() throws IOException {
+        TextCourseDataFile.write(data, dataFile.toString());
+        return TextCourseDataFile.read(dataFile.toString());
+    }
+    
+    @Benchmark
+    public CourseData binaryRoundTrip() throws IOException {
+        BinaryCourseDataFile.write(data, binaryFile.toString());
+        return BinaryCourseDataFile.read(binaryFile.toString());
+    }
+}
@@ -0,0 +1,61 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.engine.ProjectionEngine;
+import com.cgpacalculator.engine.ProjectionResult;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Monte Carlo projection throughput, reported per simulated semester
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+    
+    private static final int TRIALS = 1_000_000;
+    
+    @Param({"8", "48"})
+    public int courseCount;
+    
+    private final ProjectionEngine engine = new ProjectionEngine();
+    private int[] units;
+    private double[][] gradeProbabilities;
+    private long seed;
+    
+    @Setup
+    public void setUp() {
+        int grades = GradingScales.current().count();
+        units = new int[courseCount];
+        gradeProbabilities = new double[courseCount][];
+        for (int i = 0; i < courseCount; i++) {
+            units[i] = 1 + (i * 7) % Constants.MAX_COURSE_UNITS;
+            gradeProbabilities[i] = ProjectionEngine.estimateAround(i % grades, grades, Constants.PROJECTION_CONFIDENCE);
+        }
+    }
+    
+    /**
+     * Multiply by courseCount for simulated courses per second
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRIALS)
+    public ProjectionResult project() {
+        return engine.project(3.2, 60, units, gradeProbabilities, TRIALS, seed++);
+    }
+}
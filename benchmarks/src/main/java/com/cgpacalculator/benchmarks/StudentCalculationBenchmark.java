@@ -0,0 +1,45 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.engine.CGPAEngine;
+import com.cgpacalculator.engine.CGPAResult;
+import com.cgpacalculator.model.Course;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one student's GPA/CGPA calculation, as run by the Calculate button
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentCalculationBenchmark {
+    
+    @Param({"8", "64", "1024"})
+    public int courseCount;
+    
+    private List<Course> courses;
+    
+    @Setup
+    public void setUp() {
+        courses = BenchmarkData.courses(courseCount);
+    }
+    
+    @Benchmark
+    public CGPAResult calculate() {
+        return CGPAEngine.calculate(courses, "4.20", "48");
+    }
+}
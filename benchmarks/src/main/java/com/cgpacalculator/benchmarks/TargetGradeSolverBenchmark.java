@@ -0,0 +1,52 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.engine.TargetGradePlan;
+import com.cgpacalculator.engine.TargetGradeSolver;
+import com.cgpacalculator.utils.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Target-grade solve for a continuing student with many planned courses
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetGradeSolverBenchmark {
+    
+    @Param({"8", "48", "120"})
+    public int plannedCourses;
+    
+    private int[] plannedUnits;
+    
+    @Setup
+    public void setUp() {
+        plannedUnits = new int[plannedCourses];
+        for (int i = 0; i < plannedCourses; i++) {
+            plannedUnits[i] = 1 + (i * 7) % Constants.MAX_COURSE_UNITS;
+        }
+    }
+    
+    @Benchmark
+    public TargetGradePlan firstClass() {
+        return TargetGradeSolver.solve(3.9, 60, plannedUnits, Constants.FIRST_CLASS_MIN, TargetGradeSolver.DEFAULT_MAX_PLANS);
+    }
+    
+    @Benchmark
+    public TargetGradePlan avoidThirdClass() {
+        return TargetGradeSolver.solve(1.6, 60, plannedUnits, Constants.SECOND_CLASS_LOWER_MIN, TargetGradeSolver.DEFAULT_MAX_PLANS);
+    }
+}
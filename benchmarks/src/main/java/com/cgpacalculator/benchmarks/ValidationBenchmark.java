@@ -0,0 +1,51 @@
+package com.cgpacalculator.benchmarks;
+
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.utils.CGPACalculationValidator;
+import com.cgpacalculator.utils.ValidationResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the readiness validation that runs on every keystroke and table change.
+ * 6 and 8 courses pass validation; 64 courses exercise the over-limit error path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    
+    @Param({"6", "8", "64"})
+    public int courseCount;
+    
+    private List<Course> courses;
+    
+    @Setup
+    public void setUp() {
+        courses = BenchmarkData.courses(courseCount);
+    }
+    
+    @Benchmark
+    public ValidationResult validateCalculationReadiness() {
+        return CGPACalculationValidator.validateCalculationReadiness(courses, "4.20", "48");
+    }
+    
+    @Benchmark
+    public boolean canCalculate() {
+        return CGPACalculationValidator.canCalculate(courses, "4.20", "48");
+    }
+}
@@ -1,15 +1,32 @@
 package com.cgpacalculator;
 
 import com.cgpacalculator.view.EnhancedMainFrame;
+import com.cgpacalculator.view.TargetGradeDialog;
+import com.cgpacalculator.view.TimedEventQueue;
+import com.cgpacalculator.cli.BatchMode;
+import com.cgpacalculator.engine.CGPAEngine;
+import com.cgpacalculator.engine.CGPAResult;
+import com.cgpacalculator.engine.ProjectionEngine;
+import com.cgpacalculator.engine.ProjectionResult;
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.ClassificationScheme;
 import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.model.Semester;
+import com.cgpacalculator.persistence.CourseData;
+import com.cgpacalculator.persistence.CourseDataStore;
+import com.cgpacalculator.persistence.PersistenceWorker;
+import com.cgpacalculator.persistence.SemesterData;
 import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.GradingScaleConfig;
 import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.*;
-import java.util.List;
 import java.util.ArrayList;
-import java.util.Properties;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Main CGPA Calculator Application
@@ -17,14 +34,36 @@ import java.util.Properties;
  */
 public class CGPACalculatorApp {
     
-    private static final String DATA_FILE = "cgpa_data.txt";
+    private static final String DATA_FILE = Constants.DEFAULT_SAVE_FILENAME;
+    private static final String LEGACY_DATA_FILE = Constants.LEGACY_SAVE_FILENAME;
+    private final CourseDataStore dataStore = 
+        new CourseDataStore(DATA_FILE, Constants.JOURNAL_FILENAME, LEGACY_DATA_FILE);
+    private final PersistenceWorker persistenceWorker = 
+        new PersistenceWorker(dataStore, SwingUtilities::invokeLater, new SaveResultHandler());
     private EnhancedMainFrame mainFrame;
+    private LoadDataWorker loadWorker;
+    private final ProjectionEngine projectionEngine = new ProjectionEngine();
     
     public CGPACalculatorApp() {
         initializeApplication();
     }
     
     public static void main(String[] args) {
+        // Headless mode for scripts; Launcher gets here without loading any AWT or Swing class
+        if (BatchMode.isRequested(args)) {
+            System.exit(BatchMode.run(args, System.in, System.out, System.err));
+        }
+        
+        // Calculation, validation, save and load timings for JConsole and other JMX clients
+        Metrics.registerMBeans();
+        
+        // Configured grading scales; the built-in 5-point scale is used when there are none
+        try {
+            GradingScaleConfig.loadConfigured();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load grading scales, using the built-in scale: " + e.getMessage());
+        }
+        
         // Set look and feel
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -32,6 +71,9 @@ public class CGPACalculatorApp {
             System.err.println("Could not set system look and feel: " + e.getMessage());
         }
         
+        // Slow Event Dispatch Thread tasks show up in Flight Recorder recordings
+        TimedEventQueue.install();
+        
         SwingUtilities.invokeLater(() -> {
             new CGPACalculatorApp();
         });
@@ -64,6 +106,19 @@ public class CGPACalculatorApp {
         // Load button handler
         mainFrame.addLoadDataButtonListener(new LoadDataHandler());
         
+        // Target grade solver
+        mainFrame.addTargetGradesButtonListener(new TargetGradesHandler());
+        
+        // Monte Carlo projection
+        mainFrame.addProjectButtonListener(new ProjectionHandler());
+        
+        // Grading scale switch
+        mainFrame.addGradingScaleListener(new GradingScaleHandler());
+        
+        // Semester history handlers
+        mainFrame.addCompleteSemesterButtonListener(new CompleteSemesterHandler());
+        mainFrame.addRemoveSemesterButtonListener(new RemoveSemesterHandler());
+        
         // Add window closing handler to auto-save
         mainFrame.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         mainFrame.addWindowListener(new java.awt.event.WindowAdapter() {
@@ -75,16 +130,8 @@ public class CGPACalculatorApp {
     }
     
     private void loadDataOnStartup() {
-        File dataFile = new File(DATA_FILE);
-        if (dataFile.exists()) {
-            try {
-                loadCourseData();
-                mainFrame.showInfoMessage("Data Loaded", 
-                    "Previous course data has been loaded automatically.");
-            } catch (Exception e) {
-                System.err.println("Could not load previous data: " + e.getMessage());
-            }
-        }
+        // Runs in the background; the outcome is shown in the status line rather than a dialog
+        loadCourseData(false);
     }
     
     private void showWelcomeMessage() {
@@ -93,7 +140,8 @@ public class CGPACalculatorApp {
             "Key Requirements:\n" +
             "• Add courses totaling 18-24 units\n" +
             "• Complete all course details (name, units, grade)\n" +
-            "• Optionally enter current CGPA and cumulative units\n\n" +
+            "• Optionally enter current CGPA and cumulative units\n" +
+            "• Complete a semester to keep it in your history\n\n" +
             "Features:\n" +
             "• Real-time validation and feedback\n" +
             "• Easy course management (add, edit, remove)\n" +
@@ -108,7 +156,7 @@ public class CGPACalculatorApp {
     private void handleApplicationExit() {
         List<Course> courses = mainFrame.getAllCourses();
         
-        if (!courses.isEmpty()) {
+        if (!courses.isEmpty() || mainFrame.getCompletedSemesterCount() > 0) {
             int choice = JOptionPane.showConfirmDialog(
                 mainFrame,
                 "Do you want to save your course data before exiting?",
@@ -123,6 +171,17 @@ public class CGPACalculatorApp {
             }
         }
         
+        // Write any saves still queued before the process ends
+        try {
+            persistenceWorker.flush();
+        } catch (IOException e) {
+            mainFrame.showErrorMessage("Save Error", 
+                "Could not save data: " + e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
         System.exit(0);
     }
     
@@ -132,80 +191,75 @@ public class CGPACalculatorApp {
     private class CalculationHandler implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            CGPAResult result;
             try {
-                performCGPACalculation();
+                long start = Metrics.CALCULATION.start();
+                try {
+                    result = performCGPACalculation();
+                } catch (RuntimeException ex) {
+                    Metrics.CALCULATION.failed(start);
+                    throw ex;
+                }
+                // Incomplete input (a null result) was rejected, not calculated, so it is not recorded
+                if (result != null) {
+                    Metrics.CALCULATION.stop(start);
+                }
             } catch (Exception ex) {
                 mainFrame.showErrorMessage("Calculation Error", 
                     "An error occurred during calculation: " + ex.getMessage());
                 ex.printStackTrace();
+                return;
             }
+            
+            // Dialogs wait for the user, so they are shown after the call is recorded
+            if (result == null) {
+                mainFrame.showErrorMessage("Calculation Error", 
+                    "Cannot calculate CGPA. Please complete all requirements first.");
+                return;
+            }
+            showCalculationSummary(result.getCurrentGPA(), result.getCGPA(), 
+                result.getClassificationScheme().getLabel(result.getClassification()), result.getSemesterUnits());
         }
         
-        private void performCGPACalculation() {
+        /**
+         * @return The calculation, or null if the inputs are not complete yet
+         */
+        private CGPAResult performCGPACalculation() {
             // Get input data
             List<Course> courses = mainFrame.getAllCourses();
-            String currentCGPAStr = mainFrame.getCurrentCGPAInput();
-            String cumulativeUnitsStr = mainFrame.getCumulativeUnitsInput();
             
             // Validate that calculation can proceed
             if (!mainFrame.canCalculateCGPA()) {
-                mainFrame.showErrorMessage("Calculation Error", 
-                    "Cannot calculate CGPA. Please complete all requirements first.");
-                return;
-            }
-            
-            // Calculate current semester GPA
-            double totalGradePoints = 0.0;
-            int totalUnits = 0;
-            
-            for (Course course : courses) {
-                double gradePoints = Constants.getGradePoints(course.getLetterGrade());
-                totalGradePoints += gradePoints * course.getUnits();
-                totalUnits += course.getUnits();
+                return null;
             }
             
-            double currentGPA = totalGradePoints / totalUnits;
-            
-            // Calculate updated CGPA
-            double updatedCGPA;
-            int totalCumulativeUnits;
-            
-            if (currentCGPAStr.isEmpty() || cumulativeUnitsStr.isEmpty()) {
-                // New student - CGPA equals current GPA
-                updatedCGPA = currentGPA;
-                totalCumulativeUnits = totalUnits;
-            } else {
-                // Existing student - calculate weighted CGPA
-                double currentCGPA = Double.parseDouble(currentCGPAStr);
-                int cumulativeUnits = Integer.parseInt(cumulativeUnitsStr);
-                
-                double totalCumulativeGradePoints = (currentCGPA * cumulativeUnits) + totalGradePoints;
-                totalCumulativeUnits = cumulativeUnits + totalUnits;
-                updatedCGPA = totalCumulativeGradePoints / totalCumulativeUnits;
-            }
-            
-            // Get classification
-            String classification = Constants.getClassification(updatedCGPA);
+            // Calculate GPA and CGPA on top of the prior record and every completed semester
+            CGPAResult result = CGPAEngine.calculateFromCredit(courses, 
+                mainFrame.getCreditHundredthsBeforeCurrentSemester(), mainFrame.getUnitsBeforeCurrentSemester());
+            double currentGPA = result.getCurrentGPA();
+            double updatedCGPA = result.getCGPA();
+            ClassificationScheme scheme = result.getClassificationScheme();
+            int classification = result.getClassification();
+            int totalUnits = result.getSemesterUnits();
+            int totalCumulativeUnits = result.getTotalUnits();
             
             // Update displays
             mainFrame.updateCurrentGPADisplay(currentGPA);
             mainFrame.updateCGPADisplay(updatedCGPA);
-            mainFrame.updateClassificationDisplay(classification);
+            mainFrame.updateClassificationDisplay(scheme, classification);
             mainFrame.updateTotalUnitsDisplay(totalCumulativeUnits);
             
             // Generate motivational message
             String motivationalMessage = generateMotivationalMessage(
-                updatedCGPA, classification, courses.size(), totalUnits, currentGPA);
+                updatedCGPA, scheme, classification, courses.size(), totalUnits, currentGPA);
             mainFrame.updateMotivationalMessage(motivationalMessage);
             
             // Auto-save after successful calculation
             saveCourseData();
-            
-            // Show success notification
-            showCalculationSummary(currentGPA, updatedCGPA, classification, totalUnits);
+            return result;
         }
         
-        private String generateMotivationalMessage(double cgpa, String classification, 
+        private String generateMotivationalMessage(double cgpa, ClassificationScheme scheme, int classification,
                                                  int courseCount, int totalUnits, double currentGPA) {
             StringBuilder message = new StringBuilder();
             
@@ -213,21 +267,23 @@ public class CGPACalculatorApp {
             message.append(String.format("📊 Results Summary:\n"));
             message.append(String.format("• Current Semester GPA: %.2f\n", currentGPA));
             message.append(String.format("• Updated CGPA: %.2f\n", cgpa));
-            message.append(String.format("• Classification: %s\n", classification));
+            message.append(String.format("• Classification: %s\n", scheme.getLabel(classification)));
             message.append(String.format("• Courses this semester: %d\n", courseCount));
             message.append(String.format("• Total units: %d\n\n", totalUnits));
             
-            // Add performance-based motivational message
-            if (cgpa >= Constants.FIRST_CLASS_MIN) {
+            // Add performance-based motivational message; classes are spread over five tiers
+            int tier = scheme.count() == 1 ? 0 : (int) Math.round(classification * 4.0 / (scheme.count() - 1));
+            String bestClass = scheme.getLabel(0);
+            if (tier == 0) {
                 message.append("🌟 OUTSTANDING PERFORMANCE! 🌟\n");
-                message.append("You're absolutely crushing it! This is First Class excellence!");
-            } else if (cgpa >= Constants.SECOND_CLASS_UPPER_MIN) {
+                message.append("You're absolutely crushing it! This is " + bestClass + " excellence!");
+            } else if (tier == 1) {
                 message.append("🎯 EXCELLENT WORK! 🎯\n");
-                message.append("You're doing great! Keep pushing for that First Class!");
-            } else if (cgpa >= Constants.SECOND_CLASS_LOWER_MIN) {
+                message.append("You're doing great! Keep pushing for that " + bestClass + "!");
+            } else if (tier == 2) {
                 message.append("👍 GOOD PROGRESS! 👍\n");
                 message.append("You're on track! Focus more to reach the next level!");
-            } else if (cgpa >= Constants.THIRD_CLASS_MIN) {
+            } else if (tier == 3) {
                 message.append("⚠️ IMPROVEMENT NEEDED ⚠️\n");
                 message.append("Time to step up! You have the potential to do better!");
             } else {
@@ -246,7 +302,7 @@ public class CGPACalculatorApp {
                 "Updated CGPA: %.2f\n" +
                 "Classification: %s\n" +
                 "Total Units: %d\n\n" +
-                "Data has been automatically saved.",
+                "Data is being saved automatically.",
                 currentGPA, cgpa, classification, totalUnits
             );
             
@@ -270,98 +326,347 @@ public class CGPACalculatorApp {
     private class LoadDataHandler implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
-            loadCourseData();
+            loadCourseData(true);
         }
     }
     
-    private void saveCourseData() {
-        try {
-            List<Course> courses = mainFrame.getAllCourses();
-            String currentCGPA = mainFrame.getCurrentCGPAInput();
-            String cumulativeUnits = mainFrame.getCumulativeUnitsInput();
-            
-            // Write to file in simple format
-            try (PrintWriter writer = new PrintWriter(new FileWriter(DATA_FILE))) {
-                writer.println("# CGPA Calculator Data");
-                writer.println("# Saved on: " + new java.util.Date());
-                writer.println("CURRENT_CGPA=" + currentCGPA);
-                writer.println("CUMULATIVE_UNITS=" + cumulativeUnits);
-                writer.println("COURSE_COUNT=" + courses.size());
-                writer.println();
-                
-                for (int i = 0; i < courses.size(); i++) {
-                    Course course = courses.get(i);
-                    writer.println("COURSE_" + i + "_NAME=" + course.getCourseName());
-                    writer.println("COURSE_" + i + "_UNITS=" + course.getUnits());
-                    writer.println("COURSE_" + i + "_GRADE=" + course.getLetterGrade());
+    /**
+     * Opens the target grade solver for the student's history so far
+     */
+    private class TargetGradesHandler implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            new TargetGradeDialog(mainFrame, mainFrame.getStudent()).setVisible(true);
+        }
+    }
+    
+    /**
+     * Projects the CGPA distribution around the entered grades in the background
+     */
+    private class ProjectionHandler implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            List<Course> courses = new ArrayList<>();
+            for (Course course : mainFrame.getAllCourses()) {
+                if (course.isValid()) {
+                    courses.add(course);
                 }
             }
+            if (courses.isEmpty()) {
+                mainFrame.showWarningMessage("Project CGPA", 
+                    "Add at least one complete course with an expected grade to project your CGPA.");
+                return;
+            }
             
-            mainFrame.showInfoMessage("Data Saved", 
-                String.format("Successfully saved %d courses to %s", courses.size(), DATA_FILE));
+            // Each entered grade is treated as the most likely outcome, with neighbouring grades possible
+            int[] units = new int[courses.size()];
+            double[][] gradeProbabilities = new double[courses.size()][];
+            for (int i = 0; i < units.length; i++) {
+                units[i] = courses.get(i).getUnits();
+                gradeProbabilities[i] = ProjectionEngine.estimateAround(courses.get(i).getGradeOrdinal(),
+                    courses.get(i).getGradingScale().count(), Constants.PROJECTION_CONFIDENCE);
+            }
             
-        } catch (Exception e) {
-            mainFrame.showErrorMessage("Save Error", 
-                "Could not save data: " + e.getMessage());
-            e.printStackTrace();
+            mainFrame.setProjectionRunning(true);
+            new ProjectionWorker(mainFrame.getCreditHundredthsBeforeCurrentSemester(), 
+                mainFrame.getUnitsBeforeCurrentSemester(), units, gradeProbabilities).execute();
         }
     }
     
-    private void loadCourseData() {
-        try {
-            File dataFile = new File(DATA_FILE);
-            if (!dataFile.exists()) {
-                mainFrame.showWarningMessage("Load Data", 
-                    "No saved data file found. Start by adding some courses!");
+    /**
+     * Runs a projection off the Event Dispatch Thread and shows the histogram when done
+     */
+    private class ProjectionWorker extends SwingWorker<ProjectionResult, Void> {
+        private final long priorCredit;
+        private final int priorUnits;
+        private final int[] units;
+        private final double[][] gradeProbabilities;
+        
+        ProjectionWorker(long priorCredit, int priorUnits, int[] units, double[][] gradeProbabilities) {
+            this.priorCredit = priorCredit;
+            this.priorUnits = priorUnits;
+            this.units = units;
+            this.gradeProbabilities = gradeProbabilities;
+        }
+        
+        @Override
+        protected ProjectionResult doInBackground() {
+            return projectionEngine.projectFromCredit(priorCredit, priorUnits, units, gradeProbabilities, 
+                Constants.PROJECTION_TRIALS, System.nanoTime());
+        }
+        
+        @Override
+        protected void done() {
+            mainFrame.setProjectionRunning(false);
+            try {
+                mainFrame.showProjection(get());
+            } catch (InterruptedException | ExecutionException e) {
+                mainFrame.clearProjectionDisplay();
+                mainFrame.showErrorMessage("Projection Error", 
+                    "Could not project CGPA: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Moves the current semester's courses into the history
+     */
+    private class CompleteSemesterHandler implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            if (mainFrame.getAllCourses().isEmpty()) {
+                mainFrame.showWarningMessage("Complete Semester", 
+                    "Add the semester's courses before completing it.");
                 return;
             }
             
-            // Read from file
-            Properties props = new Properties();
-            try (FileReader reader = new FileReader(DATA_FILE)) {
-                props.load(reader);
+            String name = (String) JOptionPane.showInputDialog(mainFrame, 
+                "Name for the completed semester:", "Complete Semester", 
+                JOptionPane.QUESTION_MESSAGE, null, null, mainFrame.getSuggestedSemesterName());
+            if (name == null || name.trim().isEmpty()) {
+                return; // Cancelled
             }
             
-            // Load basic data
-            String currentCGPA = props.getProperty("CURRENT_CGPA", "");
-            String cumulativeUnits = props.getProperty("CUMULATIVE_UNITS", "");
-            String courseCountStr = props.getProperty("COURSE_COUNT", "0");
+            mainFrame.completeCurrentSemester(name.trim());
+            mainFrame.clearResultDisplays();
+            saveCourseData();
+        }
+    }
+    
+    /**
+     * Removes the selected completed semester from the history
+     */
+    private class RemoveSemesterHandler implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            int index = mainFrame.getSelectedCompletedSemester();
+            if (index < 0) {
+                return;
+            }
             
-            int courseCount = Integer.parseInt(courseCountStr);
+            Semester semester = mainFrame.getStudent().getSemester(index);
+            int choice = JOptionPane.showConfirmDialog(mainFrame, 
+                "Remove " + semester.getName() + " and its " + semester.getCourseCount() + " courses from the history?", 
+                "Remove Semester", JOptionPane.YES_NO_OPTION);
+            if (choice == JOptionPane.YES_OPTION) {
+                mainFrame.removeCompletedSemester(index);
+                saveCourseData();
+            }
+        }
+    }
+    
+    /**
+     * Reports background save results; called on the Event Dispatch Thread
+     */
+    private class SaveResultHandler implements PersistenceWorker.Listener {
+        @Override
+        public void saved(CourseData data, int bytesWritten) {
+            mainFrame.showPersistenceStatus(String.format("Saved %d courses to %s (%d bytes written)", 
+                data.getCourses().size(), DATA_FILE, bytesWritten), false);
+        }
+        
+        @Override
+        public void saveFailed(CourseData data, IOException error) {
+            mainFrame.showPersistenceStatus("Last save failed", true);
+            mainFrame.showErrorMessage("Save Error", 
+                "Could not save data: " + error.getMessage());
+            error.printStackTrace();
+        }
+    }
+    
+    /**
+     * Switches the grading scale. Courses resolve their grade when they are created, so every
+     * course is re-created on the new scale; grades the new scale lacks show up as invalid.
+     * The grade labels themselves are kept, and saved, so switching back restores them.
+     */
+    private class GradingScaleHandler implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            GradingScale scale = mainFrame.getSelectedGradingScale();
+            if (scale == GradingScales.current()) {
+                return;
+            }
             
-            // Load courses
-            List<Course> courses = new ArrayList<>();
-            for (int i = 0; i < courseCount; i++) {
-                String name = props.getProperty("COURSE_" + i + "_NAME");
-                String unitsStr = props.getProperty("COURSE_" + i + "_UNITS");
-                String grade = props.getProperty("COURSE_" + i + "_GRADE");
-                
-                if (name != null && unitsStr != null && grade != null) {
-                    int units = Integer.parseInt(unitsStr);
-                    courses.add(new Course(name, units, grade));
+            int lost = countLostGrades(mainFrame.getAllCourses(), scale);
+            for (Semester semester : mainFrame.getCompletedSemesters()) {
+                lost += countLostGrades(semester.getCourses(), scale);
+            }
+            if (lost > 0) {
+                int choice = JOptionPane.showConfirmDialog(mainFrame, 
+                    lost + " graded courses use grades the " + scale.getDisplayName() + " does not have ("
+                        + scale.describeGrades() + ").\nThey will count as invalid until you switch back or regrade them. Switch anyway?", 
+                    "Switch Grading Scale", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                if (choice != JOptionPane.YES_OPTION) {
+                    mainFrame.refreshGradingScale(); // Reselects the scale still in use
+                    return;
                 }
             }
+            GradingScales.use(scale);
             
-            // Load data into UI
-            mainFrame.setCourses(courses);
-            
-            if (!currentCGPA.isEmpty()) {
-                mainFrame.setCurrentCGPAInput(currentCGPA);
+            List<Semester> history = new ArrayList<>();
+            for (Semester semester : mainFrame.getCompletedSemesters()) {
+                history.add(new Semester(semester.getName(), regrade(semester.getCourses())));
             }
+            mainFrame.setCompletedSemesters(history);
+            mainFrame.setCourses(regrade(mainFrame.getAllCourses()));
+            mainFrame.refreshGradingScale();
             
-            if (!cumulativeUnits.isEmpty()) {
-                mainFrame.setCumulativeUnitsInput(cumulativeUnits);
+            saveCourseData();
+        }
+        
+        // Courses with a valid grade now that the given scale does not accept
+        private int countLostGrades(List<Course> courses, GradingScale scale) {
+            int lost = 0;
+            for (Course course : courses) {
+                if (course.getGradeOrdinal() != GradingScale.INVALID_ORDINAL && !scale.isValid(course.getLetterGrade())) {
+                    lost++;
+                }
+            }
+            return lost;
+        }
+        
+        private List<Course> regrade(List<Course> courses) {
+            List<Course> regraded = new ArrayList<>(courses.size());
+            for (Course course : courses) {
+                regraded.add(new Course(course.getCourseName(), course.getUnits(), course.getLetterGrade()));
             }
+            return regraded;
+        }
+    }
+    
+    private void saveCourseData() {
+        List<SemesterData> history = new ArrayList<>();
+        for (Semester semester : mainFrame.getCompletedSemesters()) {
+            history.add(new SemesterData(semester.getName(), semester.getCourses()));
+        }
+        CourseData data = new CourseData(mainFrame.getAllCourses(), 
+            mainFrame.getCurrentCGPAInput(), mainFrame.getCumulativeUnitsInput(), history);
+        
+        // Queued on the persistence thread; bursts of saves collapse into one write
+        persistenceWorker.save(data);
+        mainFrame.showPersistenceStatus("Saving...", false);
+    }
+    
+    private void loadCourseData(boolean announce) {
+        if (loadWorker != null) {
+            return; // A load is already running
+        }
+        
+        ProgressMonitor monitor = new ProgressMonitor(mainFrame, 
+            "Loading saved course data...", null, 0, 100);
+        monitor.setMillisToDecideToPopup(200);
+        
+        mainFrame.setPersistenceControlsEnabled(false);
+        mainFrame.showPersistenceStatus("Loading...", false);
+        loadWorker = new LoadDataWorker(monitor, announce);
+        loadWorker.execute();
+    }
+    
+    /**
+     * Loads saved data off the Event Dispatch Thread and applies it to the UI when done.
+     * The progress monitor only pops up for slow loads; cancelling it leaves the UI untouched.
+     */
+    private class LoadDataWorker extends SwingWorker<CourseData, Void> {
+        private final ProgressMonitor monitor;
+        private final boolean announce;
+        private final Timer cancelPoll;
+        
+        LoadDataWorker(ProgressMonitor monitor, boolean announce) {
+            this.monitor = monitor;
+            this.announce = announce;
             
-            mainFrame.showInfoMessage("Data Loaded", 
-                String.format("Successfully loaded %d courses from %s", courses.size(), DATA_FILE));
+            addPropertyChangeListener(event -> {
+                if ("progress".equals(event.getPropertyName())) {
+                    monitor.setProgress((Integer) event.getNewValue());
+                }
+            });
             
-        } catch (Exception e) {
-            mainFrame.showErrorMessage("Load Error", 
-                "Could not load data: " + e.getMessage());
-            e.printStackTrace();
+            // ProgressMonitor has no cancel callback, so poll it while the load runs
+            this.cancelPoll = new Timer(100, event -> {
+                if (monitor.isCanceled()) {
+                    cancel(true);
+                }
+            });
+            cancelPoll.start();
+        }
+        
+        @Override
+        protected CourseData doInBackground() throws Exception {
+            // Runs after any queued saves, so the loaded state includes them. Cancelling
+            // interrupts the wait here, and the store stops at its next file or journal record
+            return persistenceWorker.load((bytesRead, totalBytes) -> {
+                setProgress(totalBytes > 0 ? (int) (bytesRead * 100 / totalBytes) : 100);
+                return !isCancelled();
+            }).get();
+        }
+        
+        @Override
+        protected void done() {
+            cancelPoll.stop();
+            monitor.close();
+            loadWorker = null;
+            mainFrame.setPersistenceControlsEnabled(true);
+            
+            if (isCancelled()) {
+                mainFrame.showPersistenceStatus("Load cancelled", false);
+                return;
+            }
+            
+            try {
+                CourseData data = get();
+                if (data == null) {
+                    mainFrame.showPersistenceStatus(" ", false);
+                    if (announce) {
+                        mainFrame.showWarningMessage("Load Data", 
+                            "No saved data file found. Start by adding some courses!");
+                    }
+                    return;
+                }
+                applyLoadedData(data, announce);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                mainFrame.showPersistenceStatus("Last load failed", true);
+                if (announce) {
+                    mainFrame.showErrorMessage("Load Error", 
+                        "Could not load data: " + cause.getMessage());
+                }
+                cause.printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
     
-
+    private void applyLoadedData(CourseData data, boolean announce) {
+        boolean legacy = persistenceWorker.wasLoadedFromLegacy();
+        String sourceFile = legacy ? LEGACY_DATA_FILE : DATA_FILE;
+        List<Course> courses = data.getCourses();
+        
+        // Load data into UI
+        List<Semester> history = new ArrayList<>();
+        for (SemesterData semester : data.getHistory()) {
+            history.add(new Semester(semester.getName(), semester.getCourses()));
+        }
+        mainFrame.setCompletedSemesters(history);
+        mainFrame.setCourses(courses);
+        
+        if (!data.getCurrentCGPA().isEmpty()) {
+            mainFrame.setCurrentCGPAInput(data.getCurrentCGPA());
+        }
+        
+        if (!data.getCumulativeUnits().isEmpty()) {
+            mainFrame.setCumulativeUnitsInput(data.getCumulativeUnits());
+        }
+        
+        String message = String.format("Successfully loaded %d courses from %s", courses.size(), sourceFile);
+        mainFrame.showPersistenceStatus(message, false);
+        if (legacy) {
+            message += String.format("\nThe data will be saved in the new format to %s from now on.", DATA_FILE);
+        }
+        if (announce || legacy) {
+            mainFrame.showInfoMessage("Data Loaded", message);
+        }
+    }
+    
+    
 }
\ No newline at end of file
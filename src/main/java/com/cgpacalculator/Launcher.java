@@ -0,0 +1,30 @@
+package com.cgpacalculator;
+
+import com.cgpacalculator.cli.BatchMode;
+import com.cgpacalculator.server.CalculationServer;
+
+/**
+ * Application entry point.
+ * Dispatches to the headless batch and server modes before CGPACalculatorApp is loaded,
+ * since linking the Swing application class already pulls in AWT and Swing classes.
+ */
+public final class Launcher {
+    
+    private Launcher() {
+        throw new UnsupportedOperationException("Launcher class cannot be instantiated");
+    }
+    
+    public static void main(String[] args) {
+        if (BatchMode.isRequested(args)) {
+            System.exit(BatchMode.run(args, System.in, System.out, System.err));
+        }
+        if (CalculationServer.isRequested(args)) {
+            int status = CalculationServer.run(args);
+            if (status != 0) {
+                System.exit(status);
+            }
+            return; // The server's threads keep the JVM running
+        }
+        CGPACalculatorApp.main(args);
+    }
+}
@@ -0,0 +1,358 @@
+package com.cgpacalculator.cli;
+
+import com.cgpacalculator.engine.CGPAEngine;
+import com.cgpacalculator.importer.ImportSummary;
+import com.cgpacalculator.importer.StudentAggregate;
+import com.cgpacalculator.importer.StudentAggregateSink;
+import com.cgpacalculator.importer.TranscriptImporter;
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import com.cgpacalculator.utils.GradingScaleConfig;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless batch mode for scripts and shell pipelines.
+ * Reads transcript CSV rows of {@code student id, course, units, grade} from files or standard
+ * input, applies the same rules as the app (units 1-6, grades on the configured grading scale,
+ * 18-24 units per semester, no duplicate courses) and writes one CSV result row per student to
+ * standard output or a file.
+ * Only the engine, importer and utils packages are used, so no AWT or Swing class is loaded
+ * and the JVM starts and exits quickly.
+ * Exit status: 0 when every student is valid, 1 when some are not, 2 on usage or I/O errors.
+ */
+public final class BatchMode {
+    
+    public static final String BATCH_FLAG = "--batch";
+    
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_INVALID_STUDENTS = 1;
+    public static final int EXIT_ERROR = 2;
+    
+    private static final String USAGE =
+        "Usage: " + BATCH_FLAG + " [--prior-cgpa CGPA --prior-units UNITS] [--grading-scale NAME]\n" +
+        "       [--output FILE] [FILE | -]...\n" +
+        "  Reads CSV rows of student id, course, units, grade (standard input when no FILE or -)\n" +
+        "  and writes student, courses, units, gpa, cgpa, classification, status per student.\n" +
+        "  --prior-cgpa, --prior-units  Record before this semester, applied to every student\n" +
+        "  --grading-scale NAME         Read grades on a scale from " + Constants.GRADING_SCALES_FILENAME + "\n" +
+        "  --output FILE                Write results to FILE instead of standard output\n" +
+        "  --metrics                    Print operation timings as CSV to standard error at the end";
+    
+    private static final String HEADER = "student,courses,units,gpa,cgpa,classification,status";
+    private static final String STATUS_OK = "OK";
+    
+    private BatchMode() {
+        throw new UnsupportedOperationException("BatchMode class cannot be instantiated");
+    }
+    
+    /**
+     * @return Whether the command line asks for batch mode
+     */
+    public static boolean isRequested(String[] args) {
+        for (String arg : args) {
+            if (BATCH_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+    
+    /**
+     * Runs one batch
+     * @param args Command line; a {@value #BATCH_FLAG} argument is ignored
+     * @param stdin Input used for "-" or when no file is given
+     * @param stdout Output used when no --output file is given; flushed but not closed
+     * @param stderr Receives usage and error messages
+     * @return Exit status
+     */
+    public static int run(String[] args, InputStream stdin, OutputStream stdout, PrintStream stderr) {
+        Options options;
+        try {
+            // The prior CGPA is range-checked on the scale in use
+            GradingScaleConfig.loadConfigured();
+            String gradingScale = Options.gradingScale(args);
+            if (gradingScale != null) {
+                GradingScales.use(gradingScale);
+            }
+            options = Options.parse(args);
+        } catch (IOException e) {
+            stderr.println("Grading scales: " + e.getMessage());
+            return EXIT_ERROR;
+        } catch (IllegalArgumentException e) {
+            stderr.println(e.getMessage());
+            stderr.println(USAGE);
+            return EXIT_ERROR;
+        }
+        if (options.help) {
+            stderr.println(USAGE);
+            return EXIT_OK;
+        }
+        
+        try {
+            int status;
+            if (options.output == null) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8));
+                status = process(options, stdin, writer);
+                writer.flush();
+            } else {
+                try (Writer writer = Files.newBufferedWriter(options.output, StandardCharsets.UTF_8)) {
+                    status = process(options, stdin, writer);
+                }
+            }
+            if (options.metrics) {
+                stderr.print(Metrics.export());
+            }
+            return status;
+        } catch (NoSuchFileException e) {
+            stderr.println("File not found: " + e.getFile());
+        } catch (IOException e) {
+            stderr.println("Batch failed: " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            stderr.println("Batch failed: " + e.getCause().getMessage());
+        }
+        return EXIT_ERROR;
+    }
+    
+    private static int process(Options options, InputStream stdin, Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        
+        ResultWriter results = new ResultWriter(writer, options.priorCGPA, options.priorUnits);
+        TranscriptImporter importer = new TranscriptImporter();
+        long students = 0;
+        long validStudents = 0;
+        
+        for (String input : options.inputs) {
+            ImportSummary summary = "-".equals(input)
+                ? importer.importStream(stdin, results)
+                : importer.importFile(Paths.get(input), results);
+            students += summary.getStudents();
+            validStudents += summary.getValidStudents();
+        }
+        return validStudents == students ? EXIT_OK : EXIT_INVALID_STUDENTS;
+    }
+    
+    /**
+     * Formats each imported student as one CSV row.
+     * Rows are built in a reused StringBuilder; GPAs and CGPAs are exact hundredths.
+     */
+    private static final class ResultWriter implements StudentAggregateSink {
+        private final Writer writer;
+        private final long priorCGPA;
+        private final int priorUnits;
+        private final ClassificationScheme scheme = Constants.getClassificationScheme();
+        private final StringBuilder row = new StringBuilder(128);
+        
+        ResultWriter(Writer writer, long priorCGPA, int priorUnits) {
+            this.writer = writer;
+            this.priorCGPA = priorCGPA;
+            this.priorUnits = priorUnits;
+        }
+        
+        @Override
+        public void accept(StudentAggregate student) {
+            row.setLength(0);
+            appendCsvField(row, student.getStudentId());
+            row.append(',').append(student.getCourseCount());
+            row.append(',').append(student.getTotalUnits());
+            
+            if (student.isValid()) {
+                int cgpa = CGPAEngine.calculateCGPA(student.getTotalCreditHundredths(), student.getTotalUnits(),
+                                                    priorCGPA, priorUnits);
+                Decimals.appendFixed(row.append(','), student.getGPAHundredths());
+                Decimals.appendFixed(row.append(','), cgpa);
+                row.append(',').append(scheme.getLabel(scheme.classifyHundredths(cgpa)));
+                row.append(',').append(STATUS_OK);
+            } else {
+                row.append(",,,,");
+                appendProblems(row, student);
+            }
+            row.append('\n');
+            
+            try {
+                writer.append(row);
+            } catch (IOException e) {
+                // The sink interface cannot throw; unwrapped again in run()
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        // Semicolon-separated, so the status stays a single CSV field
+        private static void appendProblems(StringBuilder row, StudentAggregate student) {
+            int start = row.length();
+            appendProblem(row, start, student.getMalformedRows(), "malformed row");
+            appendProblem(row, start, student.getMissingNameRows(), "missing course name");
+            appendProblem(row, start, student.getInvalidUnitRows(), "invalid units");
+            appendProblem(row, start, student.getInvalidGradeRows(), "invalid grade");
+            appendProblem(row, start, student.getDuplicateCourseRows(), "duplicate course");
+            if (student.getCourseCount() > 0 && !student.hasValidSemesterLoad()) {
+                separate(row, start);
+                row.append(student.getTotalUnits()).append(" units, need ")
+                   .append(Constants.MIN_SEMESTER_UNITS).append('-').append(Constants.MAX_SEMESTER_UNITS);
+            }
+        }
+        
+        private static void appendProblem(StringBuilder row, int start, int count, String problem) {
+            if (count > 0) {
+                separate(row, start);
+                row.append(count).append(' ').append(problem);
+            }
+        }
+        
+        private static void separate(StringBuilder row, int start) {
+            if (row.length() > start) {
+                row.append("; ");
+            }
+        }
+        
+        // Quotes ids containing commas, quotes or line breaks
+        private static void appendCsvField(StringBuilder row, String value) {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                row.append(value);
+                return;
+            }
+            row.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        }
+    }
+    
+    /**
+     * Parsed command line
+     */
+    private static final class Options {
+        private final List<String> inputs = new ArrayList<>();
+        private Path output;
+        private long priorCGPA;
+        private int priorUnits;
+        private boolean help;
+        private boolean metrics;
+        
+        static Options parse(String[] args) {
+            Options options = new Options();
+            String priorCGPA = null;
+            String priorUnits = null;
+            
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case BATCH_FLAG:
+                        break;
+                    case "--prior-cgpa":
+                        priorCGPA = value(args, ++i, arg);
+                        break;
+                    case "--prior-units":
+                        priorUnits = value(args, ++i, arg);
+                        break;
+                    case "--grading-scale":
+                        value(args, ++i, arg); // Applied before parsing; see gradingScale()
+                        break;
+                    case "--output":
+                    case "-o":
+                        options.output = Paths.get(value(args, ++i, arg));
+                        break;
+                    case "--metrics":
+                        options.metrics = true;
+                        break;
+                    case "--help":
+                    case "-h":
+                        options.help = true;
+                        break;
+                    default:
+                        if (arg.startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        }
+                        options.inputs.add(arg);
+                }
+            }
+            
+            if ((priorCGPA == null) != (priorUnits == null)) {
+                throw new IllegalArgumentException(priorCGPA != null
+                    ? Constants.ERROR_INCONSISTENT_ACADEMIC_DATA
+                    : "Cumulative units provided but current CGPA missing");
+            }
+            if (priorCGPA != null) {
+                options.priorCGPA = parsePriorCGPA(priorCGPA);
+                options.priorUnits = parsePriorUnits(priorUnits);
+            }
+            if (options.inputs.isEmpty()) {
+                options.inputs.add("-");
+            }
+            return options;
+        }
+        
+        // The --grading-scale value, or null
+        static String gradingScale(String[] args) {
+            for (int i = 0; i < args.length - 1; i++) {
+                if ("--grading-scale".equals(args[i])) {
+                    return args[i + 1];
+                }
+            }
+            return null;
+        }
+        
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            return args[index];
+        }
+        
+        // In hundredths; extra decimals are rounded like calculated CGPAs
+        private static long parsePriorCGPA(String text) {
+            try {
+                long cgpa = Decimals.parseHundredths(text);
+                if (Decimals.toDouble(cgpa) >= Constants.MIN_CGPA && Decimals.toDouble(cgpa) <= Constants.getMaxCGPA()) {
+                    return cgpa;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            throw new IllegalArgumentException(Constants.getInvalidCGPAMessage() + " (provided: " + text + ")");
+        }
+        
+        private static int parsePriorUnits(String text) {
+            try {
+                int units = Integer.parseInt(text);
+                if (units >= 0) {
+                    return units;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            throw new IllegalArgumentException("Cumulative units must be a whole number of at least 0 (provided: " + text + ")");
+        }
+    }
+}
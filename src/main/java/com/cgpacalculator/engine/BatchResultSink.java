@@ -0,0 +1,19 @@
+package com.cgpacalculator.engine;
+
+/**
+ * Receives per-student results from {@link CGPAEngine#calculateBatch}.
+ * Values are passed as primitives so that bulk runs allocate nothing per student;
+ * GPAs and CGPAs are in whole hundredths, e.g. 449 for 4.49.
+ */
+@FunctionalInterface
+public interface BatchResultSink {
+    
+    /**
+     * @param student Index of the student in the batch (0-based)
+     * @param currentGPA GPA for the student's semester courses, in hundredths
+     * @param cgpa Updated CGPA including the prior record, in hundredths
+     * @param semesterUnits Units taken this semester
+     * @param totalUnits Prior cumulative units plus semester units
+     */
+    void accept(int student, int currentGPA, int cgpa, int semesterUnits, int totalUnits);
+}
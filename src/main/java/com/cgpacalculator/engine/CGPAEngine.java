@@ -0,0 +1,213 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.metrics.CalculationEvent;
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * UI-free GPA/CGPA calculation engine.
+ * Holds the arithmetic that used to live in the Swing calculation handler so it
+ * can be reused for single students and for bulk registry exports.
+ * Credit points are summed in whole hundredths in {@code long} accumulators and each GPA
+ * and CGPA is a single rounded integer division; see {@link Decimals}.
+ */
+public final class CGPAEngine {
+    
+    // Students summed per kernel call; the scratch arrays stay in L1
+    private static final int KERNEL_BLOCK_STUDENTS = 256;
+    
+    private CGPAEngine() {
+        throw new UnsupportedOperationException("CGPAEngine class cannot be instantiated");
+    }
+    
+    /**
+     * Calculates GPA and CGPA for one student using the raw text inputs of the UI
+     * @param courses Courses taken this semester
+     * @param currentCGPA Current CGPA input (empty for new students)
+     * @param cumulativeUnits Cumulative units input (empty for new students)
+     * @return Calculation result
+     * @throws NumberFormatException if a non-empty input is not a number
+     */
+    public static CGPAResult calculate(List<Course> courses, String currentCGPA, String cumulativeUnits) {
+        boolean hasCGPA = currentCGPA != null && !currentCGPA.trim().isEmpty();
+        boolean hasUnits = cumulativeUnits != null && !cumulativeUnits.trim().isEmpty();
+        
+        if (!hasCGPA || !hasUnits) {
+            // New student - CGPA equals current GPA
+            return calculate(courses, 0.0, 0);
+        }
+        
+        int priorUnits = Integer.parseInt(cumulativeUnits.trim());
+        return calculateFromCredit(courses, Decimals.parseHundredths(currentCGPA) * priorUnits, priorUnits);
+    }
+    
+    /**
+     * Calculates GPA and CGPA for one student
+     * @param courses Courses taken this semester
+     * @param priorCGPA CGPA before this semester (ignored when priorUnits is 0)
+     * @param priorUnits Cumulative units before this semester
+     * @return Calculation result
+     */
+    public static CGPAResult calculate(List<Course> courses, double priorCGPA, int priorUnits) {
+        return calculateFromCredit(courses, Decimals.toHundredths(priorCGPA) * priorUnits, priorUnits);
+    }
+    
+    /**
+     * Calculates GPA and CGPA for one student from the exact credit of the prior record, so a
+     * history of semesters is not rounded to a CGPA first and rounded again here
+     * @param courses Courses taken this semester
+     * @param priorCreditHundredths Sum of units times grade points before this semester, in hundredths
+     *        (ignored when priorUnits is 0)
+     * @param priorUnits Cumulative units before this semester
+     * @return Calculation result
+     */
+    public static CGPAResult calculateFromCredit(List<Course> courses, long priorCreditHundredths, int priorUnits) {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        long totalCredit = 0;
+        int totalUnits = 0;
+        
+        for (Course course : courses) {
+            totalCredit += course.getCreditHundredths();
+            totalUnits += course.getUnits();
+        }
+        
+        RoundingMode rounding = Decimals.getRounding();
+        int currentGPA = Decimals.average(totalCredit, totalUnits, rounding);
+        int updatedCGPA = cgpa(currentGPA, totalCredit, totalUnits, priorCreditHundredths, priorUnits, rounding);
+        event.finish(courses.size(), totalUnits, priorUnits, Decimals.toDouble(currentGPA), Decimals.toDouble(updatedCGPA));
+        
+        return new CGPAResult(Decimals.toDouble(currentGPA), Decimals.toDouble(updatedCGPA), Constants.getClassificationScheme(),
+                              courses.size(), totalUnits, priorUnits + totalUnits);
+    }
+    
+    /**
+     * Calculates GPA and CGPA for many students stored in flat arrays.
+     * Courses of student {@code s} occupy indices {@code studentOffsets[s]} (inclusive)
+     * to {@code studentOffsets[s + 1]} (exclusive) of {@code units} and {@code grades},
+     * so no {@link Course} objects are created.
+     * @param studentOffsets Course offsets per student; length is student count + 1
+     * @param units Units per course row
+     * @param grades Letter grade per course row
+     * @param priorCGPA CGPA before this semester per student, or null for new students
+     * @param priorUnits Cumulative units before this semester per student, or null for new students
+     * @param sink Receives one callback per student, in order
+     */
+    public static void calculateBatch(int[] studentOffsets, int[] units, char[] grades,
+                                      double[] priorCGPA, int[] priorUnits, BatchResultSink sink) {
+        long start = Metrics.BATCH_CALCULATION.start();
+        GradingScale scale = GradingScales.current();
+        RoundingMode rounding = Decimals.getRounding();
+        int studentCount = studentOffsets.length - 1;
+        
+        for (int student = 0; student < studentCount; student++) {
+            long totalCredit = 0;
+            int totalUnits = 0;
+            
+            for (int row = studentOffsets[student], end = studentOffsets[student + 1]; row < end; row++) {
+                totalCredit += scale.hundredthsOf(scale.ordinalOf(grades[row])) * units[row];
+                totalUnits += units[row];
+            }
+            
+            long previousCGPA = priorCGPA == null ? 0 : Decimals.toHundredths(priorCGPA[student]);
+            int previousUnits = priorUnits == null ? 0 : priorUnits[student];
+            
+            int currentGPA = Decimals.average(totalCredit, totalUnits, rounding);
+            int updatedCGPA = cgpa(currentGPA, totalCredit, totalUnits, previousCGPA * previousUnits, previousUnits, rounding);
+            
+            sink.accept(student, currentGPA, updatedCGPA, totalUnits, previousUnits + totalUnits);
+        }
+        Metrics.BATCH_CALCULATION.stop(start, studentCount);
+    }
+    
+    /**
+     * Calculates GPA and CGPA for every student of a columnar store.
+     * Reads the primitive columns directly; nothing is allocated per row or per student.
+     * @param store Course rows grouped by student
+     * @param sink Receives one callback per student, in order
+     */
+    public static void calculateBatch(CourseStore store, BatchResultSink sink) {
+        long start = Metrics.BATCH_CALCULATION.start();
+        calculateBatch(store, 0, store.getStudentCount(), sink);
+        Metrics.BATCH_CALCULATION.stop(start, store.getStudentCount());
+    }
+    
+    /**
+     * Calculates GPA and CGPA for a contiguous range of students of a columnar store
+     * with {@link CohortKernels#preferred()}.
+     * Used by parallel callers that split a cohort into partitions.
+     * @param store Course rows grouped by student
+     * @param fromStudent First student index (inclusive)
+     * @param toStudent Last student index (exclusive)
+     * @param sink Receives one callback per student, in order
+     */
+    public static void calculateBatch(CourseStore store, int fromStudent, int toStudent, BatchResultSink sink) {
+        calculateBatch(store, fromStudent, toStudent, CohortKernels.preferred(), sink);
+    }
+    
+    /**
+     * Calculates GPA and CGPA for a contiguous range of students of a columnar store.
+     * The kernel sums a block of students at a time into small scratch arrays; rounding and
+     * the prior records are then applied here, so every kernel gives the same results.
+     * @param store Course rows grouped by student
+     * @param fromStudent First student index (inclusive)
+     * @param toStudent Last student index (exclusive)
+     * @param kernel Sums the course rows
+     * @param sink Receives one callback per student, in order
+     */
+    public static void calculateBatch(CourseStore store, int fromStudent, int toStudent, 
+                                      CohortKernel kernel, BatchResultSink sink) {
+        RoundingMode rounding = Decimals.getRounding();
+        int blockSize = Math.min(KERNEL_BLOCK_STUDENTS, toStudent - fromStudent);
+        long[] blockCredit = new long[Math.max(blockSize, 0)];
+        int[] blockUnits = new int[blockCredit.length];
+        
+        for (int blockStart = fromStudent; blockStart < toStudent; blockStart += blockSize) {
+            int blockEnd = Math.min(blockStart + blockSize, toStudent);
+            kernel.sum(store, blockStart, blockEnd, blockCredit, blockUnits);
+            
+            for (int student = blockStart; student < blockEnd; student++) {
+                long totalCredit = blockCredit[student - blockStart];
+                int totalUnits = blockUnits[student - blockStart];
+                int previousUnits = store.getPriorUnits(student);
+                int currentGPA = Decimals.average(totalCredit, totalUnits, rounding);
+                int updatedCGPA = cgpa(currentGPA, totalCredit, totalUnits, (long) store.getPriorCGPAHundredths(student) * previousUnits,
+                                       previousUnits, rounding);
+                
+                sink.accept(student, currentGPA, updatedCGPA, totalUnits, previousUnits + totalUnits);
+            }
+        }
+    }
+    
+    /**
+     * CGPA from a semester's totals on top of a prior record, without building courses
+     * @param semesterCreditHundredths Sum of units times grade points for the semester, in hundredths
+     * @param semesterUnits Units taken this semester
+     * @param priorCGPAHundredths CGPA before this semester in hundredths (ignored when priorUnits is 0)
+     * @param priorUnits Cumulative units before this semester
+     * @return Updated CGPA in hundredths, rounded with {@link Decimals#getRounding()}
+     */
+    public static int calculateCGPA(long semesterCreditHundredths, int semesterUnits, long priorCGPAHundredths, int priorUnits) {
+        RoundingMode rounding = Decimals.getRounding();
+        return cgpa(Decimals.average(semesterCreditHundredths, semesterUnits, rounding), semesterCreditHundredths,
+                    semesterUnits, priorCGPAHundredths * priorUnits, priorUnits, rounding);
+    }
+    
+    // The prior record enters as exact credit (a typed CGPA times its units, or the summed
+    // credit of earlier semesters), so the semester is folded in with one rounding
+    private static int cgpa(int currentGPA, long totalCredit, int totalUnits,
+                            long priorCredit, int priorUnits, RoundingMode rounding) {
+        if (priorUnits <= 0) {
+            return currentGPA;
+        }
+        
+        return Decimals.average(priorCredit + totalCredit, priorUnits + totalUnits, rounding);
+    }
+}
@@ -0,0 +1,78 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.model.ClassificationScheme;
+
+/**
+ * Immutable outcome of a single student's GPA/CGPA calculation
+ */
+public final class CGPAResult {
+    
+    private final double currentGPA;
+    private final double cgpa;
+    private final ClassificationScheme classificationScheme;
+    private final int classification;
+    private final int courseCount;
+    private final int semesterUnits;
+    private final int totalUnits;
+    
+    public CGPAResult(double currentGPA, double cgpa, ClassificationScheme classificationScheme,
+                      int courseCount, int semesterUnits, int totalUnits) {
+        this.currentGPA = currentGPA;
+        this.cgpa = cgpa;
+        this.classificationScheme = classificationScheme;
+        this.classification = classificationScheme.classify(cgpa);
+        this.courseCount = courseCount;
+        this.semesterUnits = semesterUnits;
+        this.totalUnits = totalUnits;
+    }
+    
+    /**
+     * GPA for the courses of the current semester only
+     */
+    public double getCurrentGPA() {
+        return currentGPA;
+    }
+    
+    /**
+     * CGPA after folding the current semester into the prior record
+     */
+    public double getCGPA() {
+        return cgpa;
+    }
+    
+    /**
+     * Class ordinal of the CGPA in {@link #getClassificationScheme()}, best first
+     */
+    public int getClassification() {
+        return classification;
+    }
+    
+    public ClassificationScheme getClassificationScheme() {
+        return classificationScheme;
+    }
+    
+    public String getClassificationLabel() {
+        return classificationScheme.getLabel(classification);
+    }
+    
+    public int getCourseCount() {
+        return courseCount;
+    }
+    
+    public int getSemesterUnits() {
+        return semesterUnits;
+    }
+    
+    /**
+     * Prior cumulative units plus the units of the current semester
+     */
+    public int getTotalUnits() {
+        return totalUnits;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("CGPAResult{gpa=%.2f, cgpa=%.2f, classification='%s', courses=%d, semesterUnits=%d, totalUnits=%d}",
+                           currentGPA, cgpa, getClassificationLabel(), courseCount, semesterUnits, totalUnits);
+    }
+}
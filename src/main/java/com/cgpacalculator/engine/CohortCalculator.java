@@ -0,0 +1,109 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.CourseStore;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Calculates GPA/CGPA for a whole cohort in parallel.
+ * The store is split into contiguous student partitions with fork/join; each
+ * partition writes its own slice of the result arrays and builds its own
+ * {@link CohortSummary}, and summaries are merged on the way back up.
+ * Partitions never share mutable state, so the work scales with the cores of the pool.
+ * Within a partition the course rows are summed by a {@link CohortKernel}.
+ */
+public class CohortCalculator {
+    
+    // Smallest partition worth forking; keeps task overhead well below the per-student work
+    private static final int MIN_PARTITION_STUDENTS = 1024;
+    
+    // Partitions per worker thread, so uneven course counts still balance
+    private static final int PARTITIONS_PER_THREAD = 8;
+    
+    private final ForkJoinPool pool;
+    private final CohortKernel kernel;
+    
+    /**
+     * Uses the common fork/join pool and {@link CohortKernels#preferred()}
+     */
+    public CohortCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public CohortCalculator(ForkJoinPool pool) {
+        this(pool, CohortKernels.preferred());
+    }
+    
+    public CohortCalculator(ForkJoinPool pool, CohortKernel kernel) {
+        this.pool = pool;
+        this.kernel = kernel;
+    }
+    
+    /**
+     * Calculates every student of the store
+     * @param store Course rows grouped by student
+     * @return Per-student results and the merged cohort summary
+     */
+    public CohortResult calculate(CourseStore store) {
+        long start = Metrics.COHORT_CALCULATION.start();
+        int studentCount = store.getStudentCount();
+        int[] gpa = new int[studentCount];
+        int[] cgpa = new int[studentCount];
+        int[] totalUnits = new int[studentCount];
+        
+        int threshold = Math.max(MIN_PARTITION_STUDENTS, 
+            studentCount / (pool.getParallelism() * PARTITIONS_PER_THREAD));
+        CohortSummary summary = pool.invoke(
+            new PartitionTask(store, kernel, 0, studentCount, threshold, gpa, cgpa, totalUnits));
+        Metrics.COHORT_CALCULATION.stop(start, studentCount);
+        
+        return new CohortResult(gpa, cgpa, totalUnits, summary);
+    }
+    
+    private static final class PartitionTask extends RecursiveTask<CohortSummary> {
+        
+        private final CourseStore store;
+        private final CohortKernel kernel;
+        private final int fromStudent;
+        private final int toStudent;
+        private final int threshold;
+        private final int[] gpa;
+        private final int[] cgpa;
+        private final int[] totalUnits;
+        
+        PartitionTask(CourseStore store, CohortKernel kernel, int fromStudent, int toStudent, int threshold,
+                      int[] gpa, int[] cgpa, int[] totalUnits) {
+            this.store = store;
+            this.kernel = kernel;
+            this.fromStudent = fromStudent;
+            this.toStudent = toStudent;
+            this.threshold = threshold;
+            this.gpa = gpa;
+            this.cgpa = cgpa;
+            this.totalUnits = totalUnits;
+        }
+        
+        @Override
+        protected CohortSummary compute() {
+            if (toStudent - fromStudent <= threshold) {
+                CohortSummary summary = new CohortSummary(store.getGradingScale().getClassificationScheme());
+                CGPAEngine.calculateBatch(store, fromStudent, toStudent, kernel,
+                    (student, currentGPA, updatedCGPA, semesterUnits, cumulativeUnits) -> {
+                        gpa[student] = currentGPA;
+                        cgpa[student] = updatedCGPA;
+                        totalUnits[student] = cumulativeUnits;
+                        summary.accept(updatedCGPA);
+                    });
+                return summary;
+            }
+            
+            int middle = (fromStudent + toStudent) >>> 1;
+            PartitionTask left = new PartitionTask(store, kernel, fromStudent, middle, threshold, gpa, cgpa, totalUnits);
+            PartitionTask right = new PartitionTask(store, kernel, middle, toStudent, threshold, gpa, cgpa, totalUnits);
+            left.fork();
+            CohortSummary summary = right.compute();
+            return summary.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.model.CourseStore;
+
+/**
+ * Inner loop of the columnar batch calculation: the units and the units × grade points
+ * dot product of each student's course rows.
+ * Rounding, prior records and result delivery stay in {@link CGPAEngine}, so every kernel
+ * produces the same GPAs and CGPAs. {@link CohortKernels} picks the implementation.
+ */
+public interface CohortKernel {
+    
+    /**
+     * Sums the course rows of a contiguous range of students
+     * @param store Course rows grouped by student
+     * @param fromStudent First student index (inclusive)
+     * @param toStudent Last student index (exclusive)
+     * @param creditHundredths Receives each student's sum of units times grade points, in
+     *        hundredths, at index {@code student - fromStudent}; invalid grades count 0 points
+     * @param units Receives each student's units at the same index
+     */
+    void sum(CourseStore store, int fromStudent, int toStudent, long[] creditHundredths, int[] units);
+}
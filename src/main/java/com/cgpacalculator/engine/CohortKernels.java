@@ -0,0 +1,87 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.model.GradingScale;
+
+/**
+ * The cohort kernels available in this JVM.
+ * The Vector API kernel in {@code com.cgpacalculator.simd} is used when the JVM was started
+ * with {@code --add-modules jdk.incubator.vector} and the CPU has vectors of at least eight
+ * ints (AVX2, AVX-512); otherwise, or with {@code -Dcgpacalculator.vectorKernel=false}, the
+ * scalar loop is. The vector kernel is only reached through reflection, so the rest of the
+ * calculator neither compiles nor runs against the incubator module.
+ */
+public final class CohortKernels {
+    
+    /** System property that turns the vector kernel off when set to false */
+    public static final String VECTOR_KERNEL_PROPERTY = "cgpacalculator.vectorKernel";
+    
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS = "com.cgpacalculator.simd.VectorCohortKernel";
+    
+    /** Plain loop over the rows; always available */
+    public static final CohortKernel SCALAR = new ScalarKernel();
+    
+    private static final CohortKernel VECTOR = loadVectorKernel();
+    
+    private static final CohortKernel PREFERRED =
+        VECTOR != null && !"false".equalsIgnoreCase(System.getProperty(VECTOR_KERNEL_PROPERTY)) ? VECTOR : SCALAR;
+    
+    private CohortKernels() {
+        throw new UnsupportedOperationException("CohortKernels class cannot be instantiated");
+    }
+    
+    /**
+     * Kernel used by {@link CGPAEngine#calculateBatch(CourseStore, BatchResultSink)} and
+     * {@link CohortCalculator} unless another is given
+     */
+    public static CohortKernel preferred() {
+        return PREFERRED;
+    }
+    
+    /**
+     * @return The Vector API kernel, or null when this JVM or CPU cannot run it
+     */
+    public static CohortKernel vector() {
+        return VECTOR;
+    }
+    
+    // Instantiated reflectively: loading the class without the module would fail with a
+    // NoClassDefFoundError, and the kernel itself refuses vectors too narrow to pay off
+    private static CohortKernel loadVectorKernel() {
+        if (!ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return null;
+        }
+        try {
+            return (CohortKernel) Class.forName(VECTOR_KERNEL_CLASS).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+    
+    private static final class ScalarKernel implements CohortKernel {
+        
+        @Override
+        public void sum(CourseStore store, int fromStudent, int toStudent, long[] creditHundredths, int[] units) {
+            GradingScale scale = store.getGradingScale();
+            for (int student = fromStudent; student < toStudent; student++) {
+                long totalCredit = 0;
+                int totalUnits = 0;
+                
+                for (int row = store.getCourseStart(student), end = store.getCourseEnd(student); row < end; row++) {
+                    int rowUnits = store.getUnits(row);
+                    totalCredit += scale.hundredthsOf(store.getGradeOrdinal(row)) * rowUnits;
+                    totalUnits += rowUnits;
+                }
+                
+                creditHundredths[student - fromStudent] = totalCredit;
+                units[student - fromStudent] = totalUnits;
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return "scalar";
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.utils.Decimals;
+
+/**
+ * Per-student GPA/CGPA arrays plus the merged summary of a cohort run.
+ * Arrays are indexed by student, in {@link com.cgpacalculator.model.CourseStore} order,
+ * and hold GPAs and CGPAs in whole hundredths.
+ */
+public final class CohortResult {
+    
+    private final int[] gpa;
+    private final int[] cgpa;
+    private final int[] totalUnits;
+    private final CohortSummary summary;
+    
+    CohortResult(int[] gpa, int[] cgpa, int[] totalUnits, CohortSummary summary) {
+        this.gpa = gpa;
+        this.cgpa = cgpa;
+        this.totalUnits = totalUnits;
+        this.summary = summary;
+    }
+    
+    public int getStudentCount() {
+        return gpa.length;
+    }
+    
+    public double getGPA(int student) {
+        return Decimals.toDouble(gpa[student]);
+    }
+    
+    public double getCGPA(int student) {
+        return Decimals.toDouble(cgpa[student]);
+    }
+    
+    public int getCGPAHundredths(int student) {
+        return cgpa[student];
+    }
+    
+    public int getTotalUnits(int student) {
+        return totalUnits[student];
+    }
+    
+    public CohortSummary getSummary() {
+        return summary;
+    }
+}
@@ -0,0 +1,117 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+
+/**
+ * Mergeable cohort statistics: classification histogram, mean, minimum and maximum CGPA.
+ * Each partition fills its own summary; partial summaries are combined with {@link #merge}.
+ * CGPAs are taken in whole hundredths and summed in a {@code long}, so merged totals are exact
+ * and do not depend on how the cohort was partitioned.
+ * The histogram is indexed by class ordinal of one {@link ClassificationScheme}.
+ * Not thread-safe.
+ */
+public final class CohortSummary {
+    
+    private final ClassificationScheme classificationScheme;
+    private final long[] classificationCounts;
+    private long studentCount;
+    private long cgpaSum;
+    private int minCGPA = Integer.MAX_VALUE;
+    private int maxCGPA = Integer.MIN_VALUE;
+    
+    /**
+     * Summary classified with the scheme of the grading scale in use
+     */
+    public CohortSummary() {
+        this(Constants.getClassificationScheme());
+    }
+    
+    public CohortSummary(ClassificationScheme classificationScheme) {
+        this.classificationScheme = classificationScheme;
+        this.classificationCounts = new long[classificationScheme.count()];
+    }
+    
+    /**
+     * Records one student's CGPA
+     * @param cgpa CGPA in hundredths, e.g. 449 for 4.49
+     */
+    public void accept(int cgpa) {
+        classificationCounts[classificationScheme.classifyHundredths(cgpa)]++;
+        studentCount++;
+        cgpaSum += cgpa;
+        minCGPA = Math.min(minCGPA, cgpa);
+        maxCGPA = Math.max(maxCGPA, cgpa);
+    }
+    
+    /**
+     * Folds another partition's statistics into this one
+     * @return this summary
+     */
+    public CohortSummary merge(CohortSummary other) {
+        if (other.classificationScheme != classificationScheme) {
+            throw new IllegalArgumentException("Cannot merge summaries of classification schemes "
+                + classificationScheme.getName() + " and " + other.classificationScheme.getName());
+        }
+        for (int i = 0; i < classificationCounts.length; i++) {
+            classificationCounts[i] += other.classificationCounts[i];
+        }
+        studentCount += other.studentCount;
+        cgpaSum += other.cgpaSum;
+        minCGPA = Math.min(minCGPA, other.minCGPA);
+        maxCGPA = Math.max(maxCGPA, other.maxCGPA);
+        return this;
+    }
+    
+    public long getStudentCount() {
+        return studentCount;
+    }
+    
+    public double getMeanCGPA() {
+        return studentCount == 0 ? 0.0 : (double) cgpaSum / studentCount / Decimals.HUNDREDTHS;
+    }
+    
+    /**
+     * @return Lowest CGPA, or NaN for an empty cohort
+     */
+    public double getMinCGPA() {
+        return studentCount == 0 ? Double.NaN : Decimals.toDouble(minCGPA);
+    }
+    
+    /**
+     * @return Highest CGPA, or NaN for an empty cohort
+     */
+    public double getMaxCGPA() {
+        return studentCount == 0 ? Double.NaN : Decimals.toDouble(maxCGPA);
+    }
+    
+    /**
+     * Number of students in the class with the given ordinal
+     */
+    public long getClassificationCount(int classification) {
+        return classificationCounts[classification];
+    }
+    
+    /**
+     * Scheme whose class ordinals index {@link #getClassificationCounts()}
+     */
+    public ClassificationScheme getClassificationScheme() {
+        return classificationScheme;
+    }
+    
+    public long[] getClassificationCounts() {
+        return classificationCounts.clone();
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CohortSummary{");
+        builder.append(String.format("students=%d, mean=%.2f, min=%.2f, max=%.2f",
+                                     studentCount, getMeanCGPA(), getMinCGPA(), getMaxCGPA()));
+        for (int i = 0; i < classificationCounts.length; i++) {
+            builder.append(", ").append(classificationScheme.getLabel(i)).append('=').append(classificationCounts[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
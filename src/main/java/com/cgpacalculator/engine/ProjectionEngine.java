@@ -0,0 +1,265 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo projection of the CGPA after a set of courses whose grades are not yet known.
+ * Each simulated semester draws one grade per course from its probability estimate and adds
+ * up the credit points. Per course, the grade is found by scanning 32-bit cumulative
+ * thresholds, and a credit table turns it into whole credit steps, so a trial is a few
+ * integer operations per course with no allocation. Trials only count how often each
+ * credit total occurs; {@link ProjectionResult} derives the CGPA distribution and the
+ * classification histogram from those counts afterwards.
+ * Trials are split into fork/join partitions, and each partition gets its own
+ * {@link SplittableRandom} from a split tree that depends only on the trial count. The
+ * counts for a given seed and trial count therefore do not depend on scheduling or on the
+ * number of threads.
+ */
+public class ProjectionEngine {
+    
+    // Trials per leaf partition. Fixed rather than derived from the pool's parallelism, since
+    // the split tree, and so every partition's random stream, follows from it; 2 million
+    // trials make 64 leaves, enough to balance a typical machine
+    private static final long PARTITION_TRIALS = 1 << 15;
+    
+    // Cumulative thresholds are fractions of 2^32 so one 64-bit draw serves two courses
+    private static final long DRAW_RANGE = 1L << 32;
+    
+    private final ForkJoinPool pool;
+    
+    /**
+     * Uses the common fork/join pool
+     */
+    public ProjectionEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public ProjectionEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Simulates the given courses on the grading scale in use
+     * @param priorCGPA CGPA before these courses (ignored when priorUnits is 0)
+     * @param priorUnits Units before these courses
+     * @param units Units per course
+     * @param gradeProbabilities Per course, one weight per grade ordinal; weights are normalised
+     * @param trials Number of simulated semesters
+     * @param seed Random seed; equal seeds give equal results
+     * @return Projected CGPA distribution
+     * @throws IllegalArgumentException if the units or probabilities are invalid
+     */
+    public ProjectionResult project(double priorCGPA, int priorUnits, int[] units, double[][] gradeProbabilities,
+                                    long trials, long seed) {
+        return projectFromCredit(priorUnits > 0 ? Decimals.toHundredths(priorCGPA) * priorUnits : 0, priorUnits,
+                                 units, gradeProbabilities, trials, seed);
+    }
+    
+    /**
+     * Simulates the given courses on top of the exact credit of the prior record, as
+     * {@link #project} does from a CGPA
+     * @param priorCreditHundredths Sum of units times grade points before these courses, in
+     *        hundredths (ignored when priorUnits is 0)
+     * @param priorUnits Units before these courses
+     */
+    public ProjectionResult projectFromCredit(long priorCreditHundredths, int priorUnits, int[] units,
+                                              double[][] gradeProbabilities, long trials, long seed) {
+        int courseCount = units.length;
+        if (gradeProbabilities.length != courseCount) {
+            throw new IllegalArgumentException("Expected " + courseCount + " probability rows, got " + gradeProbabilities.length);
+        }
+        if (trials <= 0) {
+            throw new IllegalArgumentException("trials must be positive: " + trials);
+        }
+        
+        GradingScale scale = GradingScales.current();
+        int grades = scale.count();
+        long[] thresholds = new long[courseCount * grades];
+        int[] creditHundredths = new int[courseCount * grades];
+        int plannedUnits = 0;
+        for (int course = 0; course < courseCount; course++) {
+            if (units[course] < Constants.MIN_COURSE_UNITS || units[course] > Constants.MAX_COURSE_UNITS) {
+                throw new IllegalArgumentException("Invalid units for course " + (course + 1) + ": " + units[course]);
+            }
+            plannedUnits += units[course];
+            fillThresholds(gradeProbabilities[course], grades, thresholds, course * grades);
+            for (int grade = 0; grade < grades; grade++) {
+                creditHundredths[course * grades + grade] = units[course] * scale.hundredthsOf(grade);
+            }
+        }
+        
+        // Count credit in the largest step that divides every outcome, so the histogram stays small
+        int step = 0;
+        for (int credit : creditHundredths) {
+            step = gcd(step, credit);
+        }
+        step = Math.max(step, 1);
+        int[] credits = new int[creditHundredths.length];
+        int maxCredit = 0;
+        for (int course = 0; course < courseCount; course++) {
+            int courseMax = 0;
+            for (int grade = 0; grade < grades; grade++) {
+                int i = course * grades + grade;
+                credits[i] = creditHundredths[i] / step;
+                courseMax = Math.max(courseMax, credits[i]);
+            }
+            maxCredit += courseMax;
+        }
+        
+        long start = Metrics.PROJECTION.start();
+        Simulation simulation = new Simulation(courseCount, grades, thresholds, credits, maxCredit);
+        long[] creditCounts = pool.invoke(new TrialTask(simulation, new SplittableRandom(seed), trials, PARTITION_TRIALS));
+        Metrics.PROJECTION.stop(start, trials);
+        
+        long priorCredit = priorUnits > 0 ? priorCreditHundredths : 0;
+        return new ProjectionResult(creditCounts, step, priorCredit, Math.max(priorUnits, 0) + plannedUnits, trials,
+                                    scale.getClassificationScheme());
+    }
+    
+    /**
+     * A probability estimate centred on an expected grade: {@code confidence} on the grade
+     * itself and the rest spread over the neighbouring grades, halving with each step away
+     * @param expected Ordinal of the most likely grade
+     * @param grades Number of grades on the scale
+     * @param confidence Probability of exactly the expected grade, between 0 and 1
+     * @return One probability per grade ordinal
+     */
+    public static double[] estimateAround(int expected, int grades, double confidence) {
+        if (confidence < 0.0 || confidence > 1.0) {
+            throw new IllegalArgumentException("confidence must be between 0 and 1: " + confidence);
+        }
+        if (expected < 0 || expected >= grades) {
+            throw new IllegalArgumentException("Invalid grade ordinal: " + expected);
+        }
+        double[] weights = new double[grades];
+        double spread = 0.0;
+        for (int grade = 0; grade < grades; grade++) {
+            int distance = Math.abs(grade - expected);
+            if (distance > 0) {
+                weights[grade] = Math.scalb(1.0, -distance);
+                spread += weights[grade];
+            }
+        }
+        for (int grade = 0; grade < grades; grade++) {
+            weights[grade] = grade == expected ? confidence
+                : spread == 0.0 ? 0.0 : weights[grade] / spread * (1.0 - confidence);
+        }
+        return weights;
+    }
+    
+    private static void fillThresholds(double[] weights, int grades, long[] thresholds, int offset) {
+        if (weights.length != grades) {
+            throw new IllegalArgumentException("Expected " + grades + " grade probabilities, got " + weights.length);
+        }
+        double total = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid grade probability: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("Grade probabilities must not all be zero");
+        }
+        
+        double cumulative = 0.0;
+        for (int grade = 0; grade < grades; grade++) {
+            cumulative += weights[grade];
+            thresholds[offset + grade] = Math.min(DRAW_RANGE, Math.round(cumulative / total * DRAW_RANGE));
+        }
+        // The last threshold lies above every draw, so the scan always stops
+        thresholds[offset + grades - 1] = DRAW_RANGE;
+    }
+    
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+    
+    /**
+     * Read-only tables shared by all partitions
+     */
+    private static final class Simulation {
+        private final int courseCount;
+        private final int grades;
+        private final long[] thresholds;
+        private final int[] credits;
+        private final int maxCredit;
+        
+        Simulation(int courseCount, int grades, long[] thresholds, int[] credits, int maxCredit) {
+            this.courseCount = courseCount;
+            this.grades = grades;
+            this.thresholds = thresholds;
+            this.credits = credits;
+            this.maxCredit = maxCredit;
+        }
+        
+        long[] run(SplittableRandom random, long trials) {
+            long[] counts = new long[maxCredit + 1];
+            long[] thresholds = this.thresholds;
+            int[] credits = this.credits;
+            int pairedCourses = courseCount & ~1;
+            
+            for (long trial = 0; trial < trials; trial++) {
+                int credit = 0;
+                for (int course = 0; course < pairedCourses; course += 2) {
+                    long bits = random.nextLong();
+                    credit += credits[draw(thresholds, course * grades, bits >>> 32)];
+                    credit += credits[draw(thresholds, (course + 1) * grades, bits & 0xFFFFFFFFL)];
+                }
+                if (pairedCourses < courseCount) {
+                    credit += credits[draw(thresholds, pairedCourses * grades, random.nextLong() >>> 32)];
+                }
+                counts[credit]++;
+            }
+            return counts;
+        }
+        
+        // Index of the first cumulative threshold above the draw
+        private static int draw(long[] thresholds, int index, long value) {
+            while (value >= thresholds[index]) {
+                index++;
+            }
+            return index;
+        }
+    }
+    
+    private static final class TrialTask extends RecursiveTask<long[]> {
+        
+        private final Simulation simulation;
+        private final SplittableRandom random;
+        private final long trials;
+        private final long threshold;
+        
+        TrialTask(Simulation simulation, SplittableRandom random, long trials, long threshold) {
+            this.simulation = simulation;
+            this.random = random;
+            this.trials = trials;
+            this.threshold = threshold;
+        }
+        
+        @Override
+        protected long[] compute() {
+            if (trials <= threshold) {
+                return simulation.run(random, trials);
+            }
+            
+            long half = trials >>> 1;
+            TrialTask left = new TrialTask(simulation, random.split(), half, threshold);
+            TrialTask right = new TrialTask(simulation, random, trials - half, threshold);
+            left.fork();
+            long[] counts = right.compute();
+            long[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+}
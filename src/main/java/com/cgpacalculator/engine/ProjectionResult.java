@@ -0,0 +1,157 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.utils.Decimals;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Immutable outcome of a {@link ProjectionEngine} run: how often each CGPA came up across the
+ * simulated semesters, summarised as classification probabilities, mean and percentiles.
+ * Classifications are class ordinals of {@link #getClassificationScheme()}. Each credit total
+ * becomes a CGPA the way the calculator makes one: an exact hundredths division, rounded once.
+ */
+public final class ProjectionResult {
+    
+    private final long[] creditCounts;
+    private final int creditStep;
+    private final long priorCredit;
+    private final RoundingMode rounding;
+    private final int totalUnits;
+    private final long trials;
+    private final ClassificationScheme classificationScheme;
+    private final long[] classificationCounts;
+    private final double meanCGPA;
+    
+    /**
+     * @param creditCounts Trials per credit total, in multiples of creditStep over the planned courses
+     * @param creditStep Credit hundredths per histogram bin
+     * @param priorCredit Credit hundredths before the planned courses
+     * @param totalUnits Units including the prior record and the planned courses
+     * @param trials Number of simulated semesters
+     * @param classificationScheme Classes of the grading scale simulated
+     */
+    ProjectionResult(long[] creditCounts, int creditStep, long priorCredit, int totalUnits, long trials,
+                     ClassificationScheme classificationScheme) {
+        this.creditCounts = creditCounts;
+        this.creditStep = creditStep;
+        this.priorCredit = priorCredit;
+        this.rounding = Decimals.getRounding();
+        this.totalUnits = totalUnits;
+        this.trials = trials;
+        this.classificationScheme = classificationScheme;
+        this.classificationCounts = new long[classificationScheme.count()];
+        
+        long cgpaSum = 0;
+        for (int bin = 0; bin < creditCounts.length; bin++) {
+            if (creditCounts[bin] > 0) {
+                int cgpa = hundredthsOf(bin);
+                classificationCounts[classificationScheme.classifyHundredths(cgpa)] += creditCounts[bin];
+                cgpaSum += cgpa * creditCounts[bin];
+            }
+        }
+        this.meanCGPA = (double) cgpaSum / trials / Decimals.HUNDREDTHS;
+    }
+    
+    public long getTrials() {
+        return trials;
+    }
+    
+    public double getMeanCGPA() {
+        return meanCGPA;
+    }
+    
+    public double getMinCGPA() {
+        for (int bin = 0; bin < creditCounts.length; bin++) {
+            if (creditCounts[bin] > 0) {
+                return cgpaOf(bin);
+            }
+        }
+        return Double.NaN;
+    }
+    
+    public double getMaxCGPA() {
+        for (int bin = creditCounts.length - 1; bin >= 0; bin--) {
+            if (creditCounts[bin] > 0) {
+                return cgpaOf(bin);
+            }
+        }
+        return Double.NaN;
+    }
+    
+    /**
+     * Lowest CGPA reached or beaten in at least the given fraction of trials, counted from the bottom
+     * @param fraction Between 0 and 1, e.g. 0.5 for the median
+     */
+    public double getPercentileCGPA(double fraction) {
+        if (fraction < 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("fraction must be between 0 and 1: " + fraction);
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * trials));
+        long seen = 0;
+        for (int bin = 0; bin < creditCounts.length; bin++) {
+            seen += creditCounts[bin];
+            if (seen >= rank) {
+                return cgpaOf(bin);
+            }
+        }
+        return getMaxCGPA();
+    }
+    
+    /**
+     * Share of trials ending with a CGPA of at least the given value
+     */
+    public double getProbabilityAtLeast(double cgpa) {
+        long count = 0;
+        for (int bin = creditCounts.length - 1; bin >= 0 && cgpaOf(bin) >= cgpa; bin--) {
+            count += creditCounts[bin];
+        }
+        return (double) count / trials;
+    }
+    
+    public ClassificationScheme getClassificationScheme() {
+        return classificationScheme;
+    }
+    
+    public long[] getClassificationCounts() {
+        return classificationCounts.clone();
+    }
+    
+    /**
+     * Share of trials per class ordinal of {@link #getClassificationScheme()}
+     */
+    public double[] getClassificationProbabilities() {
+        double[] probabilities = new double[classificationCounts.length];
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] = (double) classificationCounts[i] / trials;
+        }
+        return probabilities;
+    }
+    
+    /**
+     * Ordinal of the class with the most trials
+     */
+    public int getMostLikelyClassification() {
+        int best = 0;
+        for (int i = 1; i < classificationCounts.length; i++) {
+            if (classificationCounts[i] > classificationCounts[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+    
+    private double cgpaOf(int bin) {
+        return Decimals.toDouble(hundredthsOf(bin));
+    }
+    
+    private int hundredthsOf(int bin) {
+        return Decimals.average(priorCredit + (long) bin * creditStep, totalUnits, rounding);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ProjectionResult{trials=%d, mean=%.2f, min=%.2f, max=%.2f, classifications=%s}",
+                           trials, meanCGPA, getMinCGPA(), getMaxCGPA(), Arrays.toString(classificationCounts));
+    }
+}
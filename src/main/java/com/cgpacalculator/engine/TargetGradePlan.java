@@ -0,0 +1,119 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.model.GradingScale;
+
+/**
+ * Immutable answer of the {@link TargetGradeSolver}: whether a target CGPA can be reached
+ * with the planned courses and, if so, the minimal grade assignments that reach it
+ */
+public final class TargetGradePlan {
+    
+    public enum Status {
+        /** Reached even with the lowest grade in every planned course */
+        ALREADY_SECURED,
+        /** Reachable; see the plans */
+        REACHABLE,
+        /** Not reachable even with the highest grade in every planned course, or no units at all */
+        UNREACHABLE
+    }
+    
+    private final Status status;
+    private final GradingScale gradingScale;
+    private final double targetCGPA;
+    private final int[] plannedUnits;
+    private final int[][] gradeOrdinals;
+    private final double[] resultingCGPA;
+    private final double bestPossibleCGPA;
+    
+    TargetGradePlan(Status status, GradingScale gradingScale, double targetCGPA, int[] plannedUnits,
+                    int[][] gradeOrdinals, double[] resultingCGPA, double bestPossibleCGPA) {
+        this.status = status;
+        this.gradingScale = gradingScale;
+        this.targetCGPA = targetCGPA;
+        this.plannedUnits = plannedUnits;
+        this.gradeOrdinals = gradeOrdinals;
+        this.resultingCGPA = resultingCGPA;
+        this.bestPossibleCGPA = bestPossibleCGPA;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    /**
+     * Scale the plans' grades are on
+     */
+    public GradingScale getGradingScale() {
+        return gradingScale;
+    }
+    
+    public boolean isReachable() {
+        return status != Status.UNREACHABLE;
+    }
+    
+    public double getTargetCGPA() {
+        return targetCGPA;
+    }
+    
+    public int getPlannedCourseCount() {
+        return plannedUnits.length;
+    }
+    
+    public int getPlannedUnits(int course) {
+        return plannedUnits[course];
+    }
+    
+    /**
+     * Number of distinct minimal assignments found (0 when unreachable)
+     */
+    public int getPlanCount() {
+        return gradeOrdinals.length;
+    }
+    
+    /**
+     * Grade ordinal on the plan's scale for a planned course, in the order the courses were given
+     */
+    public int getGradeOrdinal(int plan, int course) {
+        return gradeOrdinals[plan][course];
+    }
+    
+    /**
+     * Grade label for a planned course, in the order the courses were given
+     */
+    public String getGradeLabel(int plan, int course) {
+        return gradingScale.labelOf(gradeOrdinals[plan][course]);
+    }
+    
+    /**
+     * Number of planned courses that need the grade with the given ordinal in a plan
+     */
+    public int countGrade(int plan, int gradeOrdinal) {
+        int count = 0;
+        for (int ordinal : gradeOrdinals[plan]) {
+            if (ordinal == gradeOrdinal) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * CGPA after the planned courses if a plan's grades are achieved
+     */
+    public double getResultingCGPA(int plan) {
+        return resultingCGPA[plan];
+    }
+    
+    /**
+     * CGPA with the highest grade in every planned course
+     */
+    public double getBestPossibleCGPA() {
+        return bestPossibleCGPA;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("TargetGradePlan{status=%s, target=%.2f, courses=%d, plans=%d, best=%.2f}",
+                           status, targetCGPA, plannedUnits.length, gradeOrdinals.length, bestPossibleCGPA);
+    }
+}
@@ -0,0 +1,376 @@
+package com.cgpacalculator.engine;
+
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.model.Student;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the grades needed in planned courses to reach a target CGPA, such as
+ * {@link Constants#FIRST_CLASS_MIN} or {@link Constants#THIRD_CLASS_MIN}.
+ * <p>
+ * Plans are ranked by the highest grade they need, then by the credit points they need.
+ * Credit points are whole multiples of the grading scale's point spacing, so the search
+ * is a knapsack over small integers. Assignments that need a grade above the lowest
+ * sufficient one, or more credit points than the smallest sufficient total, are dominated
+ * and never generated. Courses are grouped by units and courses with equal units are
+ * interchangeable, so a group contributes a multiset of grades and each plan is listed once
+ * rather than once per permutation. Two memoized tables drive the search: which point
+ * totals a group of a given size can score, and which credit totals the remaining groups
+ * can contribute (as bit sets). Every branch the tables rule out is pruned, so listing a
+ * plan never backtracks out of a dead end; with 40+ planned courses a solve takes well
+ * under a millisecond. Plans are listed most even first, i.e. closest to the same grade
+ * in every course. A target counts as reached when the CGPA, rounded to hundredths as the
+ * calculator rounds it, is at least the target.
+ */
+public final class TargetGradeSolver {
+    
+    public static final int DEFAULT_MAX_PLANS = 10;
+    
+    // Levels of the scale solved for last; rebuilt only when the scale in use changes
+    private static volatile Levels cachedLevels;
+    
+    private TargetGradeSolver() {
+        throw new UnsupportedOperationException("TargetGradeSolver class cannot be instantiated");
+    }
+    
+    /**
+     * Solves for a student's full history, including the current semester's courses
+     * @param student Prior record and semesters so far
+     * @param plannedUnits Units of each remaining planned course
+     * @param targetCGPA CGPA to reach after the planned courses
+     * @param maxPlans Maximum number of alternative plans to list
+     * @return Solver result
+     */
+    public static TargetGradePlan solve(Student student, int[] plannedUnits, double targetCGPA, int maxPlans) {
+        return solveCredit(student.getTotalCreditHundredths(), student.getTotalUnits(),
+                           plannedUnits, targetCGPA, maxPlans);
+    }
+    
+    /**
+     * Solves from a CGPA and the units it covers
+     * @param priorCGPA CGPA so far (ignored when priorUnits is 0)
+     * @param priorUnits Units completed so far
+     * @param plannedUnits Units of each remaining planned course
+     * @param targetCGPA CGPA to reach after the planned courses
+     * @param maxPlans Maximum number of alternative plans to list
+     * @return Solver result
+     * @throws IllegalArgumentException if a planned course has invalid units or maxPlans is not positive
+     */
+    public static TargetGradePlan solve(double priorCGPA, int priorUnits, int[] plannedUnits,
+                                        double targetCGPA, int maxPlans) {
+        return solveCredit(priorUnits > 0 ? Decimals.toHundredths(priorCGPA) * priorUnits : 0, Math.max(priorUnits, 0),
+                           plannedUnits, targetCGPA, maxPlans);
+    }
+    
+    // priorCredit: credit points so far, in hundredths
+    private static TargetGradePlan solveCredit(long priorCredit, int priorUnits, int[] plannedUnits,
+                                               double targetCGPA, int maxPlans) {
+        long start = Metrics.TARGET_GRADES.start();
+        TargetGradePlan plan = search(priorCredit, priorUnits, plannedUnits, targetCGPA, maxPlans);
+        Metrics.TARGET_GRADES.stop(start);
+        return plan;
+    }
+    
+    private static TargetGradePlan search(long priorCredit, int priorUnits, int[] plannedUnits,
+                                          double targetCGPA, int maxPlans) {
+        if (maxPlans <= 0) {
+            throw new IllegalArgumentException("maxPlans must be positive: " + maxPlans);
+        }
+        
+        int[] units = plannedUnits.clone();
+        int plannedTotal = 0;
+        for (int courseUnits : units) {
+            if (courseUnits < Constants.MIN_COURSE_UNITS || courseUnits > Constants.MAX_COURSE_UNITS) {
+                throw new IllegalArgumentException("Invalid planned course units: " + courseUnits);
+            }
+            plannedTotal += courseUnits;
+        }
+        
+        Levels levels = levels(GradingScales.current());
+        int[] levelPoints = levels.points;
+        int pointStep = levels.step;
+        int totalUnits = priorUnits + plannedTotal;
+        int topPoints = levelPoints[levelPoints.length - 1];
+        RoundingMode rounding = Decimals.getRounding();
+        double best = cgpa(priorCredit, (long) topPoints * plannedTotal, pointStep, totalUnits, rounding);
+        
+        // No units at all leaves no CGPA to reach
+        if (totalUnits == 0) {
+            return new TargetGradePlan(TargetGradePlan.Status.UNREACHABLE, levels.scale, targetCGPA, units,
+                                       new int[0][], new double[0], best);
+        }
+        
+        // Required credit of the planned courses, in point steps: the least credit whose CGPA
+        // rounds to the target, found exactly in hundredths
+        long needed = Decimals.minimumCredit(Decimals.toHundredths(targetCGPA), totalUnits, rounding) - priorCredit;
+        long required = Math.max(0, Math.floorDiv(needed + pointStep - 1, pointStep));
+        if (required > (long) topPoints * plannedTotal) {
+            return new TargetGradePlan(TargetGradePlan.Status.UNREACHABLE, levels.scale, targetCGPA, units,
+                                       new int[0][], new double[0], best);
+        }
+        
+        Search search = new Search(levels, units, plannedTotal, required);
+        double resulting = cgpa(priorCredit, search.credit, pointStep, totalUnits, rounding);
+        List<int[]> plans = search.listPlans(maxPlans);
+        TargetGradePlan.Status status = search.credit == (long) levelPoints[0] * plannedTotal
+            ? TargetGradePlan.Status.ALREADY_SECURED : TargetGradePlan.Status.REACHABLE;
+        double[] resultingCGPA = new double[plans.size()];
+        Arrays.fill(resultingCGPA, resulting);
+        return new TargetGradePlan(status, levels.scale, targetCGPA, units,
+                                   plans.toArray(new int[0][]), resultingCGPA, best);
+    }
+    
+    private static double cgpa(long priorCredit, long plannedCredit, int pointStep, int totalUnits, RoundingMode rounding) {
+        return Decimals.toDouble(Decimals.average(priorCredit + plannedCredit * pointStep, totalUnits, rounding));
+    }
+    
+    private static Levels levels(GradingScale scale) {
+        Levels levels = cachedLevels;
+        if (levels == null || levels.scale != scale) {
+            levels = new Levels(scale);
+            cachedLevels = levels;
+        }
+        return levels;
+    }
+    
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+    
+    /**
+     * Distinct grade points of a scale, ascending, in multiples of the point step (hundredths),
+     * and a grade ordinal for each
+     */
+    private static final class Levels {
+        private final GradingScale scale;
+        private final int[] points;
+        private final int[] ordinals;
+        private final int step;
+        
+        Levels(GradingScale scale) {
+            this.scale = scale;
+            int[] levelPoints = new int[scale.count()];
+            int[] levelOrdinals = new int[scale.count()];
+            int levels = 0;
+            int gcdStep = 0;
+            for (int ordinal = 0; ordinal < scale.count(); ordinal++) {
+                int hundredths = scale.hundredthsOf(ordinal);
+                int insert = levels;
+                while (insert > 0 && levelPoints[insert - 1] > hundredths) {
+                    insert--;
+                }
+                if (insert > 0 && levelPoints[insert - 1] == hundredths) {
+                    continue; // Same points as a grade already listed
+                }
+                System.arraycopy(levelPoints, insert, levelPoints, insert + 1, levels - insert);
+                System.arraycopy(levelOrdinals, insert, levelOrdinals, insert + 1, levels - insert);
+                levelPoints[insert] = hundredths;
+                levelOrdinals[insert] = ordinal;
+                levels++;
+                gcdStep = gcd(gcdStep, hundredths);
+            }
+            this.step = Math.max(gcdStep, 1);
+            this.points = new int[levels];
+            for (int level = 0; level < levels; level++) {
+                points[level] = levelPoints[level] / step;
+            }
+            this.ordinals = Arrays.copyOf(levelOrdinals, levels);
+        }
+    }
+    
+    /**
+     * One solve: the lowest sufficient grade level, the smallest sufficient credit total,
+     * and the tables used to list the plans reaching exactly that total
+     */
+    private static final class Search {
+        private final int[] levelPoints;
+        private final int[] levelOrdinals;
+        private final int[] groupUnits;
+        private final int[][] groupCourses;
+        private final int[] unitsFrom;
+        private final int courseCount;
+        
+        // Highest level any plan needs, and the credit every plan reaches (in point steps)
+        private final int level;
+        private final long credit;
+        
+        // fits[l][j][s]: j courses, each at a level <= l, can score s points in total
+        private final boolean[][][] fits;
+        
+        // reachable[g]: bit x set if groups g.. can contribute exactly x credit
+        private final long[][] reachable;
+        
+        // Courses per level chosen for each group on the current search path
+        private final int[][] levelCounts;
+        
+        Search(Levels levels, int[] units, int plannedTotal, long required) {
+            this.levelPoints = levels.points;
+            this.levelOrdinals = levels.ordinals;
+            this.courseCount = units.length;
+            
+            // Group the courses by units, largest first, keeping their original order within a group
+            int[] countByUnits = new int[Constants.MAX_COURSE_UNITS + 1];
+            for (int courseUnits : units) {
+                countByUnits[courseUnits]++;
+            }
+            int groupCount = 0;
+            int maxGroupSize = 0;
+            for (int count : countByUnits) {
+                if (count > 0) {
+                    groupCount++;
+                    maxGroupSize = Math.max(maxGroupSize, count);
+                }
+            }
+            groupUnits = new int[groupCount];
+            groupCourses = new int[groupCount][];
+            int[] groupOfUnits = new int[Constants.MAX_COURSE_UNITS + 1];
+            for (int courseUnits = Constants.MAX_COURSE_UNITS, g = 0; courseUnits >= 0; courseUnits--) {
+                if (countByUnits[courseUnits] > 0) {
+                    groupUnits[g] = courseUnits;
+                    groupCourses[g] = new int[countByUnits[courseUnits]];
+                    groupOfUnits[courseUnits] = g++;
+                }
+            }
+            unitsFrom = new int[groupCount + 1];
+            for (int g = groupCount - 1; g >= 0; g--) {
+                unitsFrom[g] = unitsFrom[g + 1] + groupUnits[g] * groupCourses[g].length;
+            }
+            int[] filled = new int[groupCount];
+            for (int course = 0; course < units.length; course++) {
+                int g = groupOfUnits[units[course]];
+                groupCourses[g][filled[g]++] = course;
+            }
+            
+            // Lowest level that reaches the requirement when taken in every course
+            int lowest = 0;
+            while ((long) levelPoints[lowest] * plannedTotal < required) {
+                lowest++;
+            }
+            level = lowest;
+            levelCounts = new int[groupCount][level + 1];
+            
+            fits = fitTable(levelPoints, level, maxGroupSize);
+            int maxCredit = levelPoints[level] * plannedTotal;
+            reachable = new long[groupCount + 1][(maxCredit >> 6) + 1];
+            reachable[groupCount][0] = 1L;
+            for (int g = groupCount - 1; g >= 0; g--) {
+                boolean[] groupFits = fits[level][groupCourses[g].length];
+                for (int points = 0; points < groupFits.length; points++) {
+                    if (groupFits[points]) {
+                        orShifted(reachable[g], reachable[g + 1], groupUnits[g] * points);
+                    }
+                }
+            }
+            
+            // Smallest reachable credit at or above the requirement; the all-`level` total always is
+            long x = Math.max(required, 0);
+            while (!isReachable(0, x)) {
+                x++;
+            }
+            credit = x;
+        }
+        
+        List<int[]> listPlans(int maxPlans) {
+            List<int[]> plans = new ArrayList<>();
+            enumerateGroup(0, credit, maxPlans, plans);
+            return plans;
+        }
+        
+        private void enumerateGroup(int group, long remaining, int maxPlans, List<int[]> plans) {
+            if (group == groupUnits.length) {
+                plans.add(buildPlan());
+                return;
+            }
+            
+            // Most even plans first: try the group's fair share of the remaining credit, then
+            // totals further and further from it
+            int size = groupCourses[group].length;
+            boolean[] groupFits = fits[level][size];
+            int fairShare = (int) Math.round((double) remaining * size / unitsFrom[group]);
+            for (int offset = 0; offset < 2 * groupFits.length && plans.size() < maxPlans; offset++) {
+                int points = (offset & 1) == 0 ? fairShare + offset / 2 : fairShare - (offset + 1) / 2;
+                if (points < 0 || points >= groupFits.length || !groupFits[points]) {
+                    continue;
+                }
+                long rest = remaining - (long) groupUnits[group] * points;
+                if (rest >= 0 && isReachable(group + 1, rest)) {
+                    distribute(group, level, size, points, rest, maxPlans, plans);
+                }
+            }
+        }
+        
+        // Splits a group's point total over its courses, as few as possible at each level from
+        // the top down, which gives the most even split first
+        private void distribute(int group, int l, int courses, int points, long rest,
+                                int maxPlans, List<int[]> plans) {
+            if (l == 0) {
+                levelCounts[group][0] = courses; // fits[] guarantees points == courses * levelPoints[0]
+                enumerateGroup(group + 1, rest, maxPlans, plans);
+                return;
+            }
+            for (int take = 0; take <= Math.min(courses, points / levelPoints[l]) && plans.size() < maxPlans; take++) {
+                int left = points - take * levelPoints[l];
+                if (fits[l - 1][courses - take][left]) {
+                    levelCounts[group][l] = take;
+                    distribute(group, l - 1, courses - take, left, rest, maxPlans, plans);
+                }
+            }
+        }
+        
+        private int[] buildPlan() {
+            int[] grades = new int[courseCount];
+            for (int g = 0; g < groupUnits.length; g++) {
+                int next = 0;
+                for (int l = level; l >= 0; l--) {
+                    for (int i = 0; i < levelCounts[g][l]; i++) {
+                        grades[groupCourses[g][next++]] = levelOrdinals[l];
+                    }
+                }
+            }
+            return grades;
+        }
+        
+        private boolean isReachable(int group, long x) {
+            long[] bits = reachable[group];
+            return x >= 0 && (x >> 6) < bits.length && (bits[(int) (x >> 6)] & (1L << x)) != 0;
+        }
+        
+        private static boolean[][][] fitTable(int[] levelPoints, int level, int maxGroupSize) {
+            int maxPoints = maxGroupSize * levelPoints[level];
+            boolean[][][] fits = new boolean[level + 1][maxGroupSize + 1][maxPoints + 1];
+            for (int l = 0; l <= level; l++) {
+                int points = levelPoints[l];
+                fits[l][0][0] = true;
+                for (int j = 1; j <= maxGroupSize; j++) {
+                    for (int s = 0; s <= maxPoints; s++) {
+                        // Either every course is below level l, or one of them is at level l
+                        fits[l][j][s] = (l > 0 && fits[l - 1][j][s])
+                            || (s >= points && fits[l][j - 1][s - points]);
+                    }
+                }
+            }
+            return fits;
+        }
+        
+        // target |= source << shift, truncated to target's length
+        private static void orShifted(long[] target, long[] source, int shift) {
+            int wordShift = shift >> 6;
+            int bitShift = shift & 63;
+            for (int i = target.length - 1; i >= wordShift; i--) {
+                int from = i - wordShift;
+                long word = source[from] << bitShift;
+                if (bitShift != 0 && from > 0) {
+                    word |= source[from - 1] >>> (64 - bitShift);
+                }
+                target[i] |= word;
+            }
+        }
+    }
+}
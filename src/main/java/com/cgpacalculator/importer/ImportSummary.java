@@ -0,0 +1,53 @@
+package com.cgpacalculator.importer;
+
+/**
+ * Totals for one transcript import
+ */
+public final class ImportSummary {
+    
+    private final long bytesRead;
+    private final long rows;
+    private final long students;
+    private final long validStudents;
+    private final long malformedRows;
+    
+    ImportSummary(long bytesRead, long rows, long students, long validStudents, long malformedRows) {
+        this.bytesRead = bytesRead;
+        this.rows = rows;
+        this.students = students;
+        this.validStudents = validStudents;
+        this.malformedRows = malformedRows;
+    }
+    
+    public long getBytesRead() {
+        return bytesRead;
+    }
+    
+    /**
+     * Non-blank data rows, excluding a header line
+     */
+    public long getRows() {
+        return rows;
+    }
+    
+    public long getStudents() {
+        return students;
+    }
+    
+    public long getValidStudents() {
+        return validStudents;
+    }
+    
+    /**
+     * Rows with fewer than four fields
+     */
+    public long getMalformedRows() {
+        return malformedRows;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ImportSummary{bytes=%d, rows=%d, students=%d, validStudents=%d, malformedRows=%d}",
+                           bytesRead, rows, students, validStudents, malformedRows);
+    }
+}
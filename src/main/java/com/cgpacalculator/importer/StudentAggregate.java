@@ -0,0 +1,178 @@
+package com.cgpacalculator.importer;
+
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Running per-student totals built straight from transcript bytes.
+ * A single instance is reused for every student of an import.
+ */
+public final class StudentAggregate {
+    
+    private byte[] studentId = new byte[32];
+    private int studentIdLength;
+    private int courseCount;
+    private int totalUnits;
+    private long totalCreditHundredths;
+    private int invalidUnitRows;
+    private int invalidGradeRows;
+    private int missingNameRows;
+    private int duplicateCourseRows;
+    private int malformedRows;
+    
+    StudentAggregate() {
+    }
+    
+    /**
+     * Student id decoded as UTF-8; allocates, so prefer {@link #copyStudentId} in bulk paths
+     */
+    public String getStudentId() {
+        return new String(studentId, 0, studentIdLength, StandardCharsets.UTF_8);
+    }
+    
+    public int getStudentIdLength() {
+        return studentIdLength;
+    }
+    
+    /**
+     * Copies the raw id bytes into {@code target}
+     * @return Number of bytes copied
+     */
+    public int copyStudentId(byte[] target, int offset) {
+        System.arraycopy(studentId, 0, target, offset, studentIdLength);
+        return studentIdLength;
+    }
+    
+    public int getCourseCount() {
+        return courseCount;
+    }
+    
+    public int getTotalUnits() {
+        return totalUnits;
+    }
+    
+    /**
+     * Sum of units times grade points, in hundredths
+     */
+    public long getTotalCreditHundredths() {
+        return totalCreditHundredths;
+    }
+    
+    /**
+     * GPA in hundredths, rounded with {@link Decimals#getRounding()}
+     */
+    public int getGPAHundredths() {
+        return Decimals.average(totalCreditHundredths, totalUnits, Decimals.getRounding());
+    }
+    
+    public int getInvalidUnitRows() {
+        return invalidUnitRows;
+    }
+    
+    public int getInvalidGradeRows() {
+        return invalidGradeRows;
+    }
+    
+    public int getMissingNameRows() {
+        return missingNameRows;
+    }
+    
+    /**
+     * Rows repeating a course name already seen for this student; they are not counted in the totals
+     */
+    public int getDuplicateCourseRows() {
+        return duplicateCourseRows;
+    }
+    
+    public int getMalformedRows() {
+        return malformedRows;
+    }
+    
+    /**
+     * Checks the semester load against the same 18-24 unit rule as CGPACalculationValidator
+     */
+    public boolean hasValidSemesterLoad() {
+        return totalUnits >= Constants.MIN_SEMESTER_UNITS && totalUnits <= Constants.MAX_SEMESTER_UNITS;
+    }
+    
+    /**
+     * True if every row was well formed and the student could be calculated in the app
+     */
+    public boolean isValid() {
+        return courseCount > 0 && invalidUnitRows == 0 && invalidGradeRows == 0 
+            && missingNameRows == 0 && duplicateCourseRows == 0 && malformedRows == 0 
+            && hasValidSemesterLoad();
+    }
+    
+    // Package-private mutators used by the importer
+    
+    boolean hasStudentId(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (length != studentIdLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (studentId[i] != buffer.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    void reset(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (length > studentId.length) {
+            studentId = Arrays.copyOf(studentId, Math.max(length, studentId.length * 2));
+        }
+        for (int i = 0; i < length; i++) {
+            studentId[i] = buffer.get(from + i);
+        }
+        studentIdLength = length;
+        courseCount = 0;
+        totalUnits = 0;
+        totalCreditHundredths = 0;
+        invalidUnitRows = 0;
+        invalidGradeRows = 0;
+        missingNameRows = 0;
+        duplicateCourseRows = 0;
+        malformedRows = 0;
+    }
+    
+    boolean isEmpty() {
+        return courseCount == 0 && malformedRows == 0;
+    }
+    
+    void addCourse(boolean hasName, boolean duplicate, int units, int gradeOrdinal, int gradeHundredths) {
+        courseCount++;
+        if (!hasName) {
+            missingNameRows++;
+        }
+        if (duplicate) {
+            duplicateCourseRows++;
+            return;
+        }
+        if (gradeOrdinal == GradingScale.INVALID_ORDINAL) {
+            invalidGradeRows++;
+        }
+        if (units < Constants.MIN_COURSE_UNITS || units > Constants.MAX_COURSE_UNITS) {
+            invalidUnitRows++;
+            return;
+        }
+        totalUnits += units;
+        totalCreditHundredths += units * gradeHundredths;
+    }
+    
+    void addMalformedRow() {
+        malformedRows++;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("StudentAggregate{id='%s', courses=%d, units=%d, gpa=%.2f, valid=%b}",
+                           getStudentId(), courseCount, totalUnits, Decimals.toDouble(getGPAHundredths()), isValid());
+    }
+}
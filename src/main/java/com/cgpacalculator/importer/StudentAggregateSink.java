@@ -0,0 +1,12 @@
+package com.cgpacalculator.importer;
+
+/**
+ * Receives one aggregate per student from {@link TranscriptImporter}.
+ * The aggregate instance is reused for the next student, so copy anything
+ * that must outlive the callback.
+ */
+@FunctionalInterface
+public interface StudentAggregateSink {
+    
+    void accept(StudentAggregate student);
+}
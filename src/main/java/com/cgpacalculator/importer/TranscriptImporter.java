@@ -0,0 +1,340 @@
+package com.cgpacalculator.importer;
+
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.model.CourseNameIndex;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streaming importer for registry transcript dumps.
+ * Expects CSV rows of {@code student id, course, units, grade}, grouped by student
+ * (as registry exports are), with an optional header line. The file is memory-mapped
+ * in fixed-size windows split on line boundaries and parsed byte by byte into a single
+ * reused {@link StudentAggregate}, so no Strings or Course objects are created per row
+ * and heap use does not depend on the file size.
+ * Rows are checked with the CGPACalculationValidator rules: units 1-6, a grade on the
+ * grading scale in use when the import starts, a course name, and 18-24 units per student.
+ * A course name repeated within a student (ignoring ASCII case) is counted as a duplicate
+ * row and left out of the totals.
+ * Not thread-safe; use one instance per import.
+ */
+public class TranscriptImporter {
+    
+    /** Default mapping window; lines must be shorter than the window */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    
+    // Initial read buffer for streams; grows up to the window size for long lines
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    
+    private static final int FIELD_COUNT = 4;
+    private static final int STUDENT_FIELD = 0;
+    private static final int COURSE_FIELD = 1;
+    private static final int UNITS_FIELD = 2;
+    private static final int GRADE_FIELD = 3;
+    
+    private final int windowSize;
+    
+    // Field bounds of the line being parsed, reused for every row
+    private final int[] fieldStarts = new int[FIELD_COUNT];
+    private final int[] fieldEnds = new int[FIELD_COUNT];
+    
+    private final StudentAggregate student = new StudentAggregate();
+    private final CourseNameIndex studentCourseNames = new CourseNameIndex();
+    private StudentAggregateSink sink;
+    private GradingScale gradingScale;
+    private boolean firstLine;
+    private long rows;
+    private long students;
+    private long validStudents;
+    private long malformedRows;
+    
+    public TranscriptImporter() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+    
+    public TranscriptImporter(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive (provided: " + windowSize + ")");
+        }
+        this.windowSize = windowSize;
+    }
+    
+    /**
+     * Imports a transcript file, calling the sink once per student in file order
+     * @param file CSV transcript dump
+     * @param sink Receives each student's aggregate
+     * @return Import totals
+     * @throws IOException if the file cannot be read or a line exceeds the window size
+     */
+    public ImportSummary importFile(Path file, StudentAggregateSink sink) throws IOException {
+        long start = Metrics.TRANSCRIPT_IMPORT.start();
+        try {
+            ImportSummary summary = readFile(file, sink);
+            Metrics.TRANSCRIPT_IMPORT.stop(start, summary.getStudents());
+            return summary;
+        } catch (IOException | RuntimeException e) {
+            Metrics.TRANSCRIPT_IMPORT.failed(start);
+            throw e;
+        }
+    }
+    
+    private ImportSummary readFile(Path file, StudentAggregateSink sink) throws IOException {
+        begin(sink);
+        
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            long position = 0;
+            
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                
+                int consumed = parseLines(window, 0, length, lastWindow);
+                if (consumed == 0) {
+                    throw new IOException("Line longer than " + windowSize + " bytes at offset " + position);
+                }
+                position += consumed;
+            }
+        }
+        
+        return finish(size);
+    }
+    
+    /**
+     * Imports a transcript from a stream such as standard input, calling the sink once per
+     * student in input order. Reads through a reused buffer; the stream is not closed.
+     * @param in CSV transcript
+     * @param sink Receives each student's aggregate
+     * @return Import totals
+     * @throws IOException if the stream cannot be read or a line exceeds the window size
+     */
+    public ImportSummary importStream(InputStream in, StudentAggregateSink sink) throws IOException {
+        long start = Metrics.TRANSCRIPT_IMPORT.start();
+        try {
+            ImportSummary summary = readStream(in, sink);
+            Metrics.TRANSCRIPT_IMPORT.stop(start, summary.getStudents());
+            return summary;
+        } catch (IOException | RuntimeException e) {
+            Metrics.TRANSCRIPT_IMPORT.failed(start);
+            throw e;
+        }
+    }
+    
+    private ImportSummary readStream(InputStream in, StudentAggregateSink sink) throws IOException {
+        begin(sink);
+        
+        byte[] bytes = new byte[Math.min(windowSize, STREAM_BUFFER_SIZE)];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int filled = 0;
+        long bytesRead = 0;
+        
+        int read;
+        while ((read = in.read(bytes, filled, bytes.length - filled)) >= 0) {
+            filled += read;
+            bytesRead += read;
+            
+            int consumed = parseLines(buffer, 0, filled, false);
+            if (consumed == 0 && filled == bytes.length) {
+                if (bytes.length == windowSize) {
+                    throw new IOException("Line longer than " + windowSize + " bytes at offset " + (bytesRead - filled));
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(windowSize, 2L * bytes.length));
+                buffer = ByteBuffer.wrap(bytes);
+                continue;
+            }
+            // Keep the incomplete last line for the next read
+            System.arraycopy(bytes, consumed, bytes, 0, filled - consumed);
+            filled -= consumed;
+        }
+        parseLines(buffer, 0, filled, true);
+        
+        return finish(bytesRead);
+    }
+    
+    private void begin(StudentAggregateSink sink) {
+        this.sink = sink;
+        this.gradingScale = GradingScales.current();
+        this.firstLine = true;
+        this.rows = 0;
+        this.students = 0;
+        this.validStudents = 0;
+        this.malformedRows = 0;
+        student.reset(ByteBuffer.allocate(0), 0, 0);
+        studentCourseNames.clear();
+    }
+    
+    private ImportSummary finish(long bytesRead) {
+        emitStudent();
+        sink = null;
+        return new ImportSummary(bytesRead, rows, students, validStudents, malformedRows);
+    }
+    
+    /**
+     * Parses the complete lines of {@code buffer[start, limit)}
+     * @param endOfInput Whether a trailing line without newline is complete
+     * @return Offset just past the last line consumed
+     */
+    private int parseLines(ByteBuffer buffer, int start, int limit, boolean endOfInput) {
+        int lineStart = start;
+        while (lineStart < limit) {
+            int lineEnd = indexOf(buffer, (byte) '\n', lineStart, limit);
+            if (lineEnd < 0) {
+                if (!endOfInput) {
+                    return lineStart;
+                }
+                lineEnd = limit;
+            }
+            parseLine(buffer, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+        }
+        return limit;
+    }
+    
+    private void parseLine(ByteBuffer buffer, int from, int to) {
+        if (to > from && buffer.get(to - 1) == '\r') {
+            to--;
+        }
+        if (trimStart(buffer, from, to) == to) {
+            return; // Blank line
+        }
+        
+        int fields = splitFields(buffer, from, to);
+        
+        if (firstLine) {
+            firstLine = false;
+            if (fields == FIELD_COUNT && parseUnits(buffer, fieldStarts[UNITS_FIELD], fieldEnds[UNITS_FIELD]) < 0) {
+                return; // Header line
+            }
+        }
+        
+        rows++;
+        int idStart = fieldStarts[STUDENT_FIELD];
+        int idEnd = fieldEnds[STUDENT_FIELD];
+        
+        if (!student.hasStudentId(buffer, idStart, idEnd)) {
+            emitStudent();
+            student.reset(buffer, idStart, idEnd);
+            studentCourseNames.clear();
+        }
+        
+        if (fields < FIELD_COUNT) {
+            malformedRows++;
+            student.addMalformedRow();
+            return;
+        }
+        
+        boolean hasName = fieldEnds[COURSE_FIELD] > fieldStarts[COURSE_FIELD];
+        boolean duplicate = hasName 
+            && studentCourseNames.add(buffer, fieldStarts[COURSE_FIELD], fieldEnds[COURSE_FIELD]) > 1;
+        int units = parseUnits(buffer, fieldStarts[UNITS_FIELD], fieldEnds[UNITS_FIELD]);
+        int gradeOrdinal = gradingScale.ordinalOf(buffer, fieldStarts[GRADE_FIELD], fieldEnds[GRADE_FIELD]);
+        
+        student.addCourse(hasName, duplicate, units, gradeOrdinal, gradingScale.hundredthsOf(gradeOrdinal));
+    }
+    
+    private void emitStudent() {
+        if (student.isEmpty()) {
+            return;
+        }
+        students++;
+        if (student.isValid()) {
+            validStudents++;
+        }
+        sink.accept(student);
+    }
+    
+    /**
+     * Records trimmed field bounds; double-quoted fields may contain commas
+     * @return Number of fields found, at most {@link #FIELD_COUNT}
+     */
+    private int splitFields(ByteBuffer buffer, int from, int to) {
+        int field = 0;
+        int position = from;
+        
+        while (field < FIELD_COUNT) {
+            position = trimStart(buffer, position, to);
+            int start = position;
+            int end;
+            
+            if (position < to && buffer.get(position) == '"') {
+                start = ++position;
+                while (position < to && !isClosingQuote(buffer, position, to)) {
+                    position += buffer.get(position) == '"' ? 2 : 1;
+                }
+                end = Math.min(position, to);
+                int comma = indexOf(buffer, (byte) ',', Math.min(position + 1, to), to);
+                position = comma < 0 ? to : comma;
+            } else {
+                int comma = indexOf(buffer, (byte) ',', position, to);
+                position = comma < 0 ? to : comma;
+                end = trimEnd(buffer, start, position);
+            }
+            
+            fieldStarts[field] = start;
+            fieldEnds[field] = end;
+            field++;
+            
+            if (position >= to) {
+                break;
+            }
+            position++; // Skip the comma
+        }
+        
+        return field;
+    }
+    
+    private static boolean isClosingQuote(ByteBuffer buffer, int position, int to) {
+        return buffer.get(position) == '"' && (position + 1 >= to || buffer.get(position + 1) != '"');
+    }
+    
+    /**
+     * @return Units value, or -1 if the field is empty or not a whole number
+     */
+    private static int parseUnits(ByteBuffer buffer, int from, int to) {
+        if (from == to || to - from > 3) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+    
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static int trimStart(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) == ' ' || buffer.get(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+    
+    private static int trimEnd(ByteBuffer buffer, int from, int to) {
+        while (to > from && (buffer.get(to - 1) == ' ' || buffer.get(to - 1) == '\t')) {
+            to--;
+        }
+        return to;
+    }
+}
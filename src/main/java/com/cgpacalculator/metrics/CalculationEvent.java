@@ -0,0 +1,46 @@
+package com.cgpacalculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one GPA/CGPA calculation.
+ * Call {@link #begin()} before the calculation and {@link #finish} after it; fields are only
+ * filled in when the event is enabled and passes its threshold.
+ */
+@Name("com.cgpacalculator.Calculation")
+@Label("CGPA Calculation")
+@Category(JfrEvents.CATEGORY)
+@Description("GPA and CGPA calculation for one student")
+public final class CalculationEvent extends Event {
+    
+    @Label("Courses")
+    private int courseCount;
+    
+    @Label("Semester Units")
+    private int semesterUnits;
+    
+    @Label("Prior Units")
+    private int priorUnits;
+    
+    @Label("GPA")
+    private double gpa;
+    
+    @Label("CGPA")
+    private double cgpa;
+    
+    public void finish(int courseCount, int semesterUnits, int priorUnits, double gpa, double cgpa) {
+        end();
+        if (shouldCommit()) {
+            this.courseCount = courseCount;
+            this.semesterUnits = semesterUnits;
+            this.priorUnits = priorUnits;
+            this.gpa = gpa;
+            this.cgpa = cgpa;
+            commit();
+        }
+    }
+}
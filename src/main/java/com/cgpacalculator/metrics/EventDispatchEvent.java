@@ -0,0 +1,39 @@
+package com.cgpacalculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for an Event Dispatch Thread task that ran long enough to be noticed.
+ * Only tasks over the threshold (10 ms unless the recording settings say otherwise) are
+ * recorded; the stack trace is off because it would only show the dispatch loop.
+ * This class has no AWT dependency; the view supplies the event description.
+ */
+@Name("com.cgpacalculator.EventDispatch")
+@Label("Slow EDT Task")
+@Category(JfrEvents.CATEGORY)
+@Description("AWT event or invokeLater task that kept the Event Dispatch Thread busy")
+@Threshold("10 ms")
+@StackTrace(false)
+public final class EventDispatchEvent extends Event {
+    
+    @Label("Event Type")
+    private String eventType;
+    
+    @Label("Detail")
+    @Description("Action command, runnable or source of the event")
+    private String detail;
+    
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+    
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
@@ -0,0 +1,16 @@
+package com.cgpacalculator.metrics;
+
+/**
+ * Shared settings of the calculator's Flight Recorder events.
+ * Every event is enabled by default but costs next to nothing until a recording runs,
+ * e.g. {@code java -XX:StartFlightRecording=filename=cgpa.jfr ...}; the events then show up
+ * under the "CGPA Calculator" category in JDK Mission Control or {@code jfr print}.
+ */
+final class JfrEvents {
+    
+    static final String CATEGORY = "CGPA Calculator";
+    
+    private JfrEvents() {
+        throw new UnsupportedOperationException("JfrEvents class cannot be instantiated");
+    }
+}
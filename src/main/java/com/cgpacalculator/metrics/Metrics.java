@@ -0,0 +1,150 @@
+package com.cgpacalculator.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide registry of operation metrics.
+ * The well-known operations are constants; other code (e.g. the calculation service) can
+ * add its own with {@link #operation(String)}. Nothing touches JMX until
+ * {@link #registerMBeans()} is called, so short-lived batch runs do not pay for it.
+ */
+public final class Metrics {
+    
+    /** JMX domain; each operation is published as {@code com.cgpacalculator:type=Operation,name=<name>} */
+    public static final String JMX_DOMAIN = "com.cgpacalculator";
+    
+    private static final Map<String, OperationMetrics> OPERATIONS = new ConcurrentSkipListMap<>();
+    private static volatile MBeanServer mbeanServer;
+    
+    /** Calculate button: GPA/CGPA calculation and result display */
+    public static final OperationMetrics CALCULATION = operation("calculation");
+    /** Readiness validation of a course list */
+    public static final OperationMetrics VALIDATION = operation("validation");
+    /** Persisting course data (journal append or snapshot) */
+    public static final OperationMetrics SAVE = operation("save");
+    /** Loading course data from the snapshot, journal or legacy file */
+    public static final OperationMetrics LOAD = operation("load");
+    /** Flat-array and columnar batch calculation; items are students */
+    public static final OperationMetrics BATCH_CALCULATION = operation("batchCalculation");
+    /** Parallel cohort calculation; items are students */
+    public static final OperationMetrics COHORT_CALCULATION = operation("cohortCalculation");
+    /** Transcript import; items are students */
+    public static final OperationMetrics TRANSCRIPT_IMPORT = operation("transcriptImport");
+    /** Monte Carlo projection; items are simulated semesters */
+    public static final OperationMetrics PROJECTION = operation("projection");
+    /** Target-grade solver */
+    public static final OperationMetrics TARGET_GRADES = operation("targetGrades");
+    
+    private Metrics() {
+        throw new UnsupportedOperationException("Metrics class cannot be instantiated");
+    }
+    
+    /**
+     * Metrics for the named operation, created on first use
+     */
+    public static OperationMetrics operation(String name) {
+        OperationMetrics metrics = OPERATIONS.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        synchronized (OPERATIONS) {
+            metrics = OPERATIONS.get(name);
+            if (metrics == null) {
+                metrics = new OperationMetrics(name);
+                OPERATIONS.put(name, metrics);
+                if (mbeanServer != null) {
+                    register(mbeanServer, metrics);
+                }
+            }
+            return metrics;
+        }
+    }
+    
+    /**
+     * Publishes every operation, including ones added later, through the platform MBean server.
+     * Safe to call more than once.
+     */
+    public static void registerMBeans() {
+        synchronized (OPERATIONS) {
+            if (mbeanServer != null) {
+                return;
+            }
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (OperationMetrics metrics : OPERATIONS.values()) {
+                register(server, metrics);
+            }
+            mbeanServer = server;
+        }
+    }
+    
+    /**
+     * Snapshots of every operation, ordered by name
+     */
+    public static List<OperationSnapshot> snapshot() {
+        List<OperationSnapshot> snapshots = new ArrayList<>(OPERATIONS.size());
+        for (OperationMetrics metrics : OPERATIONS.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        return snapshots;
+    }
+    
+    /**
+     * CSV export of every operation that has been called, with times in microseconds.
+     * Columns: operation, count, failures, items, mean, p50, p90, p99, p99.9, max
+     */
+    public static String export() {
+        StringBuilder csv = new StringBuilder("operation,count,failures,items,mean_us,p50_us,p90_us,p99_us,p999_us,max_us\n");
+        for (OperationSnapshot snapshot : snapshot()) {
+            if (snapshot.getCount() == 0) {
+                continue;
+            }
+            LatencyHistogram.Snapshot latency = snapshot.getLatency();
+            csv.append(snapshot.getName())
+               .append(',').append(snapshot.getCount())
+               .append(',').append(snapshot.getFailures())
+               .append(',').append(snapshot.getItems());
+            appendMicros(csv, latency.getMeanNanos());
+            appendMicros(csv, latency.getPercentileNanos(0.50));
+            appendMicros(csv, latency.getPercentileNanos(0.90));
+            appendMicros(csv, latency.getPercentileNanos(0.99));
+            appendMicros(csv, latency.getPercentileNanos(0.999));
+            appendMicros(csv, latency.getMaxNanos());
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+    
+    /**
+     * Clears every operation, e.g. between benchmark iterations
+     */
+    public static void reset() {
+        for (OperationMetrics metrics : OPERATIONS.values()) {
+            metrics.reset();
+        }
+    }
+    
+    private static void register(MBeanServer server, OperationMetrics metrics) {
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Operation,name=" + metrics.getName());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            // Metrics stay available through snapshot() and export()
+            System.err.println("Could not register metrics MBean for " + metrics.getName() + ": " + e.getMessage());
+        }
+    }
+    
+    // One decimal place without going through Formatter
+    private static void appendMicros(StringBuilder csv, double nanos) {
+        long tenths = Math.round(nanos / 100.0);
+        csv.append(',').append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
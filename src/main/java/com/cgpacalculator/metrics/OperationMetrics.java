@@ -0,0 +1,124 @@
+package com.cgpacalculator.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and counters for one instrumented operation.
+ * Typical use:
+ * <pre>
+ * long start = Metrics.SAVE.start();
+ * try {
+ *     ...
+ *     Metrics.SAVE.stop(start);
+ * } catch (IOException e) {
+ *     Metrics.SAVE.failed(start);
+ *     throw e;
+ * }
+ * </pre>
+ * Thread-safe; recording takes a clock read and a few uncontended atomic adds.
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+    
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    
+    OperationMetrics(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * @return Start timestamp to pass to {@link #stop} or {@link #failed}
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+    
+    public void stop(long start) {
+        latency.record(System.nanoTime() - start);
+    }
+    
+    /**
+     * Records a completed call that processed the given number of work items
+     */
+    public void stop(long start, long itemCount) {
+        latency.record(System.nanoTime() - start);
+        items.add(itemCount);
+    }
+    
+    /**
+     * Records a call that ended with an exception; its time still counts towards the latency
+     */
+    public void failed(long start) {
+        latency.record(System.nanoTime() - start);
+        failures.increment();
+    }
+    
+    public OperationSnapshot snapshot() {
+        return new OperationSnapshot(name, latency.snapshot(), failures.sum(), items.sum());
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public long getCount() {
+        return latency.getCount();
+    }
+    
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+    
+    @Override
+    public long getItems() {
+        return items.sum();
+    }
+    
+    @Override
+    public double getMeanMillis() {
+        return latency.snapshot().getMeanNanos() / NANOS_PER_MILLI;
+    }
+    
+    @Override
+    public double getMaxMillis() {
+        return latency.snapshot().getMaxNanos() / NANOS_PER_MILLI;
+    }
+    
+    @Override
+    public double getP50Millis() {
+        return percentileMillis(0.50);
+    }
+    
+    @Override
+    public double getP90Millis() {
+        return percentileMillis(0.90);
+    }
+    
+    @Override
+    public double getP99Millis() {
+        return percentileMillis(0.99);
+    }
+    
+    @Override
+    public double getP999Millis() {
+        return percentileMillis(0.999);
+    }
+    
+    @Override
+    public void reset() {
+        latency.reset();
+        failures.reset();
+        items.reset();
+    }
+    
+    private double percentileMillis(double fraction) {
+        return latency.snapshot().getPercentileNanos(fraction) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,32 @@
+package com.cgpacalculator.metrics;
+
+/**
+ * JMX view of one operation's metrics; times are in milliseconds
+ */
+public interface OperationMetricsMXBean {
+    
+    String getName();
+    
+    long getCount();
+    
+    long getFailures();
+    
+    /**
+     * Work items processed, e.g. students in a batch or trials in a projection
+     */
+    long getItems();
+    
+    double getMeanMillis();
+    
+    double getMaxMillis();
+    
+    double getP50Millis();
+    
+    double getP90Millis();
+    
+    double getP99Millis();
+    
+    double getP999Millis();
+    
+    void reset();
+}
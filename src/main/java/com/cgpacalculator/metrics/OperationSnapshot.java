@@ -0,0 +1,46 @@
+package com.cgpacalculator.metrics;
+
+/**
+ * Point-in-time copy of one operation's metrics, for export and benchmark reports
+ */
+public final class OperationSnapshot {
+    
+    private final String name;
+    private final LatencyHistogram.Snapshot latency;
+    private final long failures;
+    private final long items;
+    
+    OperationSnapshot(String name, LatencyHistogram.Snapshot latency, long failures, long items) {
+        this.name = name;
+        this.latency = latency;
+        this.failures = failures;
+        this.items = items;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public long getCount() {
+        return latency.getCount();
+    }
+    
+    public long getFailures() {
+        return failures;
+    }
+    
+    public long getItems() {
+        return items;
+    }
+    
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, failures=%d, items=%d, mean=%.1fus, p99=%.1fus, max=%.1fus}",
+                           name, getCount(), failures, items, latency.getMeanNanos() / 1000.0,
+                           latency.getPercentileNanos(0.99) / 1000.0, latency.getMaxNanos() / 1000.0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.cgpacalculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one save or load of the course data files.
+ * Failed operations are committed too, with the error message set.
+ */
+@Name("com.cgpacalculator.Persistence")
+@Label("Course Data I/O")
+@Category(JfrEvents.CATEGORY)
+@Description("Journal append, snapshot write or load of the saved course data")
+public final class PersistenceEvent extends Event {
+    
+    public static final String SAVE = "save";
+    public static final String LOAD = "load";
+    
+    @Label("Operation")
+    private String operation;
+    
+    @Label("File")
+    private String file;
+    
+    @Label("Courses")
+    private int courseCount;
+    
+    @Label("Completed Semesters")
+    private int semesterCount;
+    
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+    
+    @Label("Journal Records")
+    @Description("Records in the journal after the operation; 0 right after a snapshot")
+    private int journalRecords;
+    
+    @Label("Error")
+    private String error;
+    
+    /**
+     * @param operation {@link #SAVE} or {@link #LOAD}
+     * @param file File the operation starts from; replaced by the file actually written on success
+     */
+    public PersistenceEvent(String operation, String file) {
+        this.operation = operation;
+        this.file = file;
+    }
+    
+    public void finish(String file, int courseCount, int semesterCount, long bytesWritten, int journalRecords) {
+        end();
+        if (shouldCommit()) {
+            this.file = file;
+            this.courseCount = courseCount;
+            this.semesterCount = semesterCount;
+            this.bytesWritten = bytesWritten;
+            this.journalRecords = journalRecords;
+            commit();
+        }
+    }
+    
+    public void failed(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            this.error = String.valueOf(error.getMessage());
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.cgpacalculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a full table rebuild, i.e. a data-changed notification and the
+ * listeners (sorters, row heights, repaint requests) that react to it
+ */
+@Name("com.cgpacalculator.TableRefresh")
+@Label("Table Refresh")
+@Category(JfrEvents.CATEGORY)
+@Description("Whole-table data change fired by a table model")
+public final class TableRefreshEvent extends Event {
+    
+    @Label("Table")
+    private String table;
+    
+    @Label("Rows")
+    private int rowCount;
+    
+    public void finish(String table, int rowCount) {
+        end();
+        if (shouldCommit()) {
+            this.table = table;
+            this.rowCount = rowCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cgpacalculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one readiness validation pass over a course list
+ */
+@Name("com.cgpacalculator.Validation")
+@Label("Readiness Validation")
+@Category(JfrEvents.CATEGORY)
+@Description("Checks whether a course list and prior record are ready for calculation")
+public final class ValidationEvent extends Event {
+    
+    @Label("Courses")
+    private int courseCount;
+    
+    @Label("Total Units")
+    private int totalUnits;
+    
+    @Label("Errors")
+    @Description("Errors recorded, before errors for the same field are merged")
+    private int errorCount;
+    
+    public void finish(int courseCount, int totalUnits, int errorCount) {
+        end();
+        if (shouldCommit()) {
+            this.courseCount = courseCount;
+            this.totalUnits = totalUnits;
+            this.errorCount = errorCount;
+            commit();
+        }
+    }
+}
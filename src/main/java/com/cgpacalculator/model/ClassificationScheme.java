@@ -0,0 +1,181 @@
+package com.cgpacalculator.model;
+
+import com.cgpacalculator.utils.Constants;
+
+// Immutable degree classification scheme: class labels, minimum CGPAs and display colors.
+// Classes are identified by ordinal, best first; the lowest class takes every CGPA below the
+// class above it. CGPAs are quantized to hundredths and looked up in a bucket table, and one
+// sign-bit correction either way settles values the quantizing moved across a threshold, so
+// classifying a CGPA has no data-dependent branch. Results are ordinals; labels and colors
+// are looked up when shown.
+public final class ClassificationScheme {
+    
+    // Ordinals are stored in a byte
+    public static final int MAX_CLASSES = 32;
+    
+    // Table resolution; neighbouring minimums must be at least two buckets apart so the
+    // quantized bucket is never more than one class away
+    public static final int BUCKETS_PER_POINT = 100;
+    public static final double MIN_GAP = 2.0 / BUCKETS_PER_POINT;
+    
+    // Color for classes configured without one
+    public static final int DEFAULT_COLOR = 0x000000;
+    
+    // The built-in 5-point scheme
+    public static final ClassificationScheme FIVE_POINT = new ClassificationScheme(
+        "five-point", "5-point classes",
+        new String[] {Constants.FIRST_CLASS, Constants.SECOND_CLASS_UPPER, Constants.SECOND_CLASS_LOWER,
+                      Constants.THIRD_CLASS, Constants.FAIL_CLASS},
+        new double[] {Constants.FIRST_CLASS_MIN, Constants.SECOND_CLASS_UPPER_MIN,
+                      Constants.SECOND_CLASS_LOWER_MIN, Constants.THIRD_CLASS_MIN},
+        new int[] {parseColor(Constants.FIRST_CLASS_COLOR), parseColor(Constants.SECOND_CLASS_UPPER_COLOR),
+                   parseColor(Constants.SECOND_CLASS_LOWER_COLOR), parseColor(Constants.THIRD_CLASS_COLOR),
+                   parseColor(Constants.FAIL_CLASS_COLOR)});
+    
+    private final String name;
+    private final String displayName;
+    private final String[] labels;
+    private final double[] minimums;
+    private final int[] colors;
+    
+    // Class of each hundredth of a point, up to the bucket of the best class's minimum
+    private final byte[] classByBucket;
+    private final int lastBucket;
+    
+    // Per ordinal, the CGPA range [lowerBound, upperBound) of the class;
+    // -Infinity below the lowest class and +Infinity above the best
+    private final double[] lowerBound;
+    private final double[] upperBound;
+    
+    // name: identifier used in configuration; labels, colors (0xRRGGBB): one entry per class,
+    // best first; minimums: lowest CGPA of every class but the last, descending
+    public ClassificationScheme(String name, String displayName, String[] labels, double[] minimums, int[] colors) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Classification scheme name is required");
+        }
+        if (labels.length == 0 || labels.length > MAX_CLASSES) {
+            throw new IllegalArgumentException("Classification scheme " + name + " needs 1-" + MAX_CLASSES
+                + " classes, has " + labels.length);
+        }
+        if (minimums.length != labels.length - 1 || colors.length != labels.length) {
+            throw new IllegalArgumentException("Classification scheme " + name
+                + " needs a color for every class and a minimum CGPA for every class but the last");
+        }
+        for (String label : labels) {
+            if (label == null || label.trim().isEmpty()) {
+                throw new IllegalArgumentException("Classification scheme " + name + " has a class without a label");
+            }
+        }
+        for (int ordinal = 0; ordinal < minimums.length; ordinal++) {
+            if (!(minimums[ordinal] >= 0.0) || Double.isInfinite(minimums[ordinal])) {
+                throw new IllegalArgumentException("Invalid minimum CGPA for " + labels[ordinal] + ": " + minimums[ordinal]);
+            }
+            if (ordinal > 0 && minimums[ordinal - 1] - minimums[ordinal] < MIN_GAP) {
+                throw new IllegalArgumentException(String.format(
+                    "Minimum CGPAs of scheme %s must descend by at least %.2f (%s %.2f, %s %.2f)", name, MIN_GAP,
+                    labels[ordinal - 1], minimums[ordinal - 1], labels[ordinal], minimums[ordinal]));
+            }
+        }
+        
+        this.name = name.trim();
+        this.displayName = displayName == null || displayName.trim().isEmpty() ? this.name : displayName.trim();
+        this.labels = labels.clone();
+        this.minimums = minimums.clone();
+        this.colors = colors.clone();
+        
+        int count = labels.length;
+        this.lowerBound = new double[count];
+        this.upperBound = new double[count];
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            lowerBound[ordinal] = ordinal < minimums.length ? minimums[ordinal] : Double.NEGATIVE_INFINITY;
+            upperBound[ordinal] = ordinal > 0 ? minimums[ordinal - 1] : Double.POSITIVE_INFINITY;
+        }
+        
+        // Each bucket holds the class of its lower edge, found by comparing against the minimums
+        this.lastBucket = minimums.length == 0 ? 0 : (int) Math.ceil(minimums[0] * BUCKETS_PER_POINT) + 1;
+        this.classByBucket = new byte[lastBucket + 1];
+        for (int bucket = 0; bucket <= lastBucket; bucket++) {
+            double cgpa = (double) bucket / BUCKETS_PER_POINT;
+            int ordinal = 0;
+            while (ordinal < minimums.length && cgpa < minimums[ordinal]) {
+                ordinal++;
+            }
+            classByBucket[bucket] = (byte) ordinal;
+        }
+    }
+    
+    // Identifier used in configuration
+    public String getName() {
+        return name;
+    }
+    
+    // Name shown in the UI
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    // Number of classes
+    public int count() {
+        return labels.length;
+    }
+    
+    public String getLabel(int ordinal) {
+        return labels[ordinal];
+    }
+    
+    public String[] getLabels() {
+        return labels.clone();
+    }
+    
+    // Lowest CGPA of a class; 0.0 for the lowest class
+    public double getMinimum(int ordinal) {
+        return ordinal < minimums.length ? minimums[ordinal] : 0.0;
+    }
+    
+    // Display color as 0xRRGGBB
+    public int getColor(int ordinal) {
+        return colors[ordinal];
+    }
+    
+    // Class ordinal of a CGPA, best first. Negative CGPAs fall in the lowest class, CGPAs
+    // above the range in the best; compiles to loads, min/max and shifts without branches.
+    public int classify(double cgpa) {
+        int bucket = Math.max(0, Math.min((int) (cgpa * BUCKETS_PER_POINT), lastBucket));
+        int ordinal = classByBucket[bucket];
+        // Sign bit of (cgpa - bound): one class down if below the class's lower bound,
+        // then one class up if at or above its upper bound; adding 0.0 turns -0.0 into 0.0
+        ordinal += (int) (Double.doubleToRawLongBits(cgpa - lowerBound[ordinal] + 0.0) >>> 63);
+        ordinal = Math.min(ordinal, labels.length - 1);
+        ordinal -= (int) (~Double.doubleToRawLongBits(cgpa - upperBound[ordinal] + 0.0) >>> 63);
+        return Math.max(ordinal, 0);
+    }
+    
+    // Class ordinal of a CGPA in whole hundredths, e.g. 449 for 4.49. A hundredth is the lower
+    // edge of its own bucket, so the table alone is exact: a single load, no correction
+    public int classifyHundredths(int cgpaHundredths) {
+        return classByBucket[Math.max(0, Math.min(cgpaHundredths, lastBucket))];
+    }
+    
+    // Label of a CGPA's class
+    public String classifyLabel(double cgpa) {
+        return labels[classify(cgpa)];
+    }
+    
+    // Parses "#RRGGBB" (the # is optional)
+    public static int parseColor(String color) {
+        String hex = color.trim().startsWith("#") ? color.trim().substring(1) : color.trim();
+        if (hex.length() != 6) {
+            throw new IllegalArgumentException("Colors must be written #RRGGBB (provided: " + color + ")");
+        }
+        try {
+            return Integer.parseInt(hex, 16);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Colors must be written #RRGGBB (provided: " + color + ")");
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ClassificationScheme{name='%s', classes=%d}", name, labels.length);
+    }
+}
@@ -1,12 +1,14 @@
 package com.cgpacalculator.model;
 
-import com.cgpacalculator.utils.GradeConverter;
-
 // Represents a course with name, units, grade, and validation methods
 public class Course {
     private String courseName;
     private int units;
     private String letterGrade;
+    
+    // The grade resolved once on the course's grading scale
+    private final GradingScale gradingScale;
+    private int gradeOrdinal;
     private double gradePoints;
     
     // Default constructor
@@ -14,15 +16,22 @@ public class Course {
         this.courseName = "";
         this.units = 0;
         this.letterGrade = "";
-        this.gradePoints = 0.0;
+        this.gradingScale = GradingScales.current();
+        this.gradeOrdinal = GradingScale.INVALID_ORDINAL;
     }
     
-    // Parameterized constructor
+    // Parameterized constructor, graded on the scale currently in use
     public Course(String courseName, int units, String letterGrade) {
+        this(courseName, units, letterGrade, GradingScales.current());
+    }
+    
+    public Course(String courseName, int units, String letterGrade, GradingScale gradingScale) {
         this.courseName = courseName;
         this.units = units;
         this.letterGrade = letterGrade;
-        this.gradePoints = GradeConverter.convertLetterGradeToPoints(letterGrade);
+        this.gradingScale = gradingScale;
+        this.gradeOrdinal = gradingScale.ordinalOf(letterGrade);
+        this.gradePoints = gradingScale.pointsOf(gradeOrdinal);
     }
     
     // Course Name - Getter and Setter
@@ -78,13 +87,15 @@ public class Course {
     
     public void setLetterGrade(String letterGrade) {
         try {
-            if (GradeConverter.isValidLetterGrade(letterGrade)) {
+            int parsedOrdinal = gradingScale.ordinalOf(letterGrade);
+            if (parsedOrdinal != GradingScale.INVALID_ORDINAL) {
                 this.letterGrade = letterGrade;
-                this.gradePoints = GradeConverter.convertLetterGradeToPoints(letterGrade);
+                this.gradeOrdinal = parsedOrdinal;
+                this.gradePoints = gradingScale.pointsOf(parsedOrdinal);
             } else {
                 String errorMsg = letterGrade == null ? "Grade cannot be null" :
                                 letterGrade.trim().isEmpty() ? "Grade cannot be empty" :
-                                "Grade must be A, B, C, D, E, or F (provided: " + letterGrade + ")";
+                                "Grade must be " + gradingScale.describeGrades() + " (provided: " + letterGrade + ")";
                 throw new IllegalArgumentException(errorMsg);
             }
         } catch (IllegalArgumentException e) {
@@ -94,16 +105,30 @@ public class Course {
         }
     }
     
-    // Grade Points - Getter only (calculated field)
+    // Ordinal of the grade on the course's scale, or GradingScale.INVALID_ORDINAL
+    public int getGradeOrdinal() {
+        return gradeOrdinal;
+    }
+    
+    public GradingScale getGradingScale() {
+        return gradingScale;
+    }
+    
+    // Grade Points - Getter only (resolved from the grade, 0.0 when invalid)
     public double getGradePoints() {
         return gradePoints;
     }
     
+    // Grade points in hundredths (0 when invalid), for exact sums
+    public int getGradeHundredths() {
+        return gradingScale.hundredthsOf(gradeOrdinal);
+    }
+    
     // Validates if the course data is complete and valid
     public boolean isValid() {
         return isValidCourseName(courseName) && 
                isValidUnits(units) && 
-               isValidGrade(letterGrade);
+               gradeOrdinal != GradingScale.INVALID_ORDINAL;
     }
     
     // Alternative method name for consistency with GPACalculator
@@ -113,7 +138,12 @@ public class Course {
     
     // Calculates credit points for this course (units × grade points)
     public double calculateCreditPoints() {
-        return units * gradePoints;
+        return units * getGradePoints();
+    }
+    
+    // Credit points in hundredths (units × grade hundredths)
+    public long getCreditHundredths() {
+        return (long) units * getGradeHundredths();
     }
     
     // Private validation methods
@@ -125,14 +155,10 @@ public class Course {
         return units >= 1 && units <= 6;
     }
     
-    private boolean isValidGrade(String grade) {
-        return GradeConverter.isValidLetterGrade(grade);
-    }
-    
     @Override
     public String toString() {
         return String.format("Course{name='%s', units=%d, grade='%s', points=%.1f}", 
-                           courseName, units, letterGrade, gradePoints);
+                           courseName, units, letterGrade, getGradePoints());
     }
     
     @Override
@@ -140,11 +166,12 @@ public class Course {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Course course = (Course) obj;
-        return courseName.equals(course.courseName);
+        // Course names are unique ignoring case, matching the duplicate checks in the UI
+        return courseName.equalsIgnoreCase(course.courseName);
     }
     
     @Override
     public int hashCode() {
-        return courseName.hashCode();
+        return CourseNameIndex.foldedHashCode(courseName);
     }
 }
\ No newline at end of file
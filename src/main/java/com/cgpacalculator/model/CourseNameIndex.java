@@ -0,0 +1,221 @@
+package com.cgpacalculator.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Case-insensitive multiset of course names with O(1) add, remove and lookup.
+// Names are case-folded into a shared byte arena and found through an open-addressing
+// table, so lookups allocate nothing. String keys fold like String.equalsIgnoreCase;
+// raw UTF-8 keys (used by the transcript importer) fold ASCII letters only, so both
+// kinds agree for ASCII names. Not thread-safe.
+public final class CourseNameIndex {
+    private static final int MIN_CAPACITY = 16;
+    
+    // Open-addressing table of entry number + 1; 0 marks an empty slot
+    private int[] slots;
+    
+    // Per-entry columns; an entry whose count drops to 0 stays until clear()
+    private int[] hashes;
+    private int[] offsets;
+    private int[] lengths;
+    private int[] counts;
+    private int entryCount;
+    private int distinctNames;
+    
+    // Folded key bytes of every entry, and scratch space for the key being looked up
+    private byte[] arena;
+    private int arenaSize;
+    private byte[] key = new byte[64];
+    private int keyLength;
+    
+    public CourseNameIndex() {
+        this(MIN_CAPACITY);
+    }
+    
+    public CourseNameIndex(int expectedNames) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedNames) * 2 - 1) << 1;
+        slots = new int[capacity];
+        hashes = new int[capacity / 2];
+        offsets = new int[capacity / 2];
+        lengths = new int[capacity / 2];
+        counts = new int[capacity / 2];
+        arena = new byte[capacity * 8];
+    }
+    
+    // Adds one occurrence of a name; returns the occurrences now indexed (1 for a new name)
+    public int add(String name) {
+        foldKey(name);
+        return addKey();
+    }
+    
+    // Adds one occurrence of a UTF-8 name held in buffer[from, to)
+    public int add(ByteBuffer buffer, int from, int to) {
+        foldKey(buffer, from, to);
+        return addKey();
+    }
+    
+    // Removes one occurrence of a name; returns the occurrences left
+    public int remove(String name) {
+        foldKey(name);
+        int entry = findKey(hashKey());
+        if (entry < 0 || counts[entry] == 0) {
+            return 0;
+        }
+        if (--counts[entry] == 0) {
+            distinctNames--;
+        }
+        return counts[entry];
+    }
+    
+    public int count(String name) {
+        foldKey(name);
+        int entry = findKey(hashKey());
+        return entry < 0 ? 0 : counts[entry];
+    }
+    
+    public boolean contains(String name) {
+        return count(name) > 0;
+    }
+    
+    // Number of distinct names currently indexed
+    public int size() {
+        return distinctNames;
+    }
+    
+    public void clear() {
+        Arrays.fill(slots, 0);
+        entryCount = 0;
+        distinctNames = 0;
+        arenaSize = 0;
+    }
+    
+    // Same folding as the index, for Course.hashCode
+    static int foldedHashCode(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + fold(name.charAt(i));
+        }
+        return hash;
+    }
+    
+    private int addKey() {
+        int hash = hashKey();
+        int entry = findKey(hash);
+        if (entry < 0) {
+            entry = insertKey(hash);
+        }
+        if (counts[entry]++ == 0) {
+            distinctNames++;
+        }
+        return counts[entry];
+    }
+    
+    private int findKey(int hash) {
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == hash && lengths[entry] == keyLength
+                    && Arrays.equals(arena, offsets[entry], offsets[entry] + keyLength, key, 0, keyLength)) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+    
+    private int insertKey(int hash) {
+        if ((entryCount + 1) * 2 > slots.length) {
+            grow();
+        }
+        if (arenaSize + keyLength > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + keyLength));
+        }
+        
+        int entry = entryCount++;
+        System.arraycopy(key, 0, arena, arenaSize, keyLength);
+        hashes[entry] = hash;
+        offsets[entry] = arenaSize;
+        lengths[entry] = keyLength;
+        counts[entry] = 0;
+        arenaSize += keyLength;
+        
+        placeEntry(entry);
+        return entry;
+    }
+    
+    private void grow() {
+        int capacity = slots.length * 2;
+        slots = new int[capacity];
+        hashes = Arrays.copyOf(hashes, capacity / 2);
+        offsets = Arrays.copyOf(offsets, capacity / 2);
+        lengths = Arrays.copyOf(lengths, capacity / 2);
+        counts = Arrays.copyOf(counts, capacity / 2);
+        for (int entry = 0; entry < entryCount; entry++) {
+            placeEntry(entry);
+        }
+    }
+    
+    private void placeEntry(int entry) {
+        int mask = slots.length - 1;
+        int slot = hashes[entry] & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry + 1;
+    }
+    
+    // Murmur3 finalizer over the folded key, so similar names spread across the table
+    private int hashKey() {
+        int hash = 0;
+        for (int i = 0; i < keyLength; i++) {
+            hash = 31 * hash + key[i];
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+    
+    // Folds each char and encodes it as UTF-8 (surrogates are encoded individually)
+    private void foldKey(String name) {
+        ensureKeyCapacity(name.length() * 3);
+        int length = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            if (c < 0x80) {
+                key[length++] = (byte) c;
+            } else if (c < 0x800) {
+                key[length++] = (byte) (0xC0 | (c >> 6));
+                key[length++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                key[length++] = (byte) (0xE0 | (c >> 12));
+                key[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                key[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        keyLength = length;
+    }
+    
+    private void foldKey(ByteBuffer buffer, int from, int to) {
+        ensureKeyCapacity(to - from);
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            key[length++] = b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+        }
+        keyLength = length;
+    }
+    
+    private void ensureKeyCapacity(int bytes) {
+        if (bytes > key.length) {
+            key = new byte[Math.max(bytes, key.length * 2)];
+        }
+    }
+    
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
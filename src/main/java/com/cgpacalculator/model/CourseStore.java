@@ -0,0 +1,268 @@
+package com.cgpacalculator.model;
+
+import com.cgpacalculator.utils.Decimals;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar, primitive-array store of course rows for many students.
+ * Courses of student {@code s} occupy rows {@link #getCourseStart(int)} (inclusive)
+ * to {@link #getCourseEnd(int)} (exclusive). Course names are dictionary-encoded,
+ * units and grades take one byte each, so a row costs six bytes. Grade ordinals refer to
+ * the grading scale that was in use when the builder was created. Prior CGPAs are kept in
+ * whole hundredths.
+ * Instances are immutable once built; use {@link Builder} to create one.
+ */
+public final class CourseStore {
+    
+    /** Grade ordinal stored for grades that are not on the store's grading scale */
+    public static final byte INVALID_GRADE = (byte) GradingScale.INVALID_ORDINAL;
+    
+    private final GradingScale gradingScale;
+    private final int studentCount;
+    private final int courseCount;
+    private final int[] studentOffsets;
+    private final byte[] units;
+    private final byte[] gradeOrdinals;
+    private final int[] courseIds;
+    private final String[] courseNames;
+    private final boolean[] validCourseNames;
+    private final int[] priorCGPA;
+    private final int[] priorUnits;
+    
+    private CourseStore(Builder builder) {
+        this.gradingScale = builder.gradingScale;
+        this.studentCount = builder.studentCount;
+        this.courseCount = builder.courseCount;
+        this.studentOffsets = Arrays.copyOf(builder.studentOffsets, studentCount + 1);
+        this.studentOffsets[studentCount] = courseCount;
+        this.units = Arrays.copyOf(builder.units, courseCount);
+        this.gradeOrdinals = Arrays.copyOf(builder.gradeOrdinals, courseCount);
+        this.courseIds = Arrays.copyOf(builder.courseIds, courseCount);
+        this.courseNames = builder.courseNames.toArray(new String[0]);
+        this.priorCGPA = Arrays.copyOf(builder.priorCGPA, studentCount);
+        this.priorUnits = Arrays.copyOf(builder.priorUnits, studentCount);
+        
+        this.validCourseNames = new boolean[courseNames.length];
+        for (int id = 0; id < courseNames.length; id++) {
+            String name = courseNames[id];
+            validCourseNames[id] = name != null && !name.trim().isEmpty();
+        }
+    }
+    
+    /**
+     * Creates a single-student store from a course list
+     */
+    public static CourseStore fromCourses(List<Course> courses, double priorCGPA, int priorUnits) {
+        Builder builder = new Builder(1, courses.size());
+        builder.startStudent(priorCGPA, priorUnits);
+        for (Course course : courses) {
+            builder.addCourse(course.getCourseName(), course.getUnits(), course.getLetterGrade());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Scale the grade ordinals refer to
+     */
+    public GradingScale getGradingScale() {
+        return gradingScale;
+    }
+    
+    public int getStudentCount() {
+        return studentCount;
+    }
+    
+    public int getCourseCount() {
+        return courseCount;
+    }
+    
+    public int getCourseStart(int student) {
+        return studentOffsets[student];
+    }
+    
+    public int getCourseEnd(int student) {
+        return studentOffsets[student + 1];
+    }
+    
+    public int getUnits(int row) {
+        return units[row];
+    }
+    
+    /**
+     * @return Ordinal on {@link #getGradingScale()}, or {@link #INVALID_GRADE}
+     */
+    public int getGradeOrdinal(int row) {
+        return gradeOrdinals[row];
+    }
+    
+    public int getCourseId(int row) {
+        return courseIds[row];
+    }
+    
+    public String getCourseName(int row) {
+        return courseNames[courseIds[row]];
+    }
+    
+    /**
+     * Checks the course name of a row without touching the String itself
+     */
+    public boolean hasValidCourseName(int row) {
+        return validCourseNames[courseIds[row]];
+    }
+    
+    /**
+     * Row offsets of every student plus the row count, so student {@code s} has rows
+     * {@code [offsets[s], offsets[s + 1])}. Shared with the store for bulk kernels; do not modify.
+     */
+    public int[] getStudentOffsetColumn() {
+        return studentOffsets;
+    }
+    
+    /**
+     * Units of every row. Shared with the store for bulk kernels; do not modify.
+     */
+    public byte[] getUnitColumn() {
+        return units;
+    }
+    
+    /**
+     * Grade ordinal of every row, {@link #INVALID_GRADE} for invalid grades. Shared with the
+     * store for bulk kernels; do not modify.
+     */
+    public byte[] getGradeOrdinalColumn() {
+        return gradeOrdinals;
+    }
+    
+    public int getDictionarySize() {
+        return courseNames.length;
+    }
+    
+    public double getPriorCGPA(int student) {
+        return Decimals.toDouble(priorCGPA[student]);
+    }
+    
+    public int getPriorCGPAHundredths(int student) {
+        return priorCGPA[student];
+    }
+    
+    public int getPriorUnits(int student) {
+        return priorUnits[student];
+    }
+    
+    /**
+     * Rebuilds the courses of one student as {@link Course} objects
+     */
+    public List<Course> getCourses(int student) {
+        List<Course> courses = new ArrayList<>(getCourseEnd(student) - getCourseStart(student));
+        for (int row = getCourseStart(student); row < getCourseEnd(student); row++) {
+            courses.add(new Course(getCourseName(row), units[row], gradingScale.labelOf(gradeOrdinals[row]), gradingScale));
+        }
+        return courses;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("CourseStore{students=%d, courses=%d, distinctCourseNames=%d}",
+                           studentCount, courseCount, courseNames.length);
+    }
+    
+    /**
+     * Appends students and their course rows into growable primitive arrays
+     */
+    public static final class Builder {
+        
+        private final GradingScale gradingScale = GradingScales.current();
+        private int studentCount;
+        private int courseCount;
+        private int[] studentOffsets;
+        private byte[] units;
+        private byte[] gradeOrdinals;
+        private int[] courseIds;
+        private int[] priorCGPA;
+        private int[] priorUnits;
+        private final List<String> courseNames = new ArrayList<>();
+        private final Map<String, Integer> courseIdsByName = new HashMap<>();
+        
+        public Builder() {
+            this(16, 256);
+        }
+        
+        public Builder(int expectedStudents, int expectedCourses) {
+            int studentCapacity = Math.max(expectedStudents, 1);
+            int courseCapacity = Math.max(expectedCourses, 1);
+            this.studentOffsets = new int[studentCapacity + 1];
+            this.priorCGPA = new int[studentCapacity];
+            this.priorUnits = new int[studentCapacity];
+            this.units = new byte[courseCapacity];
+            this.gradeOrdinals = new byte[courseCapacity];
+            this.courseIds = new int[courseCapacity];
+        }
+        
+        /**
+         * Starts a new student; following course rows belong to it
+         * @param priorCGPA CGPA before this semester (0 for new students), to the nearest hundredth
+         * @param priorUnits Cumulative units before this semester (0 for new students)
+         * @return Index of the new student
+         */
+        public int startStudent(double priorCGPA, int priorUnits) {
+            if (studentCount == this.priorCGPA.length) {
+                int capacity = this.priorCGPA.length * 2;
+                this.studentOffsets = Arrays.copyOf(studentOffsets, capacity + 1);
+                this.priorCGPA = Arrays.copyOf(this.priorCGPA, capacity);
+                this.priorUnits = Arrays.copyOf(this.priorUnits, capacity);
+            }
+            studentOffsets[studentCount] = courseCount;
+            this.priorCGPA[studentCount] = (int) Decimals.toHundredths(priorCGPA);
+            this.priorUnits[studentCount] = priorUnits;
+            return studentCount++;
+        }
+        
+        /**
+         * Returns the dictionary id of a course name, adding it if needed
+         */
+        public int courseId(String courseName) {
+            Integer id = courseIdsByName.get(courseName);
+            if (id == null) {
+                id = courseNames.size();
+                courseNames.add(courseName);
+                courseIdsByName.put(courseName, id);
+            }
+            return id;
+        }
+        
+        public Builder addCourse(String courseName, int units, String letterGrade) {
+            return addCourse(courseId(courseName), units, gradingScale.ordinalOf(letterGrade));
+        }
+        
+        /**
+         * Adds a pre-encoded course row to the current student.
+         * Units outside 0-127 are stored as 0 and unknown grade ordinals as
+         * {@link #INVALID_GRADE} so validation reports them as invalid.
+         */
+        public Builder addCourse(int courseId, int units, int gradeOrdinal) {
+            if (studentCount == 0) {
+                throw new IllegalStateException("startStudent must be called before adding courses");
+            }
+            if (courseCount == this.units.length) {
+                int capacity = this.units.length * 2;
+                this.units = Arrays.copyOf(this.units, capacity);
+                this.gradeOrdinals = Arrays.copyOf(gradeOrdinals, capacity);
+                this.courseIds = Arrays.copyOf(courseIds, capacity);
+            }
+            this.units[courseCount] = units >= 0 && units <= Byte.MAX_VALUE ? (byte) units : 0;
+            this.gradeOrdinals[courseCount] = gradeOrdinal >= 0 && gradeOrdinal < gradingScale.count()
+                ? (byte) gradeOrdinal : INVALID_GRADE;
+            this.courseIds[courseCount] = courseId;
+            courseCount++;
+            return this;
+        }
+        
+        public CourseStore build() {
+            return new CourseStore(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.cgpacalculator.model;
+
+// Letter grades of the built-in 5-point scale. GradingScale.FIVE_POINT is compiled from them;
+// lookups go through the GradingScale in use, since faculties may configure other scales.
+public enum Grade {
+    A('A', 5.0),
+    B('B', 4.0),
+    C('C', 3.0),
+    D('D', 2.0),
+    E('E', 1.0),
+    F('F', 0.0);
+    
+    private final char letter;
+    private final String label;
+    private final double points;
+    
+    Grade(char letter, double points) {
+        this.letter = letter;
+        this.label = String.valueOf(letter);
+        this.points = points;
+    }
+    
+    public char getLetter() {
+        return letter;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public double getPoints() {
+        return points;
+    }
+}
@@ -0,0 +1,380 @@
+package com.cgpacalculator.model;
+
+import com.cgpacalculator.utils.Decimals;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+// Immutable grading scale compiled into primitive lookup tables.
+// Grades are identified by ordinal, best first, as on the Grade enum; labels are 1-4 ASCII
+// characters and case-insensitive. A percentage scale also accepts whole marks 0-100, each
+// mapped to the grade whose band it falls in. Every lookup is an array index or a short probe
+// of an int-keyed table, so resolving a grade never allocates; hot loops read the current
+// scale once and use its tables directly.
+public final class GradingScale {
+    
+    // Ordinal returned for characters and strings that are not a grade
+    public static final int INVALID_ORDINAL = -1;
+    
+    // Ordinals are stored in one byte by CourseStore and the save files
+    public static final int MAX_GRADES = 32;
+    public static final int MAX_LABEL_LENGTH = 4;
+    public static final int MAX_MARK = 100;
+    
+    // Highest grade points in hundredths; keeps units times points well inside an int
+    public static final int MAX_POINTS_HUNDREDTHS = 10000;
+    
+    // ASCII upper-casing without a branch
+    private static final byte[] UPPER_CASE = new byte[128];
+    
+    static {
+        for (int c = 0; c < UPPER_CASE.length; c++) {
+            UPPER_CASE[c] = (byte) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+        }
+    }
+    
+    // Fingerprints are relative to the Grade enum's scale, which therefore gets 0
+    private static final int FIVE_POINT_CHECKSUM = checksum(gradeLabels(), gradePoints(), null);
+    
+    // The built-in 5-point scale, from the Grade enum
+    public static final GradingScale FIVE_POINT =
+        new GradingScale("five-point", "5-point (A-F)", gradeLabels(), gradePoints(), null,
+                         ClassificationScheme.FIVE_POINT);
+    
+    private final String name;
+    private final String displayName;
+    private final String[] labels;
+    private final int[] minMarks;
+    private final ClassificationScheme classificationScheme;
+    private final double maxPoints;
+    private final int fingerprint;
+    
+    // Grade points shifted by one so that INVALID_ORDINAL maps to slot 0 (0.0 points)
+    private final double[] pointsBySlot;
+    
+    // The same grade points in whole hundredths, for exact credit sums
+    private final int[] hundredthsBySlot;
+    
+    // ASCII character to ordinal, for one-character labels and marks 0-9
+    private final byte[] ordinalByChar = new byte[128];
+    
+    // Longer labels and marks: upper-cased characters packed into an int, open addressing
+    private final int[] keys;
+    private final byte[] keyOrdinals;
+    private final int keyShift;
+    
+    // name: identifier used in configuration; labels, points: one entry per grade, best first;
+    // minMarks: lowest mark of each grade's band, or null if the scale takes no marks;
+    // classificationScheme: classes of CGPAs on this scale
+    public GradingScale(String name, String displayName, String[] labels, double[] points, int[] minMarks,
+                        ClassificationScheme classificationScheme) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Grading scale name is required");
+        }
+        if (labels.length == 0 || labels.length > MAX_GRADES) {
+            throw new IllegalArgumentException("Grading scale " + name + " needs 1-" + MAX_GRADES + " grades, has " + labels.length);
+        }
+        if (classificationScheme == null) {
+            throw new IllegalArgumentException("Grading scale " + name + " needs a classification scheme");
+        }
+        if (points.length != labels.length || (minMarks != null && minMarks.length != labels.length)) {
+            throw new IllegalArgumentException("Grading scale " + name + " needs points"
+                + (minMarks != null ? " and a mark band" : "") + " for every grade");
+        }
+        
+        this.name = name.trim();
+        this.displayName = displayName == null || displayName.trim().isEmpty() ? this.name : displayName.trim();
+        this.labels = labels.clone();
+        this.minMarks = minMarks == null ? null : minMarks.clone();
+        this.classificationScheme = classificationScheme;
+        this.pointsBySlot = new double[labels.length + 1];
+        this.hundredthsBySlot = new int[labels.length + 1];
+        
+        double max = 0.0;
+        for (int ordinal = 0; ordinal < labels.length; ordinal++) {
+            if (!(points[ordinal] >= 0.0) || Double.isInfinite(points[ordinal])) {
+                throw new IllegalArgumentException("Invalid points for grade " + labels[ordinal] + ": " + points[ordinal]);
+            }
+            long hundredths = Decimals.toHundredths(points[ordinal]);
+            if (Math.abs(points[ordinal] * Decimals.HUNDREDTHS - hundredths) > 1e-6 || hundredths > MAX_POINTS_HUNDREDTHS) {
+                throw new IllegalArgumentException("Points for grade " + labels[ordinal]
+                    + " must be whole hundredths up to 100.00: " + points[ordinal]);
+            }
+            // Exactly the hundredths, so pointsOf and hundredthsOf always agree
+            pointsBySlot[ordinal + 1] = Decimals.toDouble(hundredths);
+            hundredthsBySlot[ordinal + 1] = (int) hundredths;
+            max = Math.max(max, points[ordinal]);
+        }
+        this.maxPoints = max;
+        
+        // Every label, plus every mark on a percentage scale, resolves to an ordinal
+        int longKeys = 0;
+        for (String label : labels) {
+            longKeys += label != null && label.length() > 1 ? 1 : 0;
+        }
+        int tableSize = Integer.highestOneBit(Math.max((longKeys + (minMarks == null ? 0 : MAX_MARK + 1)) * 2, 8) - 1) << 1;
+        this.keys = new int[tableSize];
+        this.keyOrdinals = new byte[tableSize];
+        this.keyShift = Integer.numberOfLeadingZeros(tableSize) + 1;
+        Arrays.fill(ordinalByChar, (byte) INVALID_ORDINAL);
+        
+        for (int ordinal = 0; ordinal < labels.length; ordinal++) {
+            String label = labels[ordinal];
+            if (!isValidLabel(label)) {
+                throw new IllegalArgumentException("Grade labels must be 1-" + MAX_LABEL_LENGTH
+                    + " letters, digits or symbols without spaces or commas (provided: '" + label + "')");
+            }
+            define(label, ordinal);
+        }
+        if (minMarks != null) {
+            defineMarks();
+        }
+        this.fingerprint = checksum(this.labels, points, this.minMarks) ^ FIVE_POINT_CHECKSUM;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    // Name shown in the UI
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    // Number of grades on the scale
+    public int count() {
+        return labels.length;
+    }
+    
+    public String getLabel(int ordinal) {
+        return labels[ordinal];
+    }
+    
+    public String[] getLabels() {
+        return labels.clone();
+    }
+    
+    // Highest grade points, i.e. the top of the CGPA range
+    public double getMaxPoints() {
+        return maxPoints;
+    }
+    
+    // True if whole marks 0-100 are accepted as grades
+    public boolean acceptsMarks() {
+        return minMarks != null;
+    }
+    
+    // Lowest mark of a grade's band; only for scales that accept marks
+    public int getMinMark(int ordinal) {
+        return minMarks[ordinal];
+    }
+    
+    // Classes of CGPAs on this scale
+    public ClassificationScheme getClassificationScheme() {
+        return classificationScheme;
+    }
+    
+    // Identifies the grades and points (not the names); 0 for the built-in 5-point scale,
+    // so files written before scales were configurable read back unchanged
+    public int getFingerprint() {
+        return fingerprint;
+    }
+    
+    // Grade points for an ordinal; INVALID_ORDINAL yields 0.0 without a branch
+    public double pointsOf(int ordinal) {
+        return pointsBySlot[ordinal + 1];
+    }
+    
+    // Grade points for an ordinal in hundredths, e.g. 370 for 3.70; INVALID_ORDINAL yields 0
+    public int hundredthsOf(int ordinal) {
+        return hundredthsBySlot[ordinal + 1];
+    }
+    
+    // Label for an ordinal, or "" for INVALID_ORDINAL and out-of-range ordinals from old data
+    public String labelOf(int ordinal) {
+        return ordinal >= 0 && ordinal < labels.length ? labels[ordinal] : "";
+    }
+    
+    // Ordinal of a grade string (case-insensitive), or INVALID_ORDINAL; never allocates
+    public int ordinalOf(String grade) {
+        if (grade == null) {
+            return INVALID_ORDINAL;
+        }
+        int length = grade.length();
+        if (length == 1) {
+            return ordinalOf(grade.charAt(0));
+        }
+        if (length == 0 || length > MAX_LABEL_LENGTH) {
+            return INVALID_ORDINAL;
+        }
+        int key = 0;
+        for (int i = 0; i < length; i++) {
+            char c = grade.charAt(i);
+            // No label has control characters or spaces; a NUL would otherwise pack to an empty key
+            if (c <= ' ' || c >= UPPER_CASE.length) {
+                return INVALID_ORDINAL;
+            }
+            key = key << 8 | UPPER_CASE[c];
+        }
+        return lookup(key);
+    }
+    
+    // Ordinal of a grade character, or INVALID_ORDINAL
+    public int ordinalOf(char grade) {
+        return grade < ordinalByChar.length ? ordinalByChar[grade] : INVALID_ORDINAL;
+    }
+    
+    // Ordinal of a grade byte from raw ASCII/UTF-8 input, or INVALID_ORDINAL
+    public int ordinalOf(byte grade) {
+        return grade >= 0 ? ordinalByChar[grade] : INVALID_ORDINAL;
+    }
+    
+    // Ordinal of the ASCII/UTF-8 grade in buffer[from, to), for parsers that never build Strings
+    public int ordinalOf(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (length == 1) {
+            return ordinalOf(buffer.get(from));
+        }
+        if (length <= 0 || length > MAX_LABEL_LENGTH) {
+            return INVALID_ORDINAL;
+        }
+        int key = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b <= ' ') {
+                return INVALID_ORDINAL;
+            }
+            key = key << 8 | UPPER_CASE[b];
+        }
+        return lookup(key);
+    }
+    
+    // Grade points for a grade string (0.0 for unknown grades)
+    public double pointsOf(String grade) {
+        return pointsOf(ordinalOf(grade));
+    }
+    
+    public boolean isValid(String grade) {
+        return ordinalOf(grade) != INVALID_ORDINAL;
+    }
+    
+    // e.g. "A, B, C, D, E or F", followed by the mark range on percentage scales
+    public String describeGrades() {
+        StringBuilder text = new StringBuilder();
+        for (int ordinal = 0; ordinal < labels.length; ordinal++) {
+            if (ordinal > 0) {
+                text.append(ordinal == labels.length - 1 ? " or " : ", ");
+            }
+            text.append(labels[ordinal]);
+        }
+        if (minMarks != null) {
+            text.append(", or a mark from 0 to ").append(MAX_MARK);
+        }
+        return text.toString();
+    }
+    
+    private int lookup(int key) {
+        int mask = keys.length - 1;
+        for (int slot = (key * 0x9E3779B9) >>> keyShift; ; slot = (slot + 1) & mask) {
+            int candidate = keys[slot];
+            if (candidate == key) {
+                return keyOrdinals[slot];
+            }
+            if (candidate == 0) {
+                return INVALID_ORDINAL;
+            }
+        }
+    }
+    
+    private void define(String text, int ordinal) {
+        if (ordinalOf(text) != INVALID_ORDINAL) {
+            throw new IllegalArgumentException("Grade " + text + " appears twice on grading scale " + name);
+        }
+        if (text.length() == 1) {
+            char c = text.charAt(0);
+            ordinalByChar[c] = (byte) ordinal;
+            ordinalByChar[Character.toLowerCase(c)] = (byte) ordinal;
+            return;
+        }
+        int key = 0;
+        for (int i = 0; i < text.length(); i++) {
+            key = key << 8 | UPPER_CASE[text.charAt(i)];
+        }
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9) >>> keyShift;
+        while (keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        keyOrdinals[slot] = (byte) ordinal;
+    }
+    
+    // Each mark belongs to the grade with the highest band start at or below it;
+    // marks below every band stay invalid
+    private void defineMarks() {
+        for (int ordinal = 0; ordinal < minMarks.length; ordinal++) {
+            if (minMarks[ordinal] < 0 || minMarks[ordinal] > MAX_MARK) {
+                throw new IllegalArgumentException("Mark band of grade " + labels[ordinal] + " must start at 0-"
+                    + MAX_MARK + " (provided: " + minMarks[ordinal] + ")");
+            }
+        }
+        for (int mark = 0; mark <= MAX_MARK; mark++) {
+            int grade = INVALID_ORDINAL;
+            for (int ordinal = 0; ordinal < minMarks.length; ordinal++) {
+                if (minMarks[ordinal] <= mark && (grade == INVALID_ORDINAL || minMarks[ordinal] > minMarks[grade])) {
+                    grade = ordinal;
+                }
+            }
+            if (grade != INVALID_ORDINAL) {
+                define(Integer.toString(mark), grade);
+            }
+        }
+    }
+    
+    // Points count to the hundredth, so 3.7 and 3.70 are the same scale
+    private static int checksum(String[] labels, double[] points, int[] minMarks) {
+        CRC32 crc = new CRC32();
+        for (int ordinal = 0; ordinal < labels.length; ordinal++) {
+            crc.update(labels[ordinal].toUpperCase().getBytes(StandardCharsets.US_ASCII));
+            crc.update(0);
+            crc.update(Long.toString(Math.round(points[ordinal] * 100)).getBytes(StandardCharsets.US_ASCII));
+            crc.update(minMarks == null ? 0 : minMarks[ordinal] + 1);
+        }
+        return (int) crc.getValue();
+    }
+    
+    private static boolean isValidLabel(String label) {
+        if (label == null || label.isEmpty() || label.length() > MAX_LABEL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c <= ' ' || c >= 127 || c == ',' || c == '"') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static String[] gradeLabels() {
+        String[] labels = new String[Grade.values().length];
+        for (Grade grade : Grade.values()) {
+            labels[grade.ordinal()] = grade.getLabel();
+        }
+        return labels;
+    }
+    
+    private static double[] gradePoints() {
+        double[] points = new double[Grade.values().length];
+        for (Grade grade : Grade.values()) {
+            points[grade.ordinal()] = grade.getPoints();
+        }
+        return points;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("GradingScale{name='%s', grades=%d, max=%.2f}", name, labels.length, maxPoints);
+    }
+}
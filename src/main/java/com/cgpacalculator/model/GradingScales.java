@@ -0,0 +1,89 @@
+package com.cgpacalculator.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Process-wide registry of the configured grading scales and the one in use.
+// Scales are immutable, so switching is a single volatile write: an operation that reads
+// current() once sees one consistent scale even if another thread switches meanwhile.
+// Courses resolve their grade when created, so callers rebuild them after a switch.
+public final class GradingScales {
+    
+    private static volatile Map<String, GradingScale> available =
+        Collections.singletonMap(GradingScale.FIVE_POINT.getName(), GradingScale.FIVE_POINT);
+    private static volatile GradingScale current = GradingScale.FIVE_POINT;
+    
+    private GradingScales() {
+        throw new UnsupportedOperationException("GradingScales class cannot be instantiated");
+    }
+    
+    // Scale used for new courses and calculations
+    public static GradingScale current() {
+        return current;
+    }
+    
+    // Switches to another scale; returns the previous one
+    public static synchronized GradingScale use(GradingScale scale) {
+        if (scale == null) {
+            throw new IllegalArgumentException("Grading scale is required");
+        }
+        GradingScale previous = current;
+        current = scale;
+        return previous;
+    }
+    
+    // Switches to a configured scale by name
+    public static GradingScale use(String name) {
+        GradingScale scale = find(name);
+        if (scale == null) {
+            throw new IllegalArgumentException("Unknown grading scale: " + name + " (available: "
+                + String.join(", ", available.keySet()) + ")");
+        }
+        return use(scale);
+    }
+    
+    // Configured scale with the given name, or null
+    public static GradingScale find(String name) {
+        return name == null ? null : available.get(name.trim());
+    }
+    
+    // Configured scale with the given fingerprint, or null; used to read files saved under another scale
+    public static GradingScale findByFingerprint(int fingerprint) {
+        if (current.getFingerprint() == fingerprint) {
+            return current;
+        }
+        if (fingerprint == GradingScale.FIVE_POINT.getFingerprint()) {
+            return GradingScale.FIVE_POINT;
+        }
+        for (GradingScale scale : available.values()) {
+            if (scale.getFingerprint() == fingerprint) {
+                return scale;
+            }
+        }
+        return null;
+    }
+    
+    // Configured scales in configuration order
+    public static List<GradingScale> available() {
+        return new ArrayList<>(available.values());
+    }
+    
+    // Replaces the configured scales and switches to the given default (which must be one of them)
+    public static synchronized void install(Collection<GradingScale> scales, GradingScale defaultScale) {
+        Map<String, GradingScale> byName = new LinkedHashMap<>();
+        for (GradingScale scale : scales) {
+            if (byName.put(scale.getName(), scale) != null) {
+                throw new IllegalArgumentException("Grading scale " + scale.getName() + " is defined twice");
+            }
+        }
+        if (byName.get(defaultScale.getName()) != defaultScale) {
+            throw new IllegalArgumentException("Default grading scale " + defaultScale.getName() + " is not configured");
+        }
+        available = Collections.unmodifiableMap(byName);
+        current = defaultScale;
+    }
+}
@@ -0,0 +1,141 @@
+package com.cgpacalculator.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// One term's courses with cached unit and credit-point sums.
+// Every change updates the cached SemesterTotals in O(1) and reports the difference to the
+// owning Student, so cumulative figures never rescan courses. Course instances are treated
+// as values: replace a course with setCourse rather than mutating it.
+public class Semester {
+    private final String name;
+    private final List<Course> courses = new ArrayList<>();
+    private final SemesterTotals totals = new SemesterTotals();
+    private Student owner;
+    
+    public Semester(String name) {
+        this.name = name == null ? "" : name;
+    }
+    
+    public Semester(String name, Collection<Course> courses) {
+        this(name);
+        for (Course course : courses) {
+            this.courses.add(course);
+            totals.add(course);
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getCourseCount() {
+        return courses.size();
+    }
+    
+    public Course getCourse(int index) {
+        return courses.get(index);
+    }
+    
+    // Read-only view of the courses; copy it before handing it to another thread
+    public List<Course> getCourses() {
+        return Collections.unmodifiableList(courses);
+    }
+    
+    public SemesterTotals getTotals() {
+        return totals;
+    }
+    
+    public int getTotalUnits() {
+        return totals.getTotalUnits();
+    }
+    
+    public double getTotalCreditPoints() {
+        return totals.getTotalCreditPoints();
+    }
+    
+    public long getTotalCreditHundredths() {
+        return totals.getTotalCreditHundredths();
+    }
+    
+    public double getGPA() {
+        return totals.getGPA();
+    }
+    
+    public Student getOwner() {
+        return owner;
+    }
+    
+    public void addCourse(Course course) {
+        int oldUnits = totals.getTotalUnits();
+        long oldCreditHundredths = totals.getTotalCreditHundredths();
+        courses.add(course);
+        totals.add(course);
+        changed(oldUnits, oldCreditHundredths);
+    }
+    
+    public void addCourses(Collection<Course> added) {
+        int oldUnits = totals.getTotalUnits();
+        long oldCreditHundredths = totals.getTotalCreditHundredths();
+        for (Course course : added) {
+            courses.add(course);
+            totals.add(course);
+        }
+        changed(oldUnits, oldCreditHundredths);
+    }
+    
+    // Replaces the course at index; returns the course it replaced
+    public Course setCourse(int index, Course course) {
+        int oldUnits = totals.getTotalUnits();
+        long oldCreditHundredths = totals.getTotalCreditHundredths();
+        Course old = courses.set(index, course);
+        totals.update(old, course);
+        changed(oldUnits, oldCreditHundredths);
+        return old;
+    }
+    
+    public Course removeCourse(int index) {
+        int oldUnits = totals.getTotalUnits();
+        long oldCreditHundredths = totals.getTotalCreditHundredths();
+        Course old = courses.remove(index);
+        totals.remove(old);
+        changed(oldUnits, oldCreditHundredths);
+        return old;
+    }
+    
+    // Replaces every course
+    public void setCourses(Collection<Course> replacement) {
+        int oldUnits = totals.getTotalUnits();
+        long oldCreditHundredths = totals.getTotalCreditHundredths();
+        courses.clear();
+        totals.clear();
+        for (Course course : replacement) {
+            courses.add(course);
+            totals.add(course);
+        }
+        changed(oldUnits, oldCreditHundredths);
+    }
+    
+    public void clear() {
+        setCourses(Collections.emptyList());
+    }
+    
+    void setOwner(Student owner) {
+        this.owner = owner;
+    }
+    
+    private void changed(int oldUnits, long oldCreditHundredths) {
+        if (owner != null) {
+            owner.semesterChanged(this, totals.getTotalUnits() - oldUnits,
+                                  totals.getTotalCreditHundredths() - oldCreditHundredths);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Semester{name='%s', courses=%d, units=%d, gpa=%.2f}",
+                           name, courses.size(), totals.getTotalUnits(), totals.getGPA());
+    }
+}
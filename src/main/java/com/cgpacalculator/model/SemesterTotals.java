@@ -0,0 +1,80 @@
+package com.cgpacalculator.model;
+
+import com.cgpacalculator.utils.Decimals;
+
+// Running totals for one semester's courses: units, credit points, course count and grade histogram.
+// Every update is O(1), so callers never need to rescan their course list. Credit points are
+// kept in whole hundredths, so adding and removing courses in any order never drifts.
+public class SemesterTotals {
+    private int courseCount;
+    private int totalUnits;
+    private long totalCreditHundredths;
+    
+    // Courses per grade ordinal; the last slot counts courses with an invalid grade
+    private final int[] gradeHistogram = new int[GradingScale.MAX_GRADES + 1];
+    
+    // Records a course being added
+    public void add(Course course) {
+        courseCount++;
+        totalUnits += course.getUnits();
+        totalCreditHundredths += course.getCreditHundredths();
+        gradeHistogram[slotOf(course.getGradeOrdinal())]++;
+    }
+    
+    // Records a course being removed; it must be the instance passed to add
+    public void remove(Course course) {
+        courseCount--;
+        totalUnits -= course.getUnits();
+        totalCreditHundredths -= course.getCreditHundredths();
+        gradeHistogram[slotOf(course.getGradeOrdinal())]--;
+    }
+    
+    // Records one course replacing another
+    public void update(Course oldCourse, Course newCourse) {
+        remove(oldCourse);
+        add(newCourse);
+    }
+    
+    public void clear() {
+        courseCount = 0;
+        totalUnits = 0;
+        totalCreditHundredths = 0;
+        java.util.Arrays.fill(gradeHistogram, 0);
+    }
+    
+    public int getCourseCount() {
+        return courseCount;
+    }
+    
+    public int getTotalUnits() {
+        return totalUnits;
+    }
+    
+    public double getTotalCreditPoints() {
+        return Decimals.toDouble(totalCreditHundredths);
+    }
+    
+    public long getTotalCreditHundredths() {
+        return totalCreditHundredths;
+    }
+    
+    // Semester GPA from the running totals, rounded to hundredths (0.0 when no units are recorded)
+    public double getGPA() {
+        return Decimals.toDouble(Decimals.average(totalCreditHundredths, totalUnits, Decimals.getRounding()));
+    }
+    
+    // Number of courses with the given grade ordinal; INVALID_ORDINAL counts courses with an invalid grade
+    public int getGradeCount(int gradeOrdinal) {
+        return gradeHistogram[slotOf(gradeOrdinal)];
+    }
+    
+    private static int slotOf(int gradeOrdinal) {
+        return gradeOrdinal == GradingScale.INVALID_ORDINAL ? GradingScale.MAX_GRADES : gradeOrdinal;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SemesterTotals{courses=%d, units=%d, creditPoints=%.1f}",
+                           courseCount, totalUnits, getTotalCreditPoints());
+    }
+}
@@ -0,0 +1,190 @@
+package com.cgpacalculator.model;
+
+import com.cgpacalculator.utils.Decimals;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// A student's academic history: an optional prior record (CGPA and units earned before the
+// listed semesters) followed by semesters in chronological order.
+// Cumulative sums are updated from each semester's change deltas, so getCGPA() is O(1) after
+// any edit. Running totals through each semester are cached as prefix sums; an edit only
+// invalidates the prefixes from the edited semester on, and they are rebuilt from the
+// semesters' cached sums on the next query, without rescanning any course. The prior CGPA and
+// all credit sums are whole hundredths, so the deltas cancel exactly and every CGPA is rounded
+// once, by Decimals.getRounding().
+public class Student {
+    private final List<Semester> semesters = new ArrayList<>();
+    
+    private long priorCGPAHundredths;
+    private int priorUnits;
+    
+    // Sums over all semesters, excluding the prior record
+    private int semesterUnits;
+    private long semesterCreditHundredths;
+    
+    // unitsThrough[i] / creditThrough[i]: sums over semesters 0..i; valid below validPrefix
+    private int[] unitsThrough = new int[8];
+    private long[] creditThrough = new long[8];
+    private int validPrefix;
+    
+    public int getSemesterCount() {
+        return semesters.size();
+    }
+    
+    public Semester getSemester(int index) {
+        return semesters.get(index);
+    }
+    
+    public List<Semester> getSemesters() {
+        return Collections.unmodifiableList(semesters);
+    }
+    
+    // Latest semester, or null if there is none
+    public Semester getCurrentSemester() {
+        return semesters.isEmpty() ? null : semesters.get(semesters.size() - 1);
+    }
+    
+    public void addSemester(Semester semester) {
+        addSemester(semesters.size(), semester);
+    }
+    
+    public void addSemester(int index, Semester semester) {
+        if (semester.getOwner() != null) {
+            throw new IllegalArgumentException("Semester already belongs to a student: " + semester.getName());
+        }
+        semesters.add(index, semester);
+        semester.setOwner(this);
+        semesterUnits += semester.getTotalUnits();
+        semesterCreditHundredths += semester.getTotalCreditHundredths();
+        invalidateFrom(index);
+    }
+    
+    public Semester removeSemester(int index) {
+        Semester semester = semesters.remove(index);
+        semester.setOwner(null);
+        semesterUnits -= semester.getTotalUnits();
+        semesterCreditHundredths -= semester.getTotalCreditHundredths();
+        invalidateFrom(index);
+        return semester;
+    }
+    
+    // CGPA and units earned before the first listed semester (0 units for none);
+    // the CGPA is taken to the nearest hundredth
+    public void setPriorRecord(double priorCGPA, int priorUnits) {
+        this.priorCGPAHundredths = priorUnits > 0 ? Decimals.toHundredths(priorCGPA) : 0;
+        this.priorUnits = Math.max(priorUnits, 0);
+    }
+    
+    public double getPriorCGPA() {
+        return Decimals.toDouble(priorCGPAHundredths);
+    }
+    
+    public int getPriorUnits() {
+        return priorUnits;
+    }
+    
+    // Units over the prior record and every semester
+    public int getTotalUnits() {
+        return priorUnits + semesterUnits;
+    }
+    
+    public double getTotalCreditPoints() {
+        return Decimals.toDouble(getTotalCreditHundredths());
+    }
+    
+    public long getTotalCreditHundredths() {
+        return priorCreditHundredths() + semesterCreditHundredths;
+    }
+    
+    // Cumulative GPA over the prior record and every semester, in O(1)
+    public double getCGPA() {
+        return cgpa(getTotalCreditHundredths(), getTotalUnits());
+    }
+    
+    // Units over the prior record and semesters 0..index
+    public int getUnitsThrough(int index) {
+        ensurePrefix(index);
+        return priorUnits + unitsThrough[index];
+    }
+    
+    // CGPA as it stood at the end of the given semester
+    public double getCGPAThrough(int index) {
+        ensurePrefix(index);
+        return cgpa(priorCreditHundredths() + creditThrough[index], priorUnits + unitsThrough[index]);
+    }
+    
+    // Credit points, in hundredths, over the prior record and semesters 0..index; exact, unlike
+    // the rounded CGPA, so a later calculation on top of it rounds only once
+    public long getCreditHundredthsThrough(int index) {
+        ensurePrefix(index);
+        return priorCreditHundredths() + creditThrough[index];
+    }
+    
+    // Units before the given semester, including the prior record
+    public int getUnitsBefore(int index) {
+        return index == 0 ? priorUnits : getUnitsThrough(index - 1);
+    }
+    
+    // CGPA before the given semester, as the starting point for that semester's calculation
+    public double getCGPABefore(int index) {
+        return index == 0 ? getPriorCGPA() : getCGPAThrough(index - 1);
+    }
+    
+    // Credit points, in hundredths, before the given semester, including the prior record
+    public long getCreditHundredthsBefore(int index) {
+        return index == 0 ? priorCreditHundredths() : getCreditHundredthsThrough(index - 1);
+    }
+    
+    // Called by an owned semester after each change
+    void semesterChanged(Semester semester, int unitsDelta, long creditHundredthsDelta) {
+        semesterUnits += unitsDelta;
+        semesterCreditHundredths += creditHundredthsDelta;
+        invalidateFrom(semesters.indexOf(semester));
+    }
+    
+    private void invalidateFrom(int index) {
+        if (index >= 0 && index < validPrefix) {
+            validPrefix = index;
+        }
+    }
+    
+    private void ensurePrefix(int index) {
+        if (index < 0 || index >= semesters.size()) {
+            throw new IndexOutOfBoundsException("Semester " + index + " of " + semesters.size());
+        }
+        if (index < validPrefix) {
+            return;
+        }
+        if (semesters.size() > unitsThrough.length) {
+            unitsThrough = Arrays.copyOf(unitsThrough, Math.max(semesters.size(), unitsThrough.length * 2));
+            creditThrough = Arrays.copyOf(creditThrough, unitsThrough.length);
+        }
+        
+        int units = validPrefix == 0 ? 0 : unitsThrough[validPrefix - 1];
+        long credit = validPrefix == 0 ? 0 : creditThrough[validPrefix - 1];
+        for (int i = validPrefix; i <= index; i++) {
+            Semester semester = semesters.get(i);
+            units += semester.getTotalUnits();
+            credit += semester.getTotalCreditHundredths();
+            unitsThrough[i] = units;
+            creditThrough[i] = credit;
+        }
+        validPrefix = index + 1;
+    }
+    
+    private long priorCreditHundredths() {
+        return priorCGPAHundredths * priorUnits;
+    }
+    
+    private static double cgpa(long creditHundredths, int units) {
+        return Decimals.toDouble(Decimals.average(creditHundredths, units, Decimals.getRounding()));
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Student{semesters=%d, units=%d, cgpa=%.2f}",
+                           semesters.size(), getTotalUnits(), getCGPA());
+    }
+}
@@ -0,0 +1,318 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes the compact binary save format.
+ * <pre>
+ * Header (32 bytes, little-endian)
+ *   magic "CGPA", u16 version, u16 flags, i32 course count,
+ *   i32 string count, i32 string table bytes, i32 CRC32 of the body,
+ *   i32 completed semester count (version 2), i32 grade label count (version 3)
+ * Body
+ *   string table: per string a u16 byte length followed by UTF-8 bytes;
+ *                 entry 0 is the current CGPA input, entry 1 the cumulative units input,
+ *                 then one name per completed semester, then each distinct grade label
+ *   course records (8 bytes each): i32 name string index, i8 units, u8 grade label number,
+ *                 u16 semester (0 for the current semester, n for completed semester n)
+ * </pre>
+ * Version 1 files have no completed semesters and zeros in the fields version 2 added.
+ * Grades are stored as labels, so a file loads under any grading scale and courses keep grades
+ * the scale in use does not have. Version 2 files hold a grading scale fingerprint in place of
+ * the label count and grade ordinals on that scale (0 is the built-in 5-point scale).
+ * Files are written to a temporary sibling and moved into place, so a failed save
+ * never leaves a half-written file behind.
+ */
+public final class BinaryCourseDataFile {
+    
+    public static final int VERSION = 3;
+    
+    static final int MAGIC = 0x41504743; // "CGPA" read as a little-endian int
+    static final int HEADER_SIZE = 32;
+    static final int COURSE_RECORD_SIZE = 8;
+    static final int CHECKSUM_OFFSET = 20;
+    
+    private static final int CURRENT_CGPA_STRING = 0;
+    private static final int CUMULATIVE_UNITS_STRING = 1;
+    private static final int FIXED_STRING_COUNT = 2;
+    static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int MAX_SEMESTERS = 0xFFFF;
+    private static final int MAX_GRADE_LABELS = 0xFF + 1;
+    private static final int ORDINAL_GRADES_VERSION = 2;
+    
+    private BinaryCourseDataFile() {
+        throw new UnsupportedOperationException("BinaryCourseDataFile class cannot be instantiated");
+    }
+    
+    /**
+     * Writes course data to a file, replacing any previous content atomically
+     * @return Number of bytes written
+     */
+    public static int write(CourseData data, String fileName) throws IOException {
+        return writeEncoded(encode(data), fileName);
+    }
+    
+    /**
+     * Atomically writes an already encoded file image
+     * @return Number of bytes written
+     */
+    static int writeEncoded(ByteBuffer buffer, String fileName) throws IOException {
+        int size = buffer.remaining();
+        Path target = Paths.get(fileName).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+    
+    /**
+     * Reads course data from a file
+     * @throws IOException if the file is not a valid save file of a supported version
+     */
+    public static CourseData read(String fileName) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a CGPA data file: " + fileName);
+            }
+            buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Unexpected end of file: " + fileName);
+                }
+            }
+        }
+        buffer.flip();
+        return decode(buffer, fileName);
+    }
+    
+    /**
+     * Reads the body checksum from a save file's header, which identifies the snapshot
+     */
+    static int readChecksum(String fileName) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Not a CGPA data file: " + fileName);
+                }
+            }
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a CGPA data file: " + fileName);
+        }
+        return header.getInt(CHECKSUM_OFFSET);
+    }
+    
+    /**
+     * Checks whether a file starts with the binary format's magic number
+     */
+    public static boolean isBinaryFile(String fileName) {
+        ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // Keep reading until four bytes or end of file
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+    }
+    
+    static ByteBuffer encode(CourseData data) throws IOException {
+        List<SemesterData> history = data.getHistory();
+        if (history.size() > MAX_SEMESTERS) {
+            throw new IOException("Too many semesters to save (" + history.size() + ")");
+        }
+        
+        // Current semester first, then each completed semester in order
+        // Grade labels are numbered in order of first use
+        int courseCount = 0;
+        Map<String, Integer> gradeLabels = new LinkedHashMap<>();
+        for (int semester = 0; semester <= history.size(); semester++) {
+            List<Course> courses = coursesOf(data, semester);
+            courseCount += courses.size();
+            for (Course course : courses) {
+                gradeLabels.putIfAbsent(course.getLetterGrade(), gradeLabels.size());
+            }
+        }
+        if (gradeLabels.size() > MAX_GRADE_LABELS) {
+            throw new IOException("Too many different grades to save (" + gradeLabels.size() + ")");
+        }
+        
+        int firstLabelString = FIXED_STRING_COUNT + history.size();
+        int firstCourseString = firstLabelString + gradeLabels.size();
+        byte[][] strings = new byte[firstCourseString + courseCount][];
+        strings[CURRENT_CGPA_STRING] = utf8(data.getCurrentCGPA());
+        strings[CUMULATIVE_UNITS_STRING] = utf8(data.getCumulativeUnits());
+        for (int i = 0; i < history.size(); i++) {
+            strings[FIXED_STRING_COUNT + i] = utf8(history.get(i).getName());
+        }
+        for (Map.Entry<String, Integer> label : gradeLabels.entrySet()) {
+            strings[firstLabelString + label.getValue()] = utf8(label.getKey());
+        }
+        int nameIndex = firstCourseString;
+        for (int semester = 0; semester <= history.size(); semester++) {
+            for (Course course : coursesOf(data, semester)) {
+                strings[nameIndex++] = utf8(course.getCourseName());
+            }
+        }
+        
+        int stringTableBytes = 0;
+        for (byte[] string : strings) {
+            stringTableBytes += 2 + string.length;
+        }
+        
+        int size = HEADER_SIZE + stringTableBytes + courseCount * COURSE_RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+        
+        // Body first, so the checksum can be computed before the header is filled in
+        buffer.position(HEADER_SIZE);
+        for (byte[] string : strings) {
+            buffer.putShort((short) string.length);
+            buffer.put(string);
+        }
+        nameIndex = firstCourseString;
+        for (int semester = 0; semester <= history.size(); semester++) {
+            for (Course course : coursesOf(data, semester)) {
+                int units = course.getUnits();
+                buffer.putInt(nameIndex++);
+                buffer.put(units >= 0 && units <= Byte.MAX_VALUE ? (byte) units : 0);
+                buffer.put(gradeLabels.get(course.getLetterGrade()).byteValue());
+                buffer.putShort((short) semester);
+            }
+        }
+        
+        buffer.position(HEADER_SIZE);
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(courseCount);
+        buffer.putInt(strings.length);
+        buffer.putInt(stringTableBytes);
+        buffer.putInt((int) crc.getValue());
+        buffer.putInt(history.size());
+        buffer.putInt(gradeLabels.size());
+        
+        buffer.clear();
+        return buffer;
+    }
+    
+    static CourseData decode(ByteBuffer buffer, String source) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a CGPA data file: " + source);
+        }
+        
+        int version = Short.toUnsignedInt(buffer.getShort());
+        if (version > VERSION) {
+            throw new IOException("Unsupported save file version " + version + " in " + source);
+        }
+        buffer.getShort(); // Flags
+        int courseCount = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int stringTableBytes = buffer.getInt();
+        int checksum = buffer.getInt();
+        int semesterCount = buffer.getInt();
+        int gradeField = buffer.getInt();
+        int labelCount = version > ORDINAL_GRADES_VERSION ? gradeField : 0;
+        
+        if (courseCount < 0 || semesterCount < 0 || semesterCount > MAX_SEMESTERS
+                || labelCount < 0 || labelCount > MAX_GRADE_LABELS
+                || stringCount < FIXED_STRING_COUNT + semesterCount + labelCount || stringTableBytes < 0
+                || (long) stringTableBytes + (long) courseCount * COURSE_RECORD_SIZE != buffer.remaining()) {
+            throw new IOException("Corrupt save file header in " + source);
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch in " + source);
+        }
+        GradingScale ordinalScale = null;
+        if (version <= ORDINAL_GRADES_VERSION) {
+            ordinalScale = GradingScales.findByFingerprint(gradeField);
+            if (ordinalScale == null) {
+                throw new IOException("Saved with a grading scale that is not configured: " + source);
+            }
+        }
+        
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            if (length > buffer.remaining()) {
+                throw new IOException("Corrupt string table in " + source);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        
+        // Index 0 is the current semester, n is completed semester n
+        List<List<Course>> semesters = new ArrayList<>(semesterCount + 1);
+        for (int i = 0; i <= semesterCount; i++) {
+            semesters.add(new ArrayList<>());
+        }
+        int firstLabelString = FIXED_STRING_COUNT + semesterCount;
+        for (int i = 0; i < courseCount; i++) {
+            int nameIndex = buffer.getInt();
+            int units = buffer.get();
+            byte grade = buffer.get();
+            int semester = Short.toUnsignedInt(buffer.getShort());
+            
+            if (nameIndex < 0 || nameIndex >= stringCount || semester > semesterCount
+                    || (ordinalScale == null && Byte.toUnsignedInt(grade) >= labelCount)) {
+                throw new IOException("Corrupt course record " + i + " in " + source);
+            }
+            String label = ordinalScale == null
+                ? strings[firstLabelString + Byte.toUnsignedInt(grade)] : ordinalScale.labelOf(grade);
+            semesters.get(semester).add(new Course(strings[nameIndex], units, label));
+        }
+        
+        List<SemesterData> history = new ArrayList<>(semesterCount);
+        for (int i = 0; i < semesterCount; i++) {
+            history.add(new SemesterData(strings[FIXED_STRING_COUNT + i], semesters.get(i + 1)));
+        }
+        return new CourseData(semesters.get(0), strings[CURRENT_CGPA_STRING], strings[CUMULATIVE_UNITS_STRING], history);
+    }
+    
+    private static List<Course> coursesOf(CourseData data, int semester) {
+        return semester == 0 ? data.getCourses() : data.getHistory().get(semester - 1).getCourses();
+    }
+    
+    private static byte[] utf8(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("Value too long to save (" + bytes.length + " bytes)");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.model.Course;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of everything the calculator persists:
+ * the current semester's courses, the raw current CGPA and cumulative units inputs
+ * (the record before the first listed semester) and the completed semesters, oldest first
+ */
+public final class CourseData {
+    
+    private final List<Course> courses;
+    private final String currentCGPA;
+    private final String cumulativeUnits;
+    private final List<SemesterData> history;
+    
+    public CourseData(List<Course> courses, String currentCGPA, String cumulativeUnits) {
+        this(courses, currentCGPA, cumulativeUnits, Collections.emptyList());
+    }
+    
+    public CourseData(List<Course> courses, String currentCGPA, String cumulativeUnits, List<SemesterData> history) {
+        this.courses = Collections.unmodifiableList(new ArrayList<>(courses));
+        this.currentCGPA = currentCGPA == null ? "" : currentCGPA;
+        this.cumulativeUnits = cumulativeUnits == null ? "" : cumulativeUnits;
+        this.history = history.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(history));
+    }
+    
+    public List<Course> getCourses() {
+        return courses;
+    }
+    
+    public String getCurrentCGPA() {
+        return currentCGPA;
+    }
+    
+    public String getCumulativeUnits() {
+        return cumulativeUnits;
+    }
+    
+    /**
+     * Completed semesters before the current one, oldest first
+     */
+    public List<SemesterData> getHistory() {
+        return history;
+    }
+    
+    /**
+     * True if both snapshots have the same completed semesters
+     */
+    boolean sameHistory(CourseData other) {
+        if (history == other.history) {
+            return true;
+        }
+        if (history.size() != other.history.size()) {
+            return false;
+        }
+        for (int i = 0; i < history.size(); i++) {
+            if (!history.get(i).sameAs(other.history.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("CourseData{courses=%d, currentCGPA='%s', cumulativeUnits='%s', semesters=%d}",
+                           courses.size(), currentCGPA, cumulativeUnits, history.size());
+    }
+}
@@ -0,0 +1,362 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of current-semester course and CGPA-input changes made since the last snapshot.
+ * Completed semesters are not journalled; they are carried over from the snapshot.
+ * <pre>
+ * Header (16 bytes, little-endian)
+ *   magic "CGJL", u16 version, u16 reserved, i32 checksum of the base snapshot, i32 reserved
+ * Records
+ *   i32 payload length, payload (u8 type followed by the fields below), i32 CRC32 of the payload
+ *   INSERT  i32 index, string name, i8 units, string grade label
+ *   UPDATE  i32 index, string name, i8 units, string grade label
+ *   REMOVE  i32 index
+ *   CLEAR
+ *   INPUTS  string current CGPA, string cumulative units
+ * </pre>
+ * Strings are a u16 byte length followed by UTF-8 bytes. Version 1 journals hold a grading scale
+ * fingerprint in the last header field and an i8 grade ordinal on that scale in place of the label.
+ * Replay stops at the first truncated or corrupt record, so a save interrupted mid-append loses
+ * only that save.
+ */
+final class CourseDataJournal {
+    
+    static final int MAGIC = 0x4C4A4743; // "CGJL" read as a little-endian int
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 16;
+    
+    private static final byte INSERT = 1;
+    private static final byte UPDATE = 2;
+    private static final byte REMOVE = 3;
+    private static final byte CLEAR = 4;
+    private static final byte INPUTS = 5;
+    
+    // Record framing: length prefix plus CRC suffix
+    private static final int RECORD_OVERHEAD = 8;
+    
+    private static final int ORDINAL_GRADES_VERSION = 1;
+    
+    private final Path file;
+    
+    CourseDataJournal(String fileName) {
+        this.file = Paths.get(fileName).toAbsolutePath();
+    }
+    
+    /**
+     * Result of replaying a journal on top of a snapshot
+     */
+    static final class Replay {
+        final CourseData data;
+        final int version;
+        final int records;
+        final long validLength;
+        
+        Replay(CourseData data, int version, int records, long validLength) {
+            this.data = data;
+            this.version = version;
+            this.records = records;
+            this.validLength = validLength;
+        }
+    }
+    
+    /**
+     * Replays the journal over a snapshot
+     * @param progress Told the journal bytes read and replayed after the read and each record
+     * @return Replayed state, or null if there is no journal or it belongs to another snapshot
+     * @throws java.io.InterruptedIOException if {@code progress} stopped the replay
+     */
+    Replay replay(CourseData snapshot, int snapshotChecksum, CourseDataStore.LoadProgress progress) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            buffer = ByteBuffer.allocateDirect((int) size).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read the whole journal
+            }
+            buffer.flip();
+        }
+        CourseDataStore.checkProgress(progress, HEADER_SIZE, buffer.limit());
+        
+        if (buffer.getInt() != MAGIC) {
+            return null;
+        }
+        int version = Short.toUnsignedInt(buffer.getShort());
+        if (version > VERSION) {
+            return null;
+        }
+        buffer.getShort();
+        if (buffer.getInt() != snapshotChecksum) {
+            return null; // Written against an older snapshot; the snapshot already contains it
+        }
+        int scaleFingerprint = buffer.getInt();
+        GradingScale ordinalScale = null;
+        if (version <= ORDINAL_GRADES_VERSION) {
+            ordinalScale = GradingScales.findByFingerprint(scaleFingerprint);
+            if (ordinalScale == null) {
+                return null;
+            }
+        }
+        
+        List<Course> courses = new ArrayList<>(snapshot.getCourses());
+        String currentCGPA = snapshot.getCurrentCGPA();
+        String cumulativeUnits = snapshot.getCumulativeUnits();
+        int records = 0;
+        long validLength = buffer.position();
+        CRC32 crc = new CRC32();
+        
+        while (buffer.remaining() >= RECORD_OVERHEAD) {
+            int length = buffer.getInt();
+            if (length <= 0 || length + 4 > buffer.remaining()) {
+                break; // Torn append
+            }
+            
+            ByteBuffer payload = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+            payload.limit(length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            buffer.position(buffer.position() + length);
+            if ((int) crc.getValue() != buffer.getInt()) {
+                break;
+            }
+            
+            try {
+                byte type = payload.get();
+                switch (type) {
+                    case INSERT:
+                        courses.add(checkIndex(payload.getInt(), courses.size() + 1), readCourse(payload, ordinalScale));
+                        break;
+                    case UPDATE:
+                        courses.set(checkIndex(payload.getInt(), courses.size()), readCourse(payload, ordinalScale));
+                        break;
+                    case REMOVE:
+                        courses.remove(checkIndex(payload.getInt(), courses.size()));
+                        break;
+                    case CLEAR:
+                        courses.clear();
+                        break;
+                    case INPUTS:
+                        currentCGPA = readString(payload);
+                        cumulativeUnits = readString(payload);
+                        break;
+                    default:
+                        throw new IOException("Unknown journal record type " + type);
+                }
+            } catch (IOException | RuntimeException e) {
+                break; // Stop at the first record that does not apply cleanly
+            }
+            
+            records++;
+            validLength = buffer.position();
+            CourseDataStore.checkProgress(progress, validLength, buffer.limit());
+        }
+        
+        // Records only cover the current semester; history changes are always compacted
+        return new Replay(new CourseData(courses, currentCGPA, cumulativeUnits, snapshot.getHistory()),
+                          version, records, validLength);
+    }
+    
+    /**
+     * Replaces the journal with an empty one based on the given snapshot
+     */
+    void reset(int snapshotChecksum) throws IOException {
+        ByteBuffer header = ByteBuffer.allocateDirect(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putShort((short) VERSION);
+        header.putShort((short) 0);
+        header.putInt(snapshotChecksum);
+        header.putInt(0);
+        header.flip();
+        BinaryCourseDataFile.writeEncoded(header, file.toString());
+    }
+    
+    /**
+     * Appends encoded records with a single write, first dropping any torn tail past {@code validLength}
+     * @return Journal length after the append
+     */
+    long append(ByteBuffer records, long validLength) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() > validLength) {
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+            channel.force(false);
+            return channel.position();
+        }
+    }
+    
+    /**
+     * Encodes the changes that turn {@code from} into {@code to}.
+     * Courses are compared positionally: the common prefix and suffix are skipped,
+     * changed positions become updates and the length difference becomes inserts or removes,
+     * so a single add, edit or removal in the UI costs one record.
+     * @return Encoded records ready for {@link #append}; {@code recordCount[0]} receives the count
+     * @throws IOException if a name or input is too long to record
+     */
+    static ByteBuffer encodeChanges(CourseData from, CourseData to, int[] recordCount) throws IOException {
+        List<Course> oldCourses = from.getCourses();
+        List<Course> newCourses = to.getCourses();
+        RecordWriter writer = new RecordWriter();
+        
+        if (newCourses.isEmpty() && !oldCourses.isEmpty()) {
+            writer.begin(CLEAR).end();
+        } else {
+            int prefix = 0;
+            int shortest = Math.min(oldCourses.size(), newCourses.size());
+            while (prefix < shortest && sameCourse(oldCourses.get(prefix), newCourses.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < shortest - prefix
+                    && sameCourse(oldCourses.get(oldCourses.size() - 1 - suffix), newCourses.get(newCourses.size() - 1 - suffix))) {
+                suffix++;
+            }
+            
+            int oldChanged = oldCourses.size() - suffix - prefix;
+            int newChanged = newCourses.size() - suffix - prefix;
+            int updated = Math.min(oldChanged, newChanged);
+            
+            for (int i = prefix; i < prefix + updated; i++) {
+                writer.begin(UPDATE).putInt(i).putCourse(newCourses.get(i)).end();
+            }
+            for (int i = updated; i < oldChanged; i++) {
+                writer.begin(REMOVE).putInt(prefix + updated).end();
+            }
+            for (int i = prefix + updated; i < prefix + newChanged; i++) {
+                writer.begin(INSERT).putInt(i).putCourse(newCourses.get(i)).end();
+            }
+        }
+        
+        if (!from.getCurrentCGPA().equals(to.getCurrentCGPA())
+                || !from.getCumulativeUnits().equals(to.getCumulativeUnits())) {
+            writer.begin(INPUTS).putString(to.getCurrentCGPA()).putString(to.getCumulativeUnits()).end();
+        }
+        
+        recordCount[0] = writer.records;
+        return writer.finish();
+    }
+    
+    static boolean sameCourse(Course a, Course b) {
+        return a.getCourseName().equals(b.getCourseName())
+            && a.getUnits() == b.getUnits()
+            && a.getLetterGrade().equals(b.getLetterGrade());
+    }
+    
+    private static int checkIndex(int index, int size) throws IOException {
+        if (index < 0 || index >= size) {
+            throw new IOException("Journal index out of range: " + index);
+        }
+        return index;
+    }
+    
+    // Version 1 records hold a grade ordinal on ordinalScale, later ones the label itself
+    private static Course readCourse(ByteBuffer payload, GradingScale ordinalScale) {
+        String name = readString(payload);
+        int units = payload.get();
+        String grade = ordinalScale == null ? readString(payload) : ordinalScale.labelOf(payload.get());
+        return new Course(name, units, grade);
+    }
+    
+    private static String readString(ByteBuffer payload) {
+        byte[] bytes = new byte[Short.toUnsignedInt(payload.getShort())];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Builds framed records into one growable heap buffer, copied to a direct buffer at the end
+     */
+    private static final class RecordWriter {
+        private ByteBuffer buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+        private int recordStart;
+        private int records;
+        
+        RecordWriter begin(byte type) {
+            ensure(5);
+            recordStart = buffer.position();
+            buffer.putInt(0); // Length, patched in end()
+            buffer.put(type);
+            return this;
+        }
+        
+        RecordWriter putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+            return this;
+        }
+        
+        RecordWriter putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > BinaryCourseDataFile.MAX_STRING_BYTES) {
+                throw new IOException("Value too long to save (" + bytes.length + " bytes)");
+            }
+            ensure(2 + bytes.length);
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+            return this;
+        }
+        
+        RecordWriter putCourse(Course course) throws IOException {
+            putString(course.getCourseName());
+            ensure(1);
+            int units = course.getUnits();
+            buffer.put(units >= 0 && units <= Byte.MAX_VALUE ? (byte) units : 0);
+            return putString(course.getLetterGrade());
+        }
+        
+        void end() {
+            int payloadStart = recordStart + 4;
+            int payloadLength = buffer.position() - payloadStart;
+            buffer.putInt(recordStart, payloadLength);
+            
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), buffer.arrayOffset() + payloadStart, payloadLength);
+            ensure(4);
+            buffer.putInt((int) crc.getValue());
+            records++;
+        }
+        
+        ByteBuffer finish() {
+            buffer.flip();
+            ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining());
+            direct.put(buffer);
+            direct.flip();
+            return direct;
+        }
+        
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+                                              .order(ByteOrder.LITTLE_ENDIAN);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+    }
+}
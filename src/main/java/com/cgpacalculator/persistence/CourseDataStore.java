@@ -0,0 +1,226 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.metrics.PersistenceEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Snapshot-plus-journal persistence for the calculator's course data.
+ * A save appends only the changes since the previous save to the journal; every
+ * {@link #COMPACT_AFTER_RECORDS} records (or when a change set is larger than the data
+ * itself) the state is compacted into a fresh binary snapshot and the journal restarts.
+ * Completing or removing a semester changes the history, which is only stored in
+ * snapshots, so such saves always compact.
+ * Loading reads the snapshot and replays the journal tail. A legacy text file is used
+ * as the starting snapshot when no binary snapshot exists yet.
+ * Not thread-safe; callers serialise access.
+ */
+public class CourseDataStore {
+    
+    /** Journal records kept before the next save compacts into a snapshot */
+    public static final int COMPACT_AFTER_RECORDS = 256;
+    
+    /**
+     * Follows a load as it reads, and can stop it
+     */
+    public interface LoadProgress {
+        /**
+         * Called on the loading thread after each file read and each journal record replayed
+         * @param bytesRead Bytes of the snapshot and journal read or replayed so far
+         * @param totalBytes Combined size of the files being loaded
+         * @return false to stop the load, which then throws {@link InterruptedIOException}
+         */
+        boolean loaded(long bytesRead, long totalBytes);
+    }
+    
+    private static final LoadProgress NO_PROGRESS = (bytesRead, totalBytes) -> true;
+    
+    private final String snapshotFile;
+    private final String legacyFile;
+    private final String journalFile;
+    private final CourseDataJournal journal;
+    
+    // State as of the last load or save, and where the valid journal ends
+    private CourseData lastPersisted;
+    private int journalRecords;
+    private long journalLength = -1;
+    private boolean loadedFromLegacy;
+    
+    /**
+     * @param snapshotFile Binary snapshot file
+     * @param journalFile Journal file appended between snapshots
+     * @param legacyFile Text save file read for migration when no snapshot exists (may be null)
+     */
+    public CourseDataStore(String snapshotFile, String journalFile, String legacyFile) {
+        this.snapshotFile = snapshotFile;
+        this.legacyFile = legacyFile;
+        this.journalFile = journalFile;
+        this.journal = new CourseDataJournal(journalFile);
+    }
+    
+    /**
+     * Checks whether there is anything to load
+     */
+    public boolean exists() {
+        return new File(snapshotFile).exists() || (legacyFile != null && new File(legacyFile).exists());
+    }
+    
+    /**
+     * Loads the latest saved state
+     * @return Saved course data, or null if nothing has been saved yet
+     */
+    public CourseData load() throws IOException {
+        return load(NO_PROGRESS);
+    }
+    
+    /**
+     * Loads the latest saved state, reporting progress as it goes.
+     * A load stopped by {@code progress} leaves nothing loaded, so the next save writes a
+     * full snapshot; a single file read is not interrupted part-way.
+     * @return Saved course data, or null if nothing has been saved yet
+     * @throws InterruptedIOException if {@code progress} stopped the load
+     */
+    public CourseData load(LoadProgress progress) throws IOException {
+        PersistenceEvent event = new PersistenceEvent(PersistenceEvent.LOAD, snapshotFile);
+        event.begin();
+        long start = Metrics.LOAD.start();
+        try {
+            CourseData data = readLatest(progress);
+            Metrics.LOAD.stop(start);
+            event.finish(loadedFromLegacy ? legacyFile : snapshotFile, data == null ? 0 : data.getCourses().size(),
+                         data == null ? 0 : data.getHistory().size(), 0, journalRecords);
+            return data;
+        } catch (IOException | RuntimeException e) {
+            Metrics.LOAD.failed(start);
+            event.failed(e);
+            throw e;
+        }
+    }
+    
+    private CourseData readLatest(LoadProgress progress) throws IOException {
+        loadedFromLegacy = false;
+        lastPersisted = null;
+        journalRecords = 0;
+        journalLength = -1;
+        
+        File snapshotPath = new File(snapshotFile);
+        if (snapshotPath.exists()) {
+            long snapshotBytes = snapshotPath.length();
+            long totalBytes = snapshotBytes + new File(journalFile).length();
+            checkProgress(progress, 0, totalBytes);
+            CourseData snapshot = BinaryCourseDataFile.read(snapshotFile);
+            checkProgress(progress, snapshotBytes, totalBytes);
+            
+            CourseDataJournal.Replay replay = journal.replay(snapshot, BinaryCourseDataFile.readChecksum(snapshotFile),
+                (bytesRead, journalBytes) -> progress.loaded(snapshotBytes + bytesRead, totalBytes));
+            if (replay == null) {
+                lastPersisted = snapshot;
+            } else {
+                lastPersisted = replay.data;
+                journalRecords = replay.records;
+                // Records in an older journal format are not appended to; the next save compacts
+                journalLength = replay.version == CourseDataJournal.VERSION ? replay.validLength : -1;
+            }
+            return lastPersisted;
+        }
+        
+        if (legacyFile != null && new File(legacyFile).exists()) {
+            // No journal for the text format; the next save writes a snapshot
+            long legacyBytes = new File(legacyFile).length();
+            checkProgress(progress, 0, legacyBytes);
+            CourseData legacy = TextCourseDataFile.read(legacyFile);
+            checkProgress(progress, legacyBytes, legacyBytes);
+            lastPersisted = legacy;
+            loadedFromLegacy = true;
+            return lastPersisted;
+        }
+        
+        return null;
+    }
+    
+    static void checkProgress(LoadProgress progress, long bytesRead, long totalBytes) throws InterruptedIOException {
+        if (!progress.loaded(bytesRead, totalBytes)) {
+            throw new InterruptedIOException("Load cancelled");
+        }
+    }
+    
+    /**
+     * True if the last {@link #load()} came from the legacy text file
+     */
+    public boolean wasLoadedFromLegacy() {
+        return loadedFromLegacy;
+    }
+    
+    /**
+     * Persists the given state, normally as one small journal append
+     * @return Number of bytes written
+     */
+    public int save(CourseData data) throws IOException {
+        PersistenceEvent event = new PersistenceEvent(PersistenceEvent.SAVE, snapshotFile);
+        event.begin();
+        long start = Metrics.SAVE.start();
+        try {
+            int bytes = write(data);
+            Metrics.SAVE.stop(start);
+            // No journal records left means the save compacted into a snapshot
+            event.finish(journalRecords == 0 ? snapshotFile : journalFile, data.getCourses().size(),
+                         data.getHistory().size(), bytes, journalRecords);
+            return bytes;
+        } catch (IOException | RuntimeException e) {
+            Metrics.SAVE.failed(start);
+            event.failed(e);
+            throw e;
+        }
+    }
+    
+    private int write(CourseData data) throws IOException {
+        if (lastPersisted == null || journalLength < 0 || !lastPersisted.sameHistory(data)) {
+            return compact(data); // The journal only records current-semester changes
+        }
+        
+        int[] recordCount = new int[1];
+        ByteBuffer records = CourseDataJournal.encodeChanges(lastPersisted, data, recordCount);
+        if (recordCount[0] == 0) {
+            return 0;
+        }
+        
+        if (journalRecords + recordCount[0] > COMPACT_AFTER_RECORDS
+                || recordCount[0] > Math.max(data.getCourses().size(), 1)) {
+            return compact(data);
+        }
+        
+        int bytes = records.remaining();
+        journalLength = journal.append(records, journalLength);
+        journalRecords += recordCount[0];
+        lastPersisted = data;
+        return bytes;
+    }
+    
+    /**
+     * Writes a full snapshot and starts an empty journal based on it
+     * @return Number of bytes written
+     */
+    public int compact(CourseData data) throws IOException {
+        ByteBuffer snapshot = BinaryCourseDataFile.encode(data);
+        int checksum = snapshot.getInt(BinaryCourseDataFile.CHECKSUM_OFFSET);
+        int bytes = BinaryCourseDataFile.writeEncoded(snapshot, snapshotFile);
+        
+        // A crash before the journal is reset leaves a journal for the old snapshot, which load ignores
+        journal.reset(checksum);
+        
+        lastPersisted = data;
+        journalRecords = 0;
+        journalLength = CourseDataJournal.HEADER_SIZE;
+        return bytes + CourseDataJournal.HEADER_SIZE;
+    }
+    
+    /**
+     * Records replayed or appended since the last snapshot
+     */
+    public int getJournalRecordCount() {
+        return journalRecords;
+    }
+}
@@ -0,0 +1,120 @@
+package com.cgpacalculator.persistence;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs all {@link CourseDataStore} I/O on one background thread.
+ * Save requests only publish the latest state and return immediately; a burst of
+ * requests made while a write is queued or running collapses into a single write
+ * of the newest state. Results are reported to a listener through the callback
+ * executor (for a Swing UI, {@code SwingUtilities::invokeLater}).
+ * Because the store is only touched by the worker thread, loads and saves never interleave.
+ */
+public class PersistenceWorker {
+    
+    /**
+     * Receives save results on the callback executor
+     */
+    public interface Listener {
+        void saved(CourseData data, int bytesWritten);
+        
+        void saveFailed(CourseData data, IOException error);
+    }
+    
+    private final CourseDataStore store;
+    private final Executor callbackExecutor;
+    private final Listener listener;
+    // Daemon thread, so callers flush() before the process exits
+    private final ExecutorService executor;
+    
+    // Newest state not yet handed to the store; non-null while a write is queued
+    private final AtomicReference<CourseData> pending = new AtomicReference<>();
+    
+    private volatile boolean loadedFromLegacy;
+    
+    public PersistenceWorker(CourseDataStore store, Executor callbackExecutor, Listener listener) {
+        this.store = store;
+        this.callbackExecutor = callbackExecutor;
+        this.listener = listener;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cgpa-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Requests a save of the given state without blocking
+     */
+    public void save(CourseData data) {
+        if (pending.getAndSet(data) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+    
+    /**
+     * Loads the saved state on the worker thread, after any saves already requested
+     * @param progress Called on the worker thread as the load reads; returning false stops it
+     * @return Future of the loaded data, or of null if nothing has been saved yet
+     */
+    public Future<CourseData> load(CourseDataStore.LoadProgress progress) {
+        return executor.submit(() -> {
+            CourseData data = store.load(progress);
+            loadedFromLegacy = store.wasLoadedFromLegacy();
+            return data;
+        });
+    }
+    
+    /**
+     * True if the last completed load came from the legacy text file
+     */
+    public boolean wasLoadedFromLegacy() {
+        return loadedFromLegacy;
+    }
+    
+    /**
+     * Blocks until every save requested so far has been written
+     * @throws IOException if writing the pending state fails
+     */
+    public void flush() throws IOException, InterruptedException {
+        try {
+            executor.submit(() -> {
+                CourseData data = pending.getAndSet(null);
+                if (data != null) {
+                    store.save(data);
+                }
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Could not save data", cause);
+        }
+    }
+    
+    private void writePending() {
+        CourseData data = pending.getAndSet(null);
+        if (data == null) {
+            return; // Already written by flush()
+        }
+        
+        try {
+            int bytesWritten = store.save(data);
+            callbackExecutor.execute(() -> listener.saved(data, bytesWritten));
+        } catch (IOException e) {
+            callbackExecutor.execute(() -> listener.saveFailed(data, e));
+        } catch (RuntimeException e) {
+            // Reported like an I/O failure, so the listener never waits on a save that died
+            IOException error = new IOException("Could not save data", e);
+            callbackExecutor.execute(() -> listener.saveFailed(data, error));
+        }
+    }
+}
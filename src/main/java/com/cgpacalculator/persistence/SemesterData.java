@@ -0,0 +1,48 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.model.Course;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of one completed semester: its name and courses
+ */
+public final class SemesterData {
+    
+    private final String name;
+    private final List<Course> courses;
+    
+    public SemesterData(String name, List<Course> courses) {
+        this.name = name == null ? "" : name;
+        this.courses = Collections.unmodifiableList(new ArrayList<>(courses));
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public List<Course> getCourses() {
+        return courses;
+    }
+    
+    /**
+     * True if both semesters have the same name and the same courses in the same order
+     */
+    boolean sameAs(SemesterData other) {
+        if (!name.equals(other.name) || courses.size() != other.courses.size()) {
+            return false;
+        }
+        for (int i = 0; i < courses.size(); i++) {
+            if (!CourseDataJournal.sameCourse(courses.get(i), other.courses.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SemesterData{name='%s', courses=%d}", name, courses.size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.model.Course;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Reads and writes the key=value text format of cgpa_data.txt
+ */
+public final class TextCourseDataFile {
+    
+    private TextCourseDataFile() {
+        throw new UnsupportedOperationException("TextCourseDataFile class cannot be instantiated");
+    }
+    
+    /**
+     * Writes course data to a file, replacing any previous content
+     */
+    public static void write(CourseData data, String fileName) throws IOException {
+        List<Course> courses = data.getCourses();
+        
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
+            writer.println("# CGPA Calculator Data");
+            writer.println("# Saved on: " + new java.util.Date());
+            writer.println("CURRENT_CGPA=" + data.getCurrentCGPA());
+            writer.println("CUMULATIVE_UNITS=" + data.getCumulativeUnits());
+            writer.println("COURSE_COUNT=" + courses.size());
+            writer.println();
+            
+            for (int i = 0; i < courses.size(); i++) {
+                Course course = courses.get(i);
+                writer.println("COURSE_" + i + "_NAME=" + course.getCourseName());
+                writer.println("COURSE_" + i + "_UNITS=" + course.getUnits());
+                writer.println("COURSE_" + i + "_GRADE=" + course.getLetterGrade());
+            }
+            
+            if (writer.checkError()) {
+                throw new IOException("Could not write " + fileName);
+            }
+        }
+    }
+    
+    /**
+     * Reads course data from a file; incomplete course entries are skipped
+     * @throws NumberFormatException if a numeric field is malformed
+     */
+    public static CourseData read(String fileName) throws IOException {
+        Properties props = new Properties();
+        try (FileReader reader = new FileReader(fileName)) {
+            props.load(reader);
+        }
+        
+        String currentCGPA = props.getProperty("CURRENT_CGPA", "");
+        String cumulativeUnits = props.getProperty("CUMULATIVE_UNITS", "");
+        int courseCount = Integer.parseInt(props.getProperty("COURSE_COUNT", "0"));
+        
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < courseCount; i++) {
+            String name = props.getProperty("COURSE_" + i + "_NAME");
+            String unitsStr = props.getProperty("COURSE_" + i + "_UNITS");
+            String grade = props.getProperty("COURSE_" + i + "_GRADE");
+            
+            if (name != null && unitsStr != null && grade != null) {
+                courses.add(new Course(name, Integer.parseInt(unitsStr), grade));
+            }
+        }
+        
+        return new CourseData(courses, currentCGPA, cumulativeUnits);
+    }
+}
@@ -0,0 +1,519 @@
+package com.cgpacalculator.server;
+
+import com.cgpacalculator.engine.CGPAEngine;
+import com.cgpacalculator.engine.CGPAResult;
+import com.cgpacalculator.importer.ImportSummary;
+import com.cgpacalculator.importer.StudentAggregate;
+import com.cgpacalculator.importer.StudentAggregateSink;
+import com.cgpacalculator.importer.TranscriptImporter;
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.metrics.OperationMetrics;
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.CourseNameIndex;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.CGPACalculationValidator;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import com.cgpacalculator.utils.GradingScaleConfig;
+import com.cgpacalculator.utils.ValidationCode;
+import com.cgpacalculator.utils.ValidationResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP calculation service for departmental tools, built on the JDK's
+ * {@code com.sun.net.httpserver} so the Swing app is not needed.
+ * <p>
+ * Endpoints (all calculation endpoints take POST with a CSV body):
+ * <ul>
+ * <li>{@code /calculate} - rows of {@code course, units, grade} for one student; returns GPA,
+ * CGPA and classification, or 422 with the validation errors</li>
+ * <li>{@code /validate} - same input; returns the validation errors only</li>
+ * <li>{@code /batch} - transcript rows of {@code student id, course, units, grade}; returns one
+ * result per student</li>
+ * <li>{@code /health} - GET; returns {@code {"status":"ok"}}</li>
+ * </ul>
+ * The optional query parameters {@code currentCgpa} and {@code cumulativeUnits} give the
+ * record before this semester, as in the app's "Current Academic Standing" fields.
+ * Grades are read on the grading scale chosen at startup.
+ * <p>
+ * Handlers are stateless and run one task per request. On Java 21+ that is a virtual
+ * thread per request, so thousands of slow clients do not tie up platform threads; older
+ * runtimes fall back to a fixed pool of platform threads.
+ * Per-endpoint latency is published as the {@code server.*} operations of {@link Metrics}.
+ */
+public class CalculationServer {
+    
+    public static final String SERVER_FLAG = "--server";
+    
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    
+    // Read once by the JDK server when the first one is created; explicit -D settings win.
+    // Without TCP_NODELAY, Nagle's algorithm and delayed ACKs add ~40 ms to keep-alive responses,
+    // and the default idle connection cap (200) drops keep-alive clients under load.
+    static {
+        setDefaultProperty("sun.net.httpserver.nodelay", "true");
+        setDefaultProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(Constants.SERVER_BACKLOG));
+    }
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    
+    /**
+     * Binds the server; call {@link #start()} to accept requests
+     * @param address Address to bind; port 0 picks a free port
+     * @throws IOException if the address cannot be bound
+     */
+    public CalculationServer(InetSocketAddress address) throws IOException {
+        this.server = HttpServer.create(address, Constants.SERVER_BACKLOG);
+        ExecutorService virtualExecutor = newVirtualThreadExecutor();
+        this.virtualThreads = virtualExecutor != null;
+        this.executor = virtualThreads ? virtualExecutor : newPlatformThreadExecutor();
+        
+        server.setExecutor(executor);
+        server.createContext("/calculate", new CalculateHandler());
+        server.createContext("/validate", new ValidateHandler());
+        server.createContext("/batch", new BatchHandler());
+        server.createContext("/health", new HealthHandler());
+    }
+    
+    public void start() {
+        server.start();
+    }
+    
+    /**
+     * Stops accepting requests, waits up to the given delay for running ones, then releases the threads
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+    
+    /**
+     * @return Whether requests run on virtual threads rather than the fallback pool
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    /**
+     * @return Whether the command line asks for server mode
+     */
+    public static boolean isRequested(String[] args) {
+        for (String arg : args) {
+            if (SERVER_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Starts a server from the command line
+     * ({@code --server [--host HOST] [--port PORT] [--grading-scale NAME]})
+     * and keeps it running until the JVM is stopped
+     * @return Exit status; 0 once started, 2 on bad arguments, an unusable grading scale
+     *         configuration or if the port cannot be bound
+     */
+    public static int run(String[] args) {
+        String host = Constants.SERVER_DEFAULT_HOST;
+        int port = Constants.SERVER_DEFAULT_PORT;
+        String gradingScale = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if ("--host".equals(args[i]) && i + 1 < args.length) {
+                    host = args[++i];
+                } else if ("--port".equals(args[i]) && i + 1 < args.length) {
+                    port = Integer.parseInt(args[++i]);
+                } else if ("--grading-scale".equals(args[i]) && i + 1 < args.length) {
+                    gradingScale = args[++i];
+                } else if (!SERVER_FLAG.equals(args[i])) {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: " + SERVER_FLAG + " [--host HOST] [--port PORT] [--grading-scale NAME]");
+            return 2;
+        }
+        
+        try {
+            GradingScaleConfig.loadConfigured();
+            if (gradingScale != null) {
+                GradingScales.use(gradingScale);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Grading scales: " + e.getMessage());
+            return 2;
+        }
+        
+        CalculationServer server;
+        try {
+            server = new CalculationServer(new InetSocketAddress(host, port));
+        } catch (IOException e) {
+            System.err.println("Could not start server on " + host + ":" + port + ": " + e.getMessage());
+            return 2;
+        }
+        Metrics.registerMBeans();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1), "cgpa-server-shutdown"));
+        server.start();
+        System.out.println("CGPA calculation service listening on http://" + host + ":" + server.getAddress().getPort()
+                           + (server.usesVirtualThreads() ? " (virtual threads)" : " (platform thread pool)"));
+        return 0;
+    }
+    
+    private static void setDefaultProperty(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+    
+    // Executors.newVirtualThreadPerTaskExecutor() exists from Java 21; looked up reflectively so
+    // the code still compiles for Java 17. Returns null when it is missing or not enabled.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static ExecutorService newPlatformThreadExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Constants.SERVER_FALLBACK_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "cgpa-server-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Single-student calculation with the same validation and arithmetic as the app's Calculate button
+     */
+    private static final class CalculateHandler extends CalculationHandler {
+        CalculateHandler() {
+            super("server.calculate");
+        }
+        
+        @Override
+        void handle(HttpExchange exchange, Map<String, String> query, byte[] body) throws IOException {
+            String currentCGPA = query.get("currentCgpa");
+            String cumulativeUnits = query.get("cumulativeUnits");
+            List<Course> courses = parseCourses(body);
+            ValidationResult validation = validate(courses, currentCGPA, cumulativeUnits);
+            
+            StringBuilder json = new StringBuilder(256).append('{');
+            if (validation.hasErrors()) {
+                Json.validation(json, validation).append('}');
+                send(exchange, 422, json.toString());
+                return;
+            }
+            
+            CGPAResult result = CGPAEngine.calculate(courses, currentCGPA, cumulativeUnits);
+            Json.name(json, "valid").append(true);
+            Json.hundredths(Json.name(json.append(','), "gpa"), result.getCurrentGPA());
+            Json.hundredths(Json.name(json.append(','), "cgpa"), result.getCGPA());
+            Json.string(Json.name(json.append(','), "classification"), result.getClassificationLabel());
+            Json.name(json.append(','), "courseCount").append(result.getCourseCount());
+            Json.name(json.append(','), "semesterUnits").append(result.getSemesterUnits());
+            Json.name(json.append(','), "totalUnits").append(result.getTotalUnits());
+            send(exchange, 200, json.append('}').toString());
+        }
+    }
+    
+    /**
+     * Validation only, so tools can check input before submitting it
+     */
+    private static final class ValidateHandler extends CalculationHandler {
+        ValidateHandler() {
+            super("server.validate");
+        }
+        
+        @Override
+        void handle(HttpExchange exchange, Map<String, String> query, byte[] body) throws IOException {
+            ValidationResult validation = validate(parseCourses(body), query.get("currentCgpa"), query.get("cumulativeUnits"));
+            StringBuilder json = new StringBuilder(128).append('{');
+            send(exchange, 200, Json.validation(json, validation).append('}').toString());
+        }
+    }
+    
+    /**
+     * Whole transcript dumps through the streaming importer, one result per student
+     */
+    private static final class BatchHandler extends CalculationHandler {
+        BatchHandler() {
+            super("server.batch");
+        }
+        
+        @Override
+        void handle(HttpExchange exchange, Map<String, String> query, byte[] body) throws IOException {
+            String currentCGPA = query.get("currentCgpa");
+            String cumulativeUnits = query.get("cumulativeUnits");
+            ValidationResult prior = new ValidationResult();
+            validatePriorRecord(prior, currentCGPA, cumulativeUnits);
+            if (prior.hasErrors()) {
+                send(exchange, 422, Json.validation(new StringBuilder("{"), prior).append('}').toString());
+                return;
+            }
+            boolean hasPrior = hasText(currentCGPA) && hasText(cumulativeUnits);
+            long priorCGPA = hasPrior ? Decimals.parseHundredths(currentCGPA) : 0;
+            int priorUnits = hasPrior ? Integer.parseInt(cumulativeUnits.trim()) : 0;
+            
+            StringBuilder results = new StringBuilder(body.length);
+            ClassificationScheme scheme = Constants.getClassificationScheme();
+            StudentAggregateSink sink = student -> appendStudent(results, student, priorCGPA, priorUnits, scheme);
+            ImportSummary summary = new TranscriptImporter(Constants.SERVER_MAX_BODY_BYTES)
+                .importStream(new ByteArrayInputStream(body), sink);
+            
+            StringBuilder json = new StringBuilder(results.length() + 64).append('{');
+            Json.name(json, "students").append(summary.getStudents());
+            Json.name(json.append(','), "validStudents").append(summary.getValidStudents());
+            Json.name(json.append(','), "malformedRows").append(summary.getMalformedRows());
+            Json.name(json.append(','), "results").append('[').append(results).append(']');
+            send(exchange, 200, json.append('}').toString());
+        }
+        
+        private static void appendStudent(StringBuilder json, StudentAggregate student, long priorCGPA, int priorUnits,
+                                          ClassificationScheme scheme) {
+            if (json.length() > 0) {
+                json.append(',');
+            }
+            json.append('{');
+            Json.string(Json.name(json, "student"), student.getStudentId());
+            Json.name(json.append(','), "valid").append(student.isValid());
+            Json.name(json.append(','), "courseCount").append(student.getCourseCount());
+            Json.name(json.append(','), "semesterUnits").append(student.getTotalUnits());
+            if (student.isValid()) {
+                int cgpa = CGPAEngine.calculateCGPA(student.getTotalCreditHundredths(), student.getTotalUnits(),
+                                                    priorCGPA, priorUnits);
+                Json.fixed(Json.name(json.append(','), "gpa"), student.getGPAHundredths());
+                Json.fixed(Json.name(json.append(','), "cgpa"), cgpa);
+                Json.string(Json.name(json.append(','), "classification"), scheme.getLabel(scheme.classifyHundredths(cgpa)));
+            } else {
+                Json.name(json.append(','), "invalidUnitRows").append(student.getInvalidUnitRows());
+                Json.name(json.append(','), "invalidGradeRows").append(student.getInvalidGradeRows());
+                Json.name(json.append(','), "missingNameRows").append(student.getMissingNameRows());
+                Json.name(json.append(','), "duplicateCourseRows").append(student.getDuplicateCourseRows());
+                Json.name(json.append(','), "malformedRows").append(student.getMalformedRows());
+                Json.name(json.append(','), "validSemesterLoad").append(student.hasValidSemesterLoad());
+            }
+            json.append('}');
+        }
+    }
+    
+    private static final class HealthHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                exchange.getRequestBody().close();
+                send(exchange, 200, "{\"status\":\"ok\"}");
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+    
+    /**
+     * Common request handling: POST only, bounded body, query parsing and error responses
+     */
+    private abstract static class CalculationHandler implements HttpHandler {
+        
+        // Request latency as seen by the server, from headers read to response sent
+        private final OperationMetrics metrics;
+        
+        CalculationHandler(String operation) {
+            this.metrics = Metrics.operation(operation);
+        }
+        
+        abstract void handle(HttpExchange exchange, Map<String, String> query, byte[] body) throws IOException;
+        
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            long start = metrics.start();
+            boolean failed = false;
+            try {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", "POST");
+                    send(exchange, 405, Json.error("Use POST with a CSV body"));
+                    return;
+                }
+                byte[] body = readBody(exchange.getRequestBody());
+                if (body == null) {
+                    send(exchange, 413, Json.error("Request body exceeds " + Constants.SERVER_MAX_BODY_BYTES + " bytes"));
+                    return;
+                }
+                handle(exchange, parseQuery(exchange.getRequestURI().getRawQuery()), body);
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, Json.error(e.getMessage()));
+            } catch (IOException e) {
+                failed = true;
+                send(exchange, 400, Json.error("Could not read request: " + e.getMessage()));
+            } finally {
+                exchange.close();
+                if (failed) {
+                    metrics.failed(start);
+                } else {
+                    metrics.stop(start);
+                }
+            }
+        }
+        
+        /**
+         * Parses {@code course, units, grade} rows; the course name may contain commas.
+         * A first line whose units are not a number is treated as a header.
+         * Unparseable units become 0 so the validator reports them like the app does.
+         */
+        static List<Course> parseCourses(byte[] body) {
+            String text = new String(body, StandardCharsets.UTF_8);
+            List<Course> courses = new ArrayList<>();
+            int lineNumber = 0;
+            for (String line : text.split("\r?\n")) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                int gradeComma = line.lastIndexOf(',');
+                int unitsComma = gradeComma > 0 ? line.lastIndexOf(',', gradeComma - 1) : -1;
+                if (unitsComma < 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected course, units, grade");
+                }
+                
+                String name = unquote(line.substring(0, unitsComma).trim());
+                String grade = line.substring(gradeComma + 1).trim();
+                int units;
+                try {
+                    units = Integer.parseInt(line.substring(unitsComma + 1, gradeComma).trim());
+                } catch (NumberFormatException e) {
+                    if (courses.isEmpty()) {
+                        continue; // Header line
+                    }
+                    units = 0;
+                }
+                courses.add(new Course(name, units, grade));
+            }
+            return courses;
+        }
+        
+        static ValidationResult validate(List<Course> courses, String currentCGPA, String cumulativeUnits) {
+            ValidationResult result = CGPACalculationValidator.validateCalculationReadiness(courses, currentCGPA, cumulativeUnits);
+            validateCourseNames(result, courses);
+            validatePriorRecord(result, currentCGPA, cumulativeUnits);
+            return result;
+        }
+        
+        // Course names must be unique ignoring case, as /batch and the app's course table require;
+        // every repeat after the first is reported
+        static void validateCourseNames(ValidationResult result, List<Course> courses) {
+            CourseNameIndex names = new CourseNameIndex(courses.size());
+            for (int i = 0; i < courses.size(); i++) {
+                String name = courses.get(i).getCourseName();
+                if (hasText(name) && names.add(name) > 1) {
+                    result.addCourseError(ValidationCode.DUPLICATE_COURSE_NAME, i + 1, name);
+                }
+            }
+        }
+        
+        // Range checks the app's input fields make before the readiness validation runs
+        static void validatePriorRecord(ValidationResult result, String currentCGPA, String cumulativeUnits) {
+            boolean hasCGPA = hasText(currentCGPA);
+            boolean hasUnits = hasText(cumulativeUnits);
+            if (hasCGPA) {
+                try {
+                    double cgpa = Decimals.parse(currentCGPA);
+                    if (cgpa < Constants.MIN_CGPA || cgpa > Constants.getMaxCGPA()) {
+                        result.addErrorMessage("Current CGPA", Constants.getInvalidCGPAMessage());
+                    }
+                } catch (NumberFormatException e) {
+                    result.addErrorMessage("Current CGPA", "Please enter a valid decimal number");
+                }
+            }
+            if (hasUnits) {
+                try {
+                    if (Integer.parseInt(cumulativeUnits.trim()) <= 0) {
+                        result.addErrorMessage("Cumulative Units", "Cumulative units must be positive");
+                    }
+                } catch (NumberFormatException e) {
+                    result.addErrorMessage("Cumulative Units", "Please enter a valid whole number");
+                }
+            }
+            
+            // The readiness validation skips this check when it stops at the course list
+            ValidationCode missing = hasCGPA == hasUnits ? null
+                : hasCGPA ? ValidationCode.CGPA_WITHOUT_UNITS : ValidationCode.UNITS_WITHOUT_CGPA;
+            if (missing != null && !result.hasErrorCode(missing)) {
+                result.addError(missing);
+            }
+        }
+        
+        static boolean hasText(String value) {
+            return value != null && !value.trim().isEmpty();
+        }
+        
+        private static String unquote(String field) {
+            if (field.length() >= 2 && field.charAt(0) == '"' && field.charAt(field.length() - 1) == '"') {
+                return field.substring(1, field.length() - 1).replace("\"\"", "\"");
+            }
+            return field;
+        }
+        
+        // Whole body, or null if it is larger than the limit
+        private static byte[] readBody(InputStream in) throws IOException {
+            try (in) {
+                byte[] body = in.readNBytes(Constants.SERVER_MAX_BODY_BYTES + 1);
+                return body.length > Constants.SERVER_MAX_BODY_BYTES ? null : body;
+            }
+        }
+        
+        private static Map<String, String> parseQuery(String rawQuery) {
+            Map<String, String> query = new HashMap<>();
+            if (rawQuery == null || rawQuery.isEmpty()) {
+                return query;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                String name = equals < 0 ? pair : pair.substring(0, equals);
+                String value = equals < 0 ? "" : pair.substring(equals + 1);
+                query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            return query;
+        }
+    }
+    
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
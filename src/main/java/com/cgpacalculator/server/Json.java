@@ -0,0 +1,102 @@
+package com.cgpacalculator.server;
+
+import com.cgpacalculator.utils.Decimals;
+import com.cgpacalculator.utils.ValidationResult;
+import java.util.List;
+
+/**
+ * Minimal JSON output helpers for the calculation service; responses are built by appending
+ * to a StringBuilder, so no JSON library is needed
+ */
+final class Json {
+    
+    private Json() {
+        throw new UnsupportedOperationException("Json class cannot be instantiated");
+    }
+    
+    /**
+     * Appends a quoted, escaped string, or null
+     */
+    static StringBuilder string(StringBuilder json, String value) {
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"');
+    }
+    
+    /**
+     * Appends {@code "name":} ready for the value
+     */
+    static StringBuilder name(StringBuilder json, String name) {
+        return string(json, name).append(':');
+    }
+    
+    /**
+     * Appends a GPA or CGPA rounded to two decimals, as a number
+     */
+    static StringBuilder hundredths(StringBuilder json, double value) {
+        return Decimals.appendHundredths(json, value);
+    }
+    
+    /**
+     * Appends a fixed-point value given in hundredths, e.g. 449 as 4.49
+     */
+    static StringBuilder fixed(StringBuilder json, long hundredths) {
+        return Decimals.appendFixed(json, hundredths);
+    }
+    
+    /**
+     * Appends {@code "valid":..,"errors":[{"field":..,"message":..},..]} without the enclosing braces
+     */
+    static StringBuilder validation(StringBuilder json, ValidationResult result) {
+        name(json, "valid").append(!result.hasErrors());
+        name(json.append(','), "errors").append('[');
+        List<ValidationResult.ValidationMessage> errors = result.getErrorMessages();
+        for (int i = 0; i < errors.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            name(json.append('{'), "field");
+            string(json, errors.get(i).getField());
+            name(json.append(','), "message");
+            string(json, errors.get(i).getMessage()).append('}');
+        }
+        return json.append(']');
+    }
+    
+    /**
+     * A complete {@code {"error":..}} body
+     */
+    static String error(String message) {
+        StringBuilder json = new StringBuilder(message.length() + 16).append('{');
+        name(json, "error");
+        return string(json, message).append('}').toString();
+    }
+}
@@ -0,0 +1,126 @@
+package com.cgpacalculator.simd;
+
+import com.cgpacalculator.engine.CohortKernel;
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.model.GradingScale;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Cohort kernel on the incubating Vector API; needs {@code --add-modules jdk.incubator.vector}.
+ * A student's rows are read a vector at a time: unit and grade-ordinal bytes are widened to
+ * int lanes, grade points are picked from tables held in registers by a lane permutation
+ * rather than a gather, and units × points accumulate per lane until one reduction per student.
+ * Rows of the next students that a load picks up are masked to zero units, so the ragged
+ * segments need no scalar tail loop.
+ * Students whose last vector would read past the end of the store, segments long enough to
+ * overflow int lanes and scales with more grades than two tables hold are summed in longs.
+ * Created by {@link com.cgpacalculator.engine.CohortKernels}; nothing else refers to this class.
+ */
+public final class VectorCohortKernel implements CohortKernel {
+    
+    // Below eight int lanes (128-bit vectors) the per-student reductions eat the gain
+    private static final int MIN_LANES = 8;
+    
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = INTS.length();
+    
+    // One byte lane per int lane, e.g. 64-bit byte vectors widened to 256-bit int vectors
+    private static final VectorSpecies<Byte> BYTES = LANES >= MIN_LANES
+        ? VectorSpecies.of(byte.class, VectorShape.forBitSize(LANES * Byte.SIZE)) : null;
+    
+    // 0, 1, 2, ...; compared against the rows left to build the mask of live lanes
+    private static final ByteVector LANE_INDEX = BYTES == null ? null : (ByteVector) BYTES.iotaShuffle(0, 1, false).toVector();
+    
+    // Grade slots (ordinal + 1, so the invalid ordinal -1 is slot 0) the two point tables hold:
+    // scales of up to 15 grades on AVX2 and 31 on AVX-512
+    private static final int MAX_SLOTS = 2 * LANES;
+    
+    // Longest segment whose int lanes and lane sum cannot overflow
+    private static final int MAX_VECTOR_ROWS = Integer.MAX_VALUE / (Byte.MAX_VALUE * GradingScale.MAX_POINTS_HUNDREDTHS);
+    
+    /**
+     * @throws UnsupportedOperationException if the CPU's vectors hold fewer than eight ints
+     */
+    public VectorCohortKernel() {
+        if (BYTES == null) {
+            throw new UnsupportedOperationException("Cohort kernel needs at least " + MIN_LANES
+                + " int lanes, this CPU has " + LANES);
+        }
+    }
+    
+    @Override
+    public void sum(CourseStore store, int fromStudent, int toStudent, long[] creditHundredths, int[] units) {
+        GradingScale scale = store.getGradingScale();
+        if (scale.count() + 1 > MAX_SLOTS) {
+            for (int student = fromStudent; student < toStudent; student++) {
+                sumInLongs(store, student, creditHundredths, units, student - fromStudent);
+            }
+            return;
+        }
+        
+        int[] points = new int[MAX_SLOTS];
+        for (int slot = 0; slot <= scale.count(); slot++) {
+            points[slot] = scale.hundredthsOf(slot - 1);
+        }
+        IntVector lowPoints = IntVector.fromArray(INTS, points, 0);
+        IntVector highPoints = IntVector.fromArray(INTS, points, LANES);
+        
+        int[] offsets = store.getStudentOffsetColumn();
+        byte[] unitColumn = store.getUnitColumn();
+        byte[] gradeColumn = store.getGradeOrdinalColumn();
+        int rowCount = store.getCourseCount();
+        
+        // Vectors are never merged across branches: C2 on JDK 17 would box them
+        for (int student = fromStudent; student < toStudent; student++) {
+            int start = offsets[student];
+            int end = offsets[student + 1];
+            int vectorRows = (end - start + LANES - 1) & -LANES;
+            if (end - start > MAX_VECTOR_ROWS || start + vectorRows > rowCount) {
+                sumInLongs(store, student, creditHundredths, units, student - fromStudent);
+                continue;
+            }
+            
+            IntVector credit = IntVector.zero(INTS);
+            IntVector unitSum = IntVector.zero(INTS);
+            for (int row = start; row < end; row += LANES) {
+                VectorMask<Byte> live = LANE_INDEX.compare(VectorOperators.LT, (byte) Math.min(end - row, LANES));
+                ByteVector rowUnits = ByteVector.zero(BYTES).blend(ByteVector.fromArray(BYTES, unitColumn, row), live);
+                ByteVector rowGrades = ByteVector.fromArray(BYTES, gradeColumn, row);
+                
+                IntVector laneUnits = (IntVector) rowUnits.convertShape(VectorOperators.B2I, INTS, 0);
+                IntVector slots = ((IntVector) rowGrades.convertShape(VectorOperators.B2I, INTS, 0)).add(1);
+                IntVector lanes = slots.and(LANES - 1);
+                IntVector rowPoints = lanes.selectFrom(lowPoints)
+                    .blend(lanes.selectFrom(highPoints), slots.compare(VectorOperators.GE, LANES));
+                
+                credit = credit.add(laneUnits.mul(rowPoints));
+                unitSum = unitSum.add(laneUnits);
+            }
+            creditHundredths[student - fromStudent] = credit.reduceLanes(VectorOperators.ADD);
+            units[student - fromStudent] = unitSum.reduceLanes(VectorOperators.ADD);
+        }
+    }
+    
+    private static void sumInLongs(CourseStore store, int student, long[] creditHundredths, int[] units, int index) {
+        GradingScale scale = store.getGradingScale();
+        long totalCredit = 0;
+        int totalUnits = 0;
+        for (int row = store.getCourseStart(student), end = store.getCourseEnd(student); row < end; row++) {
+            int rowUnits = store.getUnits(row);
+            totalCredit += scale.hundredthsOf(store.getGradeOrdinal(row)) * rowUnits;
+            totalUnits += rowUnits;
+        }
+        creditHundredths[index] = totalCredit;
+        units[index] = totalUnits;
+    }
+    
+    @Override
+    public String toString() {
+        return "vector (" + LANES + " int lanes)";
+    }
+}
@@ -1,6 +1,10 @@
 package com.cgpacalculator.utils;
 
+import com.cgpacalculator.metrics.Metrics;
+import com.cgpacalculator.metrics.ValidationEvent;
 import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.model.GradingScale;
 import java.util.List;
 
 /**
@@ -17,54 +21,73 @@ public class CGPACalculationValidator {
      * @return ValidationResult with detailed feedback
      */
     public static ValidationResult validateCalculationReadiness(List<Course> courses, String currentCGPA, String cumulativeUnits) {
+        return validateCalculationReadiness(courses, sumUnits(courses), currentCGPA, cumulativeUnits);
+    }
+    
+    /**
+     * Validates calculation readiness using a unit total the caller already maintains
+     * @param courses List of courses entered
+     * @param totalUnits Sum of the units of all courses
+     * @param currentCGPA Current CGPA input (can be empty for new students)
+     * @param cumulativeUnits Cumulative units input (can be empty for new students)
+     * @return ValidationResult with detailed feedback
+     */
+    public static ValidationResult validateCalculationReadiness(List<Course> courses, int totalUnits, 
+                                                                String currentCGPA, String cumulativeUnits) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        long start = Metrics.VALIDATION.start();
+        ValidationResult result = checkCalculationReadiness(courses, totalUnits, currentCGPA, cumulativeUnits);
+        Metrics.VALIDATION.stop(start);
+        event.finish(courses == null ? 0 : courses.size(), totalUnits, result.getErrorCodeCount());
+        return result;
+    }
+    
+    private static ValidationResult checkCalculationReadiness(List<Course> courses, int totalUnits, 
+                                                              String currentCGPA, String cumulativeUnits) {
         ValidationResult result = new ValidationResult();
         
         // Check if courses are present
         if (courses == null || courses.isEmpty()) {
-            result.addErrorMessage("Courses", "Please add at least one course before calculating CGPA");
+            result.addError(ValidationCode.NO_COURSES);
             return result;
         }
         
         // Check if total units are within required range
-        int totalUnits = courses.stream().mapToInt(Course::getUnits).sum();
         if (totalUnits < Constants.MIN_SEMESTER_UNITS) {
-            result.addErrorMessage("Total Units", 
-                String.format("You need at least %d units. Currently you have %d units. Please add more courses.", 
-                    Constants.MIN_SEMESTER_UNITS, totalUnits));
+            result.addError(ValidationCode.UNITS_BELOW_MINIMUM, Constants.MIN_SEMESTER_UNITS, totalUnits);
             return result;
         }
         
         if (totalUnits > Constants.MAX_SEMESTER_UNITS) {
-            result.addErrorMessage("Total Units", 
-                String.format("Maximum %d units allowed. You have %d units. Please remove some courses.", 
-                    Constants.MAX_SEMESTER_UNITS, totalUnits));
+            result.addError(ValidationCode.UNITS_ABOVE_MAXIMUM, Constants.MAX_SEMESTER_UNITS, totalUnits);
             return result;
         }
         
         // Check if all courses have valid data
         for (int i = 0; i < courses.size(); i++) {
             Course course = courses.get(i);
-            if (course.getCourseName() == null || course.getCourseName().trim().isEmpty()) {
-                result.addErrorMessage("Course " + (i + 1), "Course name is required");
+            if (!hasText(course.getCourseName())) {
+                result.addCourseError(ValidationCode.MISSING_COURSE_NAME, i + 1, course.getCourseName());
             }
-            if (course.getUnits() < Constants.MIN_COURSE_UNITS || course.getUnits() > Constants.MAX_COURSE_UNITS) {
-                result.addErrorMessage("Course " + (i + 1), "Invalid units for course: " + course.getCourseName());
+            if (!isValidCourseUnits(course.getUnits())) {
+                result.addCourseError(ValidationCode.INVALID_COURSE_UNITS, i + 1, course.getCourseName());
             }
-            if (course.getLetterGrade() == null || !Constants.isValidGrade(course.getLetterGrade())) {
-                result.addErrorMessage("Course " + (i + 1), "Invalid grade for course: " + course.getCourseName());
+            if (course.getGradeOrdinal() == GradingScale.INVALID_ORDINAL) {
+                result.addCourseError(ValidationCode.INVALID_COURSE_GRADE, i + 1, course.getCourseName());
             }
         }
         
         // Check consistency of current CGPA and cumulative units
-        boolean hasCGPA = currentCGPA != null && !currentCGPA.trim().isEmpty();
-        boolean hasUnits = cumulativeUnits != null && !cumulativeUnits.trim().isEmpty();
+        boolean hasCGPA = hasText(currentCGPA);
+        boolean hasUnits = hasText(cumulativeUnits);
         
         if (hasCGPA && !hasUnits) {
-            result.addErrorMessage("Academic Data", "If current CGPA is provided, cumulative units must also be provided");
+            result.addError(ValidationCode.CGPA_WITHOUT_UNITS);
         }
         
         if (hasUnits && !hasCGPA) {
-            result.addErrorMessage("Academic Data", "If cumulative units are provided, current CGPA must also be provided");
+            result.addError(ValidationCode.UNITS_WITHOUT_CGPA);
         }
         
         // If we have errors, return them
@@ -81,8 +104,30 @@ public class CGPACalculationValidator {
      * Quick check if calculation can proceed
      */
     public static boolean canCalculate(List<Course> courses, String currentCGPA, String cumulativeUnits) {
-        ValidationResult result = validateCalculationReadiness(courses, currentCGPA, cumulativeUnits);
-        return !result.hasErrors();
+        return canCalculate(courses, sumUnits(courses), currentCGPA, cumulativeUnits);
+    }
+    
+    /**
+     * Quick check if calculation can proceed, using a unit total the caller already maintains.
+     * Applies the same rules as {@link #validateCalculationReadiness} but stops at the first
+     * failure and allocates nothing.
+     */
+    public static boolean canCalculate(List<Course> courses, int totalUnits, String currentCGPA, String cumulativeUnits) {
+        if (courses == null || courses.isEmpty()
+                || totalUnits < Constants.MIN_SEMESTER_UNITS || totalUnits > Constants.MAX_SEMESTER_UNITS
+                || hasText(currentCGPA) != hasText(cumulativeUnits)) {
+            return false;
+        }
+        
+        for (int i = 0, size = courses.size(); i < size; i++) {
+            Course course = courses.get(i);
+            if (!isValidCourseUnits(course.getUnits())
+                    || course.getGradeOrdinal() == GradingScale.INVALID_ORDINAL
+                    || !hasText(course.getCourseName())) {
+                return false;
+            }
+        }
+        return true;
     }
     
     /**
@@ -94,8 +139,117 @@ public class CGPACalculationValidator {
         if (result.hasErrors()) {
             return "Cannot calculate: " + result.getErrorMessages().get(0).getMessage();
         } else {
-            int totalUnits = courses.stream().mapToInt(Course::getUnits).sum();
+            int totalUnits = sumUnits(courses);
             return String.format("Ready to calculate! %d courses, %d total units", courses.size(), totalUnits);
         }
     }
+    
+    /**
+     * Validates one student of a columnar store with the same rules as the list-based check.
+     * The prior record is numeric in the store, so the text consistency checks do not apply.
+     * @param store Course rows grouped by student
+     * @param student Index of the student to validate
+     * @return ValidationResult with detailed feedback
+     */
+    public static ValidationResult validateCalculationReadiness(CourseStore store, int student) {
+        ValidationResult result = new ValidationResult();
+        int start = store.getCourseStart(student);
+        int end = store.getCourseEnd(student);
+        
+        if (start == end) {
+            result.addError(ValidationCode.NO_COURSES);
+            return result;
+        }
+        
+        int totalUnits = getTotalUnits(store, student);
+        if (totalUnits < Constants.MIN_SEMESTER_UNITS) {
+            result.addError(ValidationCode.UNITS_BELOW_MINIMUM, Constants.MIN_SEMESTER_UNITS, totalUnits);
+            return result;
+        }
+        
+        if (totalUnits > Constants.MAX_SEMESTER_UNITS) {
+            result.addError(ValidationCode.UNITS_ABOVE_MAXIMUM, Constants.MAX_SEMESTER_UNITS, totalUnits);
+            return result;
+        }
+        
+        for (int row = start; row < end; row++) {
+            int courseNumber = row - start + 1;
+            if (!store.hasValidCourseName(row)) {
+                result.addCourseError(ValidationCode.MISSING_COURSE_NAME, courseNumber, store.getCourseName(row));
+            }
+            if (!isValidCourseUnits(store.getUnits(row))) {
+                result.addCourseError(ValidationCode.INVALID_COURSE_UNITS, courseNumber, store.getCourseName(row));
+            }
+            if (store.getGradeOrdinal(row) == CourseStore.INVALID_GRADE) {
+                result.addCourseError(ValidationCode.INVALID_COURSE_GRADE, courseNumber, store.getCourseName(row));
+            }
+        }
+        
+        if (result.hasErrors()) {
+            return result;
+        }
+        
+        result.addSuccessMessage("All required data is complete. Ready to calculate CGPA!");
+        return result;
+    }
+    
+    /**
+     * Quick check if calculation can proceed for one student of a columnar store.
+     * Scans the primitive columns only and allocates nothing.
+     */
+    public static boolean canCalculate(CourseStore store, int student) {
+        int start = store.getCourseStart(student);
+        int end = store.getCourseEnd(student);
+        if (start == end) {
+            return false;
+        }
+        
+        int totalUnits = 0;
+        for (int row = start; row < end; row++) {
+            int units = store.getUnits(row);
+            if (!isValidCourseUnits(units)
+                    || store.getGradeOrdinal(row) == CourseStore.INVALID_GRADE
+                    || !store.hasValidCourseName(row)) {
+                return false;
+            }
+            totalUnits += units;
+        }
+        
+        return totalUnits >= Constants.MIN_SEMESTER_UNITS && totalUnits <= Constants.MAX_SEMESTER_UNITS;
+    }
+    
+    private static int sumUnits(List<Course> courses) {
+        int totalUnits = 0;
+        if (courses != null) {
+            for (int i = 0, size = courses.size(); i < size; i++) {
+                totalUnits += courses.get(i).getUnits();
+            }
+        }
+        return totalUnits;
+    }
+    
+    private static boolean isValidCourseUnits(int units) {
+        return units >= Constants.MIN_COURSE_UNITS && units <= Constants.MAX_COURSE_UNITS;
+    }
+    
+    // Same as !value.trim().isEmpty() without creating the trimmed copy
+    private static boolean hasText(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static int getTotalUnits(CourseStore store, int student) {
+        int totalUnits = 0;
+        for (int row = store.getCourseStart(student), end = store.getCourseEnd(student); row < end; row++) {
+            totalUnits += store.getUnits(row);
+        }
+        return totalUnits;
+    }
 }
\ No newline at end of file
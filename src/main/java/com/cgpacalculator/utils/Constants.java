@@ -1,5 +1,7 @@
 package com.cgpacalculator.utils;
 
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.model.GradingScales;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -11,7 +13,7 @@ public final class Constants {
         throw new UnsupportedOperationException("Constants class cannot be instantiated");
     }
     
-    // Grade Point Mappings
+    // Grade Point Mappings of the built-in 5-point scale; GradingScales.current() is the scale in use
     public static final Map<String, Double> GRADE_POINTS_MAP = Map.of(
         "A", 5.0,
         "B", 4.0,
@@ -21,7 +23,7 @@ public final class Constants {
         "F", 0.0
     );
     
-    // Valid Grades Array
+    // Valid Grades Array of the built-in 5-point scale
     public static final String[] VALID_GRADES = {"A", "B", "C", "D", "E", "F"};
     
     // Academic Constraints
@@ -35,7 +37,7 @@ public final class Constants {
     public static final boolean REQUIRE_ALL_FIELDS_FOR_CALCULATION = true;
     public static final String ERROR_INCOMPLETE_DATA = "Please complete all required fields before calculating CGPA";
     
-    // CGPA Ranges
+    // CGPA Ranges (MAX_CGPA is the built-in scale's; see getMaxCGPA())
     public static final double MIN_CGPA = 0.00;
     public static final double MAX_CGPA = 5.00;
     
@@ -122,12 +124,29 @@ public final class Constants {
     public static final String VERSION = "1.0.0";
     
     // File Constants
-    public static final String DEFAULT_SAVE_FILENAME = "cgpa_data.json";
-    public static final String FILE_EXTENSION = ".json";
+    public static final String DEFAULT_SAVE_FILENAME = "cgpa_data.bin";
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String JOURNAL_FILENAME = "cgpa_data.journal";
+    public static final String LEGACY_SAVE_FILENAME = "cgpa_data.txt"; // Text format, still loadable for migration
+    
+    // Grading Scale Settings
+    public static final String GRADING_SCALES_FILENAME = "grading-scales.properties"; // Read from the working directory if present
+    public static final String GRADING_SCALES_PROPERTY = "cgpacalculator.gradingScales"; // System property naming another file
+    
+    // Calculation Service Settings
+    public static final String SERVER_DEFAULT_HOST = "127.0.0.1"; // Local only unless --host is given
+    public static final int SERVER_DEFAULT_PORT = 8080;
+    public static final int SERVER_BACKLOG = 4096; // Pending connections held during request bursts
+    public static final int SERVER_FALLBACK_THREADS = 64; // Request threads when virtual threads are unavailable
+    public static final int SERVER_MAX_BODY_BYTES = 8 * 1024 * 1024;
     
     // Calculation Precision
     public static final int DECIMAL_PLACES = 2;
     
+    // Projection Settings
+    public static final int PROJECTION_TRIALS = 2_000_000; // Simulated semesters per projection
+    public static final double PROJECTION_CONFIDENCE = 0.60; // Chance that a course ends on its entered grade
+    
     // Color Coding for Classifications (RGB values)
     public static final String FIRST_CLASS_COLOR = "#4CAF50";      // Green
     public static final String SECOND_CLASS_UPPER_COLOR = "#8BC34A"; // Light Green
@@ -135,46 +154,38 @@ public final class Constants {
     public static final String THIRD_CLASS_COLOR = "#FF9800";       // Orange
     public static final String FAIL_CLASS_COLOR = "#F44336";        // Red
     
-    // Gets the grade point value for a given letter grade
+    // Gets the grade point value for a given letter grade (0.0 for unknown grades)
     public static double getGradePoints(String grade) {
-        return GRADE_POINTS_MAP.getOrDefault(grade.toUpperCase(), 0.0);
+        return GradingScales.current().pointsOf(grade);
     }
     
     // Checks if a grade is valid
     public static boolean isValidGrade(String grade) {
-        return grade != null && GRADE_POINTS_MAP.containsKey(grade.toUpperCase());
+        return GradingScales.current().isValid(grade);
+    }
+    
+    // Grades of the scale in use, best first
+    public static String[] getValidGrades() {
+        return GradingScales.current().getLabels();
+    }
+    
+    // Highest CGPA on the scale in use
+    public static double getMaxCGPA() {
+        return GradingScales.current().getMaxPoints();
+    }
+    
+    // e.g. "CGPA must be between 0.00-5.00"
+    public static String getInvalidCGPAMessage() {
+        return String.format("CGPA must be between %.2f-%.2f", MIN_CGPA, getMaxCGPA());
     }
     
-    // Gets the classification for a given CGPA
-    public static String getClassification(double cgpa) {
-        if (cgpa >= FIRST_CLASS_MIN) {
-            return FIRST_CLASS;
-        } else if (cgpa >= SECOND_CLASS_UPPER_MIN) {
-            return SECOND_CLASS_UPPER;
-        } else if (cgpa >= SECOND_CLASS_LOWER_MIN) {
-            return SECOND_CLASS_LOWER;
-        } else if (cgpa >= THIRD_CLASS_MIN) {
-            return THIRD_CLASS;
-        } else {
-            return FAIL_CLASS;
-        }
+    // e.g. "Grade must be A, B, C, D, E or F"
+    public static String getInvalidGradeMessage() {
+        return "Grade must be " + GradingScales.current().describeGrades();
     }
     
-    // Gets the color code for a given classification
-    public static String getClassificationColor(String classification) {
-        switch (classification) {
-            case FIRST_CLASS:
-                return FIRST_CLASS_COLOR;
-            case SECOND_CLASS_UPPER:
-                return SECOND_CLASS_UPPER_COLOR;
-            case SECOND_CLASS_LOWER:
-                return SECOND_CLASS_LOWER_COLOR;
-            case THIRD_CLASS:
-                return THIRD_CLASS_COLOR;
-            case FAIL_CLASS:
-                return FAIL_CLASS_COLOR;
-            default:
-                return "#000000"; // Black for unknown
-        }
+    // Classification scheme of the scale in use; classify CGPAs to ordinals with it
+    public static ClassificationScheme getClassificationScheme() {
+        return GradingScales.current().getClassificationScheme();
     }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.cgpacalculator.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point GPA and CGPA arithmetic, and locale-independent text for machine-readable output.
+ * <p>
+ * Grade points, credit points and CGPAs are held as whole hundredths of a point: credit points
+ * are summed exactly in {@code long} accumulators, and a GPA or CGPA is one integer division of
+ * credit hundredths by units, rounded to hundredths by the configured {@link RoundingMode}. So
+ * a CGPA that comes out at 4.495 is 4.50 with {@code HALF_UP} and 4.49 with {@code DOWN},
+ * whatever binary doubles would have made of it, and the classification always agrees with the
+ * value shown. Sums of hundredths also merge across partitions exactly, in any order.
+ * Doubles returned to callers are these hundredths divided by 100.
+ */
+public final class Decimals {
+    
+    /** Fixed-point scale of points, credit points and CGPAs */
+    public static final int HUNDREDTHS = 100;
+    
+    /** Rounding used unless the grading scales file sets another */
+    public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
+    
+    /** Longest decimal text {@link #parseHundredths} accepts */
+    public static final int MAX_DECIMAL_LENGTH = 32;
+    
+    private static volatile RoundingMode rounding = DEFAULT_ROUNDING;
+    
+    private Decimals() {
+        throw new UnsupportedOperationException("Decimals class cannot be instantiated");
+    }
+    
+    /**
+     * Rounding applied to every GPA and CGPA and to CGPAs typed with more than two decimals
+     */
+    public static RoundingMode getRounding() {
+        return rounding;
+    }
+    
+    /**
+     * @throws IllegalArgumentException for {@link RoundingMode#UNNECESSARY}, which most CGPAs would fail
+     */
+    public static void setRounding(RoundingMode mode) {
+        if (mode == null || mode == RoundingMode.UNNECESSARY) {
+            throw new IllegalArgumentException("Unsupported CGPA rounding: " + mode);
+        }
+        rounding = mode;
+    }
+    
+    /**
+     * Credit hundredths per unit, rounded to hundredths, e.g. 13,480 over 30 units is 449 or 450
+     * @param creditHundredths Sum of units times grade points, in hundredths
+     * @param units Units the credit points cover
+     * @return GPA or CGPA in hundredths; 0 when there are no units
+     */
+    public static int average(long creditHundredths, int units, RoundingMode mode) {
+        return units <= 0 ? 0 : (int) divide(creditHundredths, units, mode);
+    }
+    
+    /**
+     * Smallest credit total, in hundredths, whose average over the given units rounds to at
+     * least the given GPA or CGPA
+     */
+    public static long minimumCredit(long averageHundredths, int units, RoundingMode mode) {
+        // The rounded average is non-decreasing in the credit; at exactly (average - 1) * units
+        // it is average - 1 and at average * units it is average, so the answer lies in between
+        long low = (averageHundredths - 1) * units;
+        long high = averageHundredths * units;
+        while (high - low > 1) {
+            long middle = low + (high - low) / 2;
+            if (divide(middle, units, mode) >= averageHundredths) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return high;
+    }
+    
+    /**
+     * Integer division rounded like {@link BigDecimal#divide(BigDecimal, RoundingMode)}
+     * @param divisor Must be positive
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        
+        // Truncation moved toward zero; step away from it when the rounding mode asks to
+        long sign = dividend < 0 ? -1 : 1;
+        long twiceRemainder = Math.abs(remainder) * 2;
+        boolean away;
+        switch (mode) {
+            case DOWN:
+                away = false;
+                break;
+            case UP:
+                away = true;
+                break;
+            case FLOOR:
+                away = sign < 0;
+                break;
+            case CEILING:
+                away = sign > 0;
+                break;
+            case HALF_UP:
+                away = twiceRemainder >= divisor;
+                break;
+            case HALF_DOWN:
+                away = twiceRemainder > divisor;
+                break;
+            case HALF_EVEN:
+                away = twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0);
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary: " + dividend + "/" + divisor);
+        }
+        return away ? quotient + sign : quotient;
+    }
+    
+    /**
+     * Reads a decimal exactly, without going through binary floating point, rounding any
+     * further decimals with {@link #getRounding()}; "4.495" is 450 with HALF_UP
+     * @return The value in hundredths
+     * @throws NumberFormatException if the text is not a plain decimal number of at most
+     *         {@link #MAX_DECIMAL_LENGTH} characters
+     */
+    public static long parseHundredths(String text) {
+        String decimal = text.trim();
+        // Checked before BigDecimal sees it: an exponent such as 1e10000000 would make
+        // setScale build a ten-million-digit number
+        if (!isPlainDecimal(decimal)) {
+            throw new NumberFormatException("Not a plain decimal number: " + text);
+        }
+        try {
+            return new BigDecimal(decimal).setScale(Constants.DECIMAL_PLACES, rounding).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Out of range: " + text);
+        }
+    }
+    
+    // Optional sign, digits and at most one point; no exponent
+    private static boolean isPlainDecimal(String text) {
+        if (text.isEmpty() || text.length() > MAX_DECIMAL_LENGTH) {
+            return false;
+        }
+        int start = text.charAt(0) == '-' || text.charAt(0) == '+' ? 1 : 0;
+        boolean digits = false;
+        boolean point = false;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+    
+    /**
+     * {@link #parseHundredths} as a double, for inputs compared against double limits
+     */
+    public static double parse(String text) {
+        return toDouble(parseHundredths(text));
+    }
+    
+    /**
+     * Nearest hundredths of a value that is meant to be a whole number of hundredths, such
+     * as a parsed CGPA or a configured grade point
+     */
+    public static long toHundredths(double value) {
+        return Math.round(value * HUNDREDTHS);
+    }
+    
+    public static double toDouble(long hundredths) {
+        return (double) hundredths / HUNDREDTHS;
+    }
+    
+    /**
+     * Appends a value with {@link Constants#DECIMAL_PLACES} decimals, e.g. 4.33
+     */
+    public static StringBuilder appendHundredths(StringBuilder target, double value) {
+        return target.append(BigDecimal.valueOf(value).setScale(Constants.DECIMAL_PLACES, RoundingMode.HALF_UP).toPlainString());
+    }
+    
+    /**
+     * Appends a fixed-point value, e.g. 433 as 4.33
+     */
+    public static StringBuilder appendFixed(StringBuilder target, long hundredths) {
+        if (hundredths < 0) {
+            target.append('-');
+        }
+        long magnitude = Math.abs(hundredths);
+        long fraction = magnitude % HUNDREDTHS;
+        target.append(magnitude / HUNDREDTHS).append('.');
+        return target.append(fraction < 10 ? "0" : "").append(fraction);
+    }
+}
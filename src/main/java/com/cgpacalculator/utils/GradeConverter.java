@@ -1,7 +1,10 @@
 package com.cgpacalculator.utils;
 
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+
 /**
- * Utility class for converting between letter grades and grade points
+ * Utility class for converting between letter grades and grade points on the grading scale in use
  */
 public class GradeConverter {
     
@@ -12,6 +15,22 @@ public class GradeConverter {
         return Constants.getGradePoints(letterGrade);
     }
     
+    /**
+     * Converts a letter grade character to grade points (0.0 for unknown grades)
+     */
+    public static double convertLetterGradeToPoints(char letterGrade) {
+        GradingScale scale = GradingScales.current();
+        return scale.pointsOf(scale.ordinalOf(letterGrade));
+    }
+    
+    /**
+     * Converts a raw ASCII grade byte to grade points, for parsers that never build Strings
+     */
+    public static double convertLetterGradeToPoints(byte letterGrade) {
+        GradingScale scale = GradingScales.current();
+        return scale.pointsOf(scale.ordinalOf(letterGrade));
+    }
+    
     /**
      * Checks if a letter grade is valid
      */
@@ -0,0 +1,294 @@
+package com.cgpacalculator.utils;
+
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Loads grading-scale definitions from a properties file and installs them in {@link GradingScales}.
+ * <pre>
+ * scales=five-point, four-point, percentage      (optional; order shown in the UI)
+ * default=four-point                             (optional; scale used at startup)
+ * rounding=HALF_UP                               (optional; how GPAs and CGPAs round to hundredths)
+ * scale.four-point.label=4.0 scale (A-F with +/-)
+ * scale.four-point.grades=A=4.0, A-=3.7, B+=3.3, B=3.0, B-=2.7, C+=2.3, C=2.0, D=1.0, F=0.0
+ * scale.four-point.classification=honours
+ * scale.percentage.grades=A=5.0@70, B=4.0@60, C=3.0@50, D=2.0@45, E=1.0@40, F=0.0@0
+ * classification.honours.label=Latin honours
+ * classification.honours.classes=Summa Cum Laude@3.90#4CAF50, Magna Cum Laude@3.70, Cum Laude@3.50, Pass
+ * </pre>
+ * Grades are listed best first as label=points; "@mark" starts a grade's band of marks, and a
+ * scale with bands also accepts whole marks 0-100 as grades. Classes are listed best first as
+ * label@minimum CGPA, with an optional #RRGGBB color; the last class has no minimum. A scale
+ * without a classification uses the built-in five-point classes, so one is required unless the
+ * scale's best grade is worth 5 points. The built-in five-point scale and classes are always available
+ * unless the file redefines them. Each definition is compiled once, when loaded. The rounding is
+ * any {@link RoundingMode} but UNNECESSARY, e.g. DOWN to require a CGPA to truly reach a class
+ * minimum rather than round up to it.
+ */
+public final class GradingScaleConfig {
+    
+    public static final String SCALES_KEY = "scales";
+    public static final String DEFAULT_KEY = "default";
+    public static final String ROUNDING_KEY = "rounding";
+    
+    private static final String SCALE_PREFIX = "scale.";
+    private static final String LABEL_SUFFIX = ".label";
+    private static final String GRADES_SUFFIX = ".grades";
+    private static final String CLASSIFICATION_SUFFIX = ".classification";
+    private static final String CLASSIFICATION_PREFIX = "classification.";
+    private static final String CLASSES_SUFFIX = ".classes";
+    
+    private GradingScaleConfig() {
+        throw new UnsupportedOperationException("GradingScaleConfig class cannot be instantiated");
+    }
+    
+    /**
+     * Loads the file named by the {@value Constants#GRADING_SCALES_PROPERTY} system property, or
+     * {@value Constants#GRADING_SCALES_FILENAME} in the working directory if it exists
+     * @return Whether a file was loaded; without one only the built-in scale is available
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a definition is invalid
+     */
+    public static boolean loadConfigured() throws IOException {
+        String configured = System.getProperty(Constants.GRADING_SCALES_PROPERTY);
+        Path file = Paths.get(configured != null ? configured : Constants.GRADING_SCALES_FILENAME);
+        if (configured == null && !Files.exists(file)) {
+            return false;
+        }
+        load(file);
+        return true;
+    }
+    
+    /**
+     * Loads a definitions file, replacing the configured scales and switching to its default
+     */
+    public static GradingScale load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            return load(properties);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(file + ": " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Compiles every definition before installing any, so an invalid file changes nothing
+     * @return The scale now in use
+     */
+    public static GradingScale load(Properties properties) {
+        RoundingMode rounding = parseRounding(properties.getProperty(ROUNDING_KEY));
+        
+        Map<String, ClassificationScheme> schemes = new HashMap<>();
+        schemes.put(ClassificationScheme.FIVE_POINT.getName(), ClassificationScheme.FIVE_POINT);
+        for (String name : definedNames(properties, CLASSIFICATION_PREFIX, CLASSES_SUFFIX)) {
+            schemes.put(name, parseClassification(name,
+                properties.getProperty(CLASSIFICATION_PREFIX + name + LABEL_SUFFIX),
+                properties.getProperty(CLASSIFICATION_PREFIX + name + CLASSES_SUFFIX)));
+        }
+        
+        List<GradingScale> scales = new ArrayList<>();
+        boolean redefinesBuiltIn = false;
+        for (String name : scaleNames(properties)) {
+            GradingScale scale = parse(name, properties.getProperty(SCALE_PREFIX + name + LABEL_SUFFIX),
+                                       properties.getProperty(SCALE_PREFIX + name + GRADES_SUFFIX),
+                                       classificationOf(name, properties, schemes));
+            if (!properties.containsKey(SCALE_PREFIX + name + CLASSIFICATION_SUFFIX)
+                    && scale.getMaxPoints() != GradingScale.FIVE_POINT.getMaxPoints()) {
+                throw new IllegalArgumentException("Scale " + name + " is not a 5-point scale and needs "
+                    + SCALE_PREFIX + name + CLASSIFICATION_SUFFIX);
+            }
+            redefinesBuiltIn |= scale.getName().equals(GradingScale.FIVE_POINT.getName());
+            scales.add(scale);
+        }
+        if (!redefinesBuiltIn) {
+            scales.add(0, GradingScale.FIVE_POINT);
+        }
+        
+        String defaultName = properties.getProperty(DEFAULT_KEY, GradingScale.FIVE_POINT.getName()).trim();
+        GradingScale defaultScale = null;
+        for (GradingScale scale : scales) {
+            if (scale.getName().equals(defaultName)) {
+                defaultScale = scale;
+            }
+        }
+        if (defaultScale == null) {
+            throw new IllegalArgumentException("Default grading scale " + defaultName + " is not defined");
+        }
+        GradingScales.install(scales, defaultScale);
+        Decimals.setRounding(rounding);
+        return defaultScale;
+    }
+    
+    /**
+     * Reads a rounding mode name such as HALF_UP or half-even
+     * @param text Mode name, or null for {@link Decimals#DEFAULT_ROUNDING}
+     */
+    public static RoundingMode parseRounding(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return Decimals.DEFAULT_ROUNDING;
+        }
+        try {
+            RoundingMode mode = RoundingMode.valueOf(text.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            if (mode != RoundingMode.UNNECESSARY) {
+                return mode;
+            }
+        } catch (IllegalArgumentException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(ROUNDING_KEY + " must be HALF_UP, HALF_EVEN, HALF_DOWN, UP, DOWN, CEILING or FLOOR"
+            + " (provided: " + text.trim() + ")");
+    }
+    
+    /**
+     * Compiles one definition with the built-in five-point classes
+     * @param name Scale identifier
+     * @param label Display name, or null to use the identifier
+     * @param grades Comma-separated label=points[@mark] entries, best grade first
+     */
+    public static GradingScale parse(String name, String label, String grades) {
+        return parse(name, label, grades, ClassificationScheme.FIVE_POINT);
+    }
+    
+    /**
+     * Compiles one definition
+     * @param name Scale identifier
+     * @param label Display name, or null to use the identifier
+     * @param grades Comma-separated label=points[@mark] entries, best grade first
+     * @param classification Classes of CGPAs on the scale
+     */
+    public static GradingScale parse(String name, String label, String grades, ClassificationScheme classification) {
+        if (grades == null || grades.trim().isEmpty()) {
+            throw new IllegalArgumentException(SCALE_PREFIX + name + GRADES_SUFFIX + " is missing");
+        }
+        String[] entries = grades.split(",");
+        String[] labels = new String[entries.length];
+        double[] points = new double[entries.length];
+        int[] minMarks = new int[entries.length];
+        int banded = 0;
+        
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i].trim();
+            int equals = entry.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Grade '" + entry + "' of scale " + name + " must be written label=points");
+            }
+            labels[i] = entry.substring(0, equals).trim();
+            String value = entry.substring(equals + 1).trim();
+            int at = value.indexOf('@');
+            try {
+                if (at >= 0) {
+                    minMarks[i] = Integer.parseInt(value.substring(at + 1).trim());
+                    value = value.substring(0, at).trim();
+                    banded++;
+                }
+                points[i] = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Grade '" + entry + "' of scale " + name + " has invalid points or mark");
+            }
+        }
+        if (banded != 0 && banded != entries.length) {
+            throw new IllegalArgumentException("Either every grade of scale " + name + " has a mark band (@mark) or none does");
+        }
+        return new GradingScale(name, label, labels, points, banded == 0 ? null : minMarks, classification);
+    }
+    
+    /**
+     * Compiles one classification scheme
+     * @param name Scheme identifier
+     * @param label Display name, or null to use the identifier
+     * @param classes Comma-separated label@minimum[#RRGGBB] entries, best class first;
+     *                the last entry is label[#RRGGBB]
+     */
+    public static ClassificationScheme parseClassification(String name, String label, String classes) {
+        if (classes == null || classes.trim().isEmpty()) {
+            throw new IllegalArgumentException(CLASSIFICATION_PREFIX + name + CLASSES_SUFFIX + " is missing");
+        }
+        String[] entries = classes.split(",");
+        String[] labels = new String[entries.length];
+        double[] minimums = new double[entries.length - 1];
+        int[] colors = new int[entries.length];
+        
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i].trim();
+            int hash = entry.lastIndexOf('#');
+            colors[i] = hash >= 0 ? ClassificationScheme.parseColor(entry.substring(hash)) : ClassificationScheme.DEFAULT_COLOR;
+            if (hash >= 0) {
+                entry = entry.substring(0, hash).trim();
+            }
+            int at = entry.lastIndexOf('@');
+            boolean last = i == entries.length - 1;
+            if ((at >= 0) == last) {
+                throw new IllegalArgumentException("Class '" + entries[i].trim() + "' of classification " + name
+                    + (last ? " is the lowest and takes no minimum CGPA" : " must be written label@minimum"));
+            }
+            labels[i] = (at >= 0 ? entry.substring(0, at) : entry).trim();
+            if (!last) {
+                try {
+                    minimums[i] = Double.parseDouble(entry.substring(at + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Class '" + entries[i].trim() + "' of classification " + name
+                        + " has an invalid minimum CGPA");
+                }
+            }
+        }
+        return new ClassificationScheme(name, label, labels, minimums, colors);
+    }
+    
+    // The scheme named by scale.<name>.classification, or the built-in classes for 5-point scales
+    private static ClassificationScheme classificationOf(String scale, Properties properties,
+                                                         Map<String, ClassificationScheme> schemes) {
+        String name = properties.getProperty(SCALE_PREFIX + scale + CLASSIFICATION_SUFFIX);
+        if (name == null || name.trim().isEmpty()) {
+            return ClassificationScheme.FIVE_POINT;
+        }
+        ClassificationScheme scheme = schemes.get(name.trim());
+        if (scheme == null) {
+            throw new IllegalArgumentException("Classification " + name.trim() + " of scale " + scale + " is not defined");
+        }
+        return scheme;
+    }
+    
+    // The listed scales in order, or every defined scale sorted by name
+    private static List<String> scaleNames(Properties properties) {
+        List<String> names = new ArrayList<>();
+        String listed = properties.getProperty(SCALES_KEY);
+        if (listed != null && !listed.trim().isEmpty()) {
+            for (String name : listed.split(",")) {
+                if (!name.trim().isEmpty()) {
+                    names.add(name.trim());
+                }
+            }
+            return names;
+        }
+        return definedNames(properties, SCALE_PREFIX, GRADES_SUFFIX);
+    }
+    
+    // Identifiers of every prefix.<id>.suffix key, sorted
+    private static List<String> definedNames(Properties properties, String prefix, String suffix) {
+        TreeSet<String> defined = new TreeSet<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix) && key.endsWith(suffix) && key.length() > prefix.length() + suffix.length()) {
+                defined.add(key.substring(prefix.length(), key.length() - suffix.length()));
+            }
+        }
+        return new ArrayList<>(defined);
+    }
+}
@@ -0,0 +1,47 @@
+package com.cgpacalculator.utils;
+
+// Compact identifiers for validation errors; the field and message text is only built when asked for.
+// Per-course codes take the course number and course name as arguments, the unit-range codes take
+// the limit and the actual total.
+public enum ValidationCode {
+    NO_COURSES("Courses", "Please add at least one course before calculating CGPA"),
+    UNITS_BELOW_MINIMUM("Total Units", "You need at least %d units. Currently you have %d units. Please add more courses."),
+    UNITS_ABOVE_MAXIMUM("Total Units", "Maximum %d units allowed. You have %d units. Please remove some courses."),
+    MISSING_COURSE_NAME("Course %d", "Course name is required"),
+    INVALID_COURSE_UNITS("Course %d", "Invalid units for course: %s"),
+    INVALID_COURSE_GRADE("Course %d", "Invalid grade for course: %s"),
+    DUPLICATE_COURSE_NAME("Course %d", "Duplicate course: %s"),
+    CGPA_WITHOUT_UNITS("Academic Data", "If current CGPA is provided, cumulative units must also be provided"),
+    UNITS_WITHOUT_CGPA("Academic Data", "If cumulative units are provided, current CGPA must also be provided"),
+    
+    // Free-text error added through ValidationResult's String-based methods
+    CUSTOM(null, null);
+    
+    private final String fieldFormat;
+    private final String messageFormat;
+    private final boolean courseError;
+    
+    ValidationCode(String fieldFormat, String messageFormat) {
+        this.fieldFormat = fieldFormat;
+        this.messageFormat = messageFormat;
+        this.courseError = fieldFormat != null && fieldFormat.contains("%d");
+    }
+    
+    // True for codes that describe a single course
+    public boolean isCourseError() {
+        return courseError;
+    }
+    
+    // Field name for an error with the given arguments
+    String formatField(int first) {
+        return courseError ? String.format(fieldFormat, first) : fieldFormat;
+    }
+    
+    // Message for an error with the given arguments
+    String formatMessage(int first, int second, String text) {
+        if (messageFormat.indexOf('%') < 0) {
+            return messageFormat;
+        }
+        return courseError ? String.format(messageFormat, text) : String.format(messageFormat, first, second);
+    }
+}
@@ -1,40 +1,75 @@
 package com.cgpacalculator.utils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;public class ValidationResult {
+import java.util.Map;
+
+// Collects validation errors as compact codes plus arguments. Field names and messages are
+// rendered only when first requested and then cached, so validators that are only asked
+// hasErrors() never format a String. The returned lists and maps are read-only views.
+public class ValidationResult {
+    
+    private static final int INITIAL_CAPACITY = 4;
+    private static final String GENERAL_FIELD = "General";
     
     private boolean isValidationSuccessful;
-    private final List<String> successMessages;
-    private final Map<String, String> fieldErrorMessages;
-    private final List<String> generalErrorMessages;public ValidationResult() {
+    private List<String> successMessages;
+    
+    // One entry per recorded error: code, two int arguments and up to two text arguments
+    // (course name for course errors; field and message for CUSTOM errors)
+    private ValidationCode[] codes;
+    private int[] intArguments;
+    private String[] textArguments;
+    private int errorCount;
+    
+    // Rendered views, built on first request and dropped when another error is added
+    private Map<String, String> fieldErrorMessages;
+    private List<String> generalErrorMessages;
+    private List<ValidationMessage> errorMessages;
+    
+    public ValidationResult() {
         this.isValidationSuccessful = true;
-        this.successMessages = new ArrayList<>();
-        this.fieldErrorMessages = new HashMap<>();
-        this.generalErrorMessages = new ArrayList<>();
     }
     
     // Method comment
     public void addSuccessMessage(String successMessage) {
         if (successMessage != null && !successMessage.trim().isEmpty()) {
+            if (successMessages == null) {
+                successMessages = new ArrayList<>(INITIAL_CAPACITY);
+            }
             successMessages.add(successMessage.trim());
         }
     }
     
+    // Records an error that needs no arguments
+    public void addError(ValidationCode code) {
+        addEntry(code, 0, 0, null, null);
+    }
+    
+    // Records an error with two numeric arguments, e.g. a unit limit and the actual total
+    public void addError(ValidationCode code, int first, int second) {
+        addEntry(code, first, second, null, null);
+    }
+    
+    // Records a per-course error; courseNumber is 1-based
+    public void addCourseError(ValidationCode code, int courseNumber, String courseName) {
+        addEntry(code, courseNumber, 0, courseName, null);
+    }
+    
     // Method comment
     public void addErrorMessage(String fieldName, String errorMessage) {
         if (fieldName != null && errorMessage != null) {
-            fieldErrorMessages.put(fieldName.trim(), errorMessage.trim());
-            isValidationSuccessful = false;
+            addEntry(ValidationCode.CUSTOM, 0, 0, fieldName.trim(), errorMessage.trim());
         }
     }
     
     // Method comment
     public void addGeneralErrorMessage(String errorMessage) {
         if (errorMessage != null && !errorMessage.trim().isEmpty()) {
-            generalErrorMessages.add(errorMessage.trim());
-            isValidationSuccessful = false;
+            addEntry(ValidationCode.CUSTOM, 0, 0, null, errorMessage.trim());
         }
     }
     
@@ -48,39 +83,62 @@ import java.util.Map;public class ValidationResult {
         return !isValidationSuccessful;
     }
     
+    // Number of errors recorded, before errors for the same field are merged
+    public int getErrorCodeCount() {
+        return errorCount;
+    }
+    
+    public ValidationCode getErrorCode(int index) {
+        if (index < 0 || index >= errorCount) {
+            throw new IndexOutOfBoundsException("Error index " + index + " of " + errorCount);
+        }
+        return codes[index];
+    }
+    
+    public boolean hasErrorCode(ValidationCode code) {
+        for (int i = 0; i < errorCount; i++) {
+            if (codes[i] == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     // Method comment
     public List<String> getSuccessMessages() {
-        return new ArrayList<>(successMessages);
+        return successMessages == null ? Collections.emptyList() : Collections.unmodifiableList(successMessages);
     }
     
-    // Method comment
+    // Field errors in the order fields were first reported; a later error for a field replaces the earlier one
     public Map<String, String> getFieldErrorMessages() {
-        return new HashMap<>(fieldErrorMessages);
+        render();
+        return fieldErrorMessages;
     }
     
     // Method comment
     public List<String> getGeneralErrorMessages() {
-        return new ArrayList<>(generalErrorMessages);
+        render();
+        return generalErrorMessages;
     }
     
     // Method comment
     public String getFieldErrorMessage(String fieldName) {
-        return fieldErrorMessages.get(fieldName);
+        return getFieldErrorMessages().get(fieldName);
     }
     
     // Method comment
     public boolean hasFieldError(String fieldName) {
-        return fieldErrorMessages.containsKey(fieldName);
+        return getFieldErrorMessages().containsKey(fieldName);
     }
     
     // Method comment
     public int getTotalErrorCount() {
-        return fieldErrorMessages.size() + generalErrorMessages.size();
+        return getFieldErrorMessages().size() + getGeneralErrorMessages().size();
     }
     
     // Method comment
     public int getSuccessMessageCount() {
-        return successMessages.size();
+        return successMessages == null ? 0 : successMessages.size();
     }
     
     // Method comment
@@ -88,7 +146,7 @@ import java.util.Map;public class ValidationResult {
         StringBuilder errorStringBuilder = new StringBuilder();
         
         // Add field-specific errors
-        for (Map.Entry<String, String> fieldError : fieldErrorMessages.entrySet()) {
+        for (Map.Entry<String, String> fieldError : getFieldErrorMessages().entrySet()) {
             if (errorStringBuilder.length() > 0) {
                 errorStringBuilder.append("\n");
             }
@@ -98,7 +156,7 @@ import java.util.Map;public class ValidationResult {
         }
         
         // Add general errors
-        for (String generalError : generalErrorMessages) {
+        for (String generalError : getGeneralErrorMessages()) {
             if (errorStringBuilder.length() > 0) {
                 errorStringBuilder.append("\n");
             }
@@ -110,15 +168,19 @@ import java.util.Map;public class ValidationResult {
     
     // Method comment
     public String getAllSuccessMessagesAsString() {
-        return String.join("\n", successMessages);
+        return String.join("\n", getSuccessMessages());
     }
     
     // Clears all validation results and resets to initial state.
     public void clearAllResults() {
         isValidationSuccessful = true;
-        successMessages.clear();
-        fieldErrorMessages.clear();
-        generalErrorMessages.clear();
+        successMessages = null;
+        if (errorCount > 0) {
+            Arrays.fill(codes, 0, errorCount, null);
+            Arrays.fill(textArguments, 0, errorCount * 2, null);
+        }
+        errorCount = 0;
+        dropRenderedViews();
     }
     
     // Method comment
@@ -128,13 +190,16 @@ import java.util.Map;public class ValidationResult {
         }
         
         // Merge success messages
-        successMessages.addAll(otherValidationResult.getSuccessMessages());
-        
-        // Merge field error messages
-        fieldErrorMessages.putAll(otherValidationResult.getFieldErrorMessages());
+        for (String successMessage : otherValidationResult.getSuccessMessages()) {
+            addSuccessMessage(successMessage);
+        }
         
-        // Merge general error messages
-        generalErrorMessages.addAll(otherValidationResult.getGeneralErrorMessages());
+        // Merge errors as codes, without rendering either side
+        for (int i = 0; i < otherValidationResult.errorCount; i++) {
+            addEntry(otherValidationResult.codes[i],
+                     otherValidationResult.intArguments[i * 2], otherValidationResult.intArguments[i * 2 + 1],
+                     otherValidationResult.textArguments[i * 2], otherValidationResult.textArguments[i * 2 + 1]);
+        }
         
         // Update success status
         if (otherValidationResult.hasErrors()) {
@@ -144,19 +209,72 @@ import java.util.Map;public class ValidationResult {
     
     // Method to get all error messages as ValidationMessage objects
     public List<ValidationMessage> getErrorMessages() {
-        List<ValidationMessage> messages = new ArrayList<>();
+        render();
+        return errorMessages;
+    }
+    
+    private void addEntry(ValidationCode code, int first, int second, String firstText, String secondText) {
+        if (codes == null) {
+            codes = new ValidationCode[INITIAL_CAPACITY];
+            intArguments = new int[INITIAL_CAPACITY * 2];
+            textArguments = new String[INITIAL_CAPACITY * 2];
+        } else if (errorCount == codes.length) {
+            codes = Arrays.copyOf(codes, errorCount * 2);
+            intArguments = Arrays.copyOf(intArguments, errorCount * 4);
+            textArguments = Arrays.copyOf(textArguments, errorCount * 4);
+        }
         
-        // Add field-specific errors
-        for (Map.Entry<String, String> fieldError : fieldErrorMessages.entrySet()) {
-            messages.add(new ValidationMessage(fieldError.getKey(), fieldError.getValue()));
+        codes[errorCount] = code;
+        intArguments[errorCount * 2] = first;
+        intArguments[errorCount * 2 + 1] = second;
+        textArguments[errorCount * 2] = firstText;
+        textArguments[errorCount * 2 + 1] = secondText;
+        errorCount++;
+        
+        isValidationSuccessful = false;
+        dropRenderedViews();
+    }
+    
+    private void dropRenderedViews() {
+        fieldErrorMessages = null;
+        generalErrorMessages = null;
+        errorMessages = null;
+    }
+    
+    private void render() {
+        if (errorMessages != null) {
+            return;
         }
         
-        // Add general errors
-        for (String generalError : generalErrorMessages) {
-            messages.add(new ValidationMessage("General", generalError));
+        Map<String, String> fields = new LinkedHashMap<>();
+        List<String> general = new ArrayList<>();
+        for (int i = 0; i < errorCount; i++) {
+            ValidationCode code = codes[i];
+            if (code == ValidationCode.CUSTOM) {
+                String field = textArguments[i * 2];
+                if (field == null) {
+                    general.add(textArguments[i * 2 + 1]);
+                } else {
+                    fields.put(field, textArguments[i * 2 + 1]);
+                }
+            } else {
+                int first = intArguments[i * 2];
+                fields.put(code.formatField(first),
+                           code.formatMessage(first, intArguments[i * 2 + 1], textArguments[i * 2]));
+            }
+        }
+        
+        List<ValidationMessage> messages = new ArrayList<>(fields.size() + general.size());
+        for (Map.Entry<String, String> fieldError : fields.entrySet()) {
+            messages.add(new ValidationMessage(fieldError.getKey(), fieldError.getValue()));
+        }
+        for (String generalError : general) {
+            messages.add(new ValidationMessage(GENERAL_FIELD, generalError));
         }
         
-        return messages;
+        fieldErrorMessages = Collections.unmodifiableMap(fields);
+        generalErrorMessages = Collections.unmodifiableList(general);
+        errorMessages = Collections.unmodifiableList(messages);
     }
     
     // Inner class for validation messages
@@ -187,7 +305,7 @@ import java.util.Map;public class ValidationResult {
     public String toString() {
         StringBuilder resultStringBuilder = new StringBuilder("ValidationResult{");
         resultStringBuilder.append("successful=").append(isValidationSuccessful);
-        resultStringBuilder.append(", successCount=").append(successMessages.size());
+        resultStringBuilder.append(", successCount=").append(getSuccessMessageCount());
         resultStringBuilder.append(", errorCount=").append(getTotalErrorCount());
         
         if (hasErrors()) {
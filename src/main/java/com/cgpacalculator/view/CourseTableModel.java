@@ -0,0 +1,256 @@
+package com.cgpacalculator.view;
+
+import com.cgpacalculator.metrics.TableRefreshEvent;
+import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.CourseNameIndex;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.Semester;
+import com.cgpacalculator.model.SemesterTotals;
+import com.cgpacalculator.utils.Constants;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Table model backed directly by a {@link Semester}, so every edit also updates the
+ * semester's cached {@link SemesterTotals} and the owning student's cumulative totals.
+ * Bulk replace and append fire a single table event, and the formatted point columns come from a
+ * precomputed table instead of being formatted per cell. A case-insensitive
+ * {@link CourseNameIndex} makes duplicate-name checks O(1).
+ * Course instances are never modified; an edited row gets a new Course.
+ */
+public class CourseTableModel extends AbstractTableModel {
+    
+    public static final int NAME_COLUMN = 0;
+    public static final int UNITS_COLUMN = 1;
+    public static final int GRADE_COLUMN = 2;
+    public static final int GRADE_POINTS_COLUMN = 3;
+    public static final int CREDIT_POINTS_COLUMN = 4;
+    
+    private static final String[] COLUMN_NAMES = {"Course Name", "Units", "Grade", "Grade Points", "Credit Points"};
+    
+    // Formatted points of the scale shown last; rebuilt only when the scale in use changes
+    private static volatile PointsText pointsText;
+    
+    private final Semester semester;
+    private final CourseNameIndex names = new CourseNameIndex();
+    
+    public CourseTableModel() {
+        this(new Semester("Current Semester"));
+    }
+    
+    public CourseTableModel(Semester semester) {
+        this.semester = Objects.requireNonNull(semester, "semester");
+        for (Course course : semester.getCourses()) {
+            names.add(course.getCourseName());
+        }
+    }
+    
+    @Override
+    public int getRowCount() {
+        return semester.getCourseCount();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+    
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+    
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column < GRADE_POINTS_COLUMN; // Only first 3 columns are editable
+    }
+    
+    @Override
+    public Object getValueAt(int row, int column) {
+        Course course = semester.getCourse(row);
+        switch (column) {
+            case NAME_COLUMN:
+                return course.getCourseName();
+            case UNITS_COLUMN:
+                return course.getUnits();
+            case GRADE_COLUMN:
+                return course.getLetterGrade();
+            case GRADE_POINTS_COLUMN:
+                return pointsText(course.getGradingScale()).gradePoints[course.getGradeOrdinal() + 1];
+            case CREDIT_POINTS_COLUMN:
+                return creditPointsText(course);
+            default:
+                throw new IndexOutOfBoundsException("Column " + column);
+        }
+    }
+    
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        Course course = semester.getCourse(row);
+        
+        if (column == NAME_COLUMN) {
+            String name = String.valueOf(value).trim();
+            if (name.isEmpty() || name.length() > Constants.MAX_COURSE_NAME_LENGTH
+                    || containsCourseName(name, row)) {
+                return; // Reject empty, overlong and duplicate names like invalid units and grades
+            }
+            names.remove(course.getCourseName());
+            names.add(name);
+            semester.setCourse(row, new Course(name, course.getUnits(), course.getLetterGrade(), course.getGradingScale()));
+            fireTableCellUpdated(row, column);
+            return;
+        }
+        
+        // Units and grade edits keep the running totals and derived columns in step
+        int units = column == UNITS_COLUMN ? parseUnits(value) : course.getUnits();
+        GradingScale scale = course.getGradingScale();
+        int grade = column == GRADE_COLUMN ? scale.ordinalOf(String.valueOf(value).trim()) : course.getGradeOrdinal();
+        
+        if (units < Constants.MIN_COURSE_UNITS || units > Constants.MAX_COURSE_UNITS
+                || grade == GradingScale.INVALID_ORDINAL) {
+            return; // Reject invalid inline edits
+        }
+        
+        setCourse(row, new Course(course.getCourseName(), units, scale.labelOf(grade), scale));
+    }
+    
+    public Course getCourse(int row) {
+        return semester.getCourse(row);
+    }
+    
+    // Copy of the current rows; the Course instances are shared, not cloned
+    public List<Course> getCourses() {
+        return new ArrayList<>(semester.getCourses());
+    }
+    
+    public Semester getSemester() {
+        return semester;
+    }
+    
+    public SemesterTotals getTotals() {
+        return semester.getTotals();
+    }
+    
+    // Case-insensitive, like Course.equals
+    public boolean containsCourseName(String name) {
+        return names.contains(name);
+    }
+    
+    // True if a row other than exceptRow already uses the name
+    public boolean containsCourseName(String name, int exceptRow) {
+        int count = names.count(name);
+        if (count > 0 && exceptRow >= 0 && semester.getCourse(exceptRow).getCourseName().equalsIgnoreCase(name)) {
+            count--;
+        }
+        return count > 0;
+    }
+    
+    public void addCourse(Course course) {
+        semester.addCourse(course);
+        names.add(course.getCourseName());
+        int row = semester.getCourseCount() - 1;
+        fireTableRowsInserted(row, row);
+    }
+    
+    public void setCourse(int row, Course course) {
+        Course old = semester.setCourse(row, course);
+        names.remove(old.getCourseName());
+        names.add(course.getCourseName());
+        fireTableRowsUpdated(row, row);
+    }
+    
+    public void removeCourse(int row) {
+        Course old = semester.removeCourse(row);
+        names.remove(old.getCourseName());
+        fireTableRowsDeleted(row, row);
+    }
+    
+    // Appends all courses with a single insert event
+    public void appendCourses(Collection<Course> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        int first = semester.getCourseCount();
+        semester.addCourses(added);
+        for (Course course : added) {
+            names.add(course.getCourseName());
+        }
+        fireTableRowsInserted(first, semester.getCourseCount() - 1);
+    }
+    
+    // Replaces every row with a single data-changed event
+    public void replaceCourses(Collection<Course> replacement) {
+        TableRefreshEvent event = new TableRefreshEvent();
+        event.begin();
+        semester.setCourses(replacement);
+        names.clear();
+        for (Course course : replacement) {
+            names.add(course.getCourseName());
+        }
+        fireTableDataChanged();
+        event.finish("courses", semester.getCourseCount());
+    }
+    
+    public void clear() {
+        if (semester.getCourseCount() == 0) {
+            return;
+        }
+        int last = semester.getCourseCount() - 1;
+        semester.clear();
+        names.clear();
+        fireTableRowsDeleted(0, last);
+    }
+    
+    private static String creditPointsText(Course course) {
+        int units = course.getUnits();
+        if (units < 0 || units > Constants.MAX_COURSE_UNITS) {
+            return String.format("%.1f", course.calculateCreditPoints()); // Out-of-range data from older files
+        }
+        return pointsText(course.getGradingScale()).creditPoints[units][course.getGradeOrdinal() + 1];
+    }
+    
+    private static PointsText pointsText(GradingScale scale) {
+        PointsText text = pointsText;
+        if (text == null || text.scale != scale) {
+            text = new PointsText(scale);
+            pointsText = text;
+        }
+        return text;
+    }
+    
+    private static int parseUnits(Object value) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * "%.1f" text of a scale's points per [units][grade ordinal + 1]; slot 0 is an invalid grade
+     */
+    private static final class PointsText {
+        private final GradingScale scale;
+        private final String[] gradePoints;
+        private final String[][] creditPoints;
+        
+        PointsText(GradingScale scale) {
+            this.scale = scale;
+            this.gradePoints = new String[scale.count() + 1];
+            this.creditPoints = new String[Constants.MAX_COURSE_UNITS + 1][scale.count() + 1];
+            for (int slot = 0; slot <= scale.count(); slot++) {
+                double points = scale.pointsOf(slot - 1);
+                gradePoints[slot] = String.format("%.1f", points);
+                for (int units = 0; units <= Constants.MAX_COURSE_UNITS; units++) {
+                    creditPoints[units][slot] = String.format("%.1f", units * points);
+                }
+            }
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.cgpacalculator.view;
 
 import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.model.Semester;
+import com.cgpacalculator.model.SemesterTotals;
 import com.cgpacalculator.utils.Constants;
 import com.cgpacalculator.utils.CGPACalculationValidator;
 import com.cgpacalculator.utils.ValidationResult;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,7 +20,8 @@ import java.util.List;
  */
 public class EnhancedCourseManagementPanel extends JPanel {
     
-    private final DefaultTableModel tableModel;
+    private final CourseTableModel tableModel;
+    private final SemesterTotals semesterTotals;
     private final JTable courseTable;
     private final JScrollPane tableScrollPane;
     
@@ -43,14 +46,13 @@ public class EnhancedCourseManagementPanel extends JPanel {
     private final JTextArea validationArea;
     
     public EnhancedCourseManagementPanel() {
-        // Initialize table model with column names
-        String[] columnNames = {"Course Name", "Units", "Grade", "Grade Points", "Credit Points"};
-        this.tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column < 3; // Only first 3 columns are editable
-            }
-        };
+        this(new Semester("Current Semester"));
+    }
+    
+    public EnhancedCourseManagementPanel(Semester semester) {
+        // Semester-backed table model; edits keep the semester's and student's totals current
+        this.tableModel = new CourseTableModel(semester);
+        this.semesterTotals = tableModel.getTotals();
         
         // Initialize components
         this.courseTable = createCourseTable();
@@ -115,12 +117,26 @@ public class EnhancedCourseManagementPanel extends JPanel {
     }
     
     private JComboBox<String> createGradeComboBox() {
-        JComboBox<String> comboBox = new JComboBox<>(Constants.VALID_GRADES);
-        comboBox.setSelectedIndex(0);
-        comboBox.setToolTipText("Select letter grade");
+        JComboBox<String> comboBox = new JComboBox<>();
+        fillGradeComboBox(comboBox, GradingScales.current());
         return comboBox;
     }
     
+    // Scales with mark bands also take a typed mark, so their combo box is editable
+    private static void fillGradeComboBox(JComboBox<String> comboBox, GradingScale scale) {
+        comboBox.setModel(new DefaultComboBoxModel<>(scale.getLabels()));
+        comboBox.setEditable(scale.acceptsMarks());
+        comboBox.setSelectedIndex(0);
+        comboBox.setToolTipText(scale.acceptsMarks() ? "Select a letter grade or type a mark (0-100)" : "Select letter grade");
+    }
+    
+    /**
+     * Offers the grades of the scale now in use; call after switching scales
+     */
+    public void refreshGradingScale() {
+        fillGradeComboBox(gradeComboBox, GradingScales.current());
+    }
+    
     private JButton createButton(String text, String tooltip) {
         JButton button = new JButton(text);
         button.setToolTipText(tooltip);
@@ -260,7 +276,7 @@ public class EnhancedCourseManagementPanel extends JPanel {
     private void addCourse() {
         String courseName = courseNameField.getText().trim();
         int units = (Integer) unitsSpinner.getValue();
-        String grade = (String) gradeComboBox.getSelectedItem();
+        String grade = String.valueOf(gradeComboBox.getSelectedItem()).trim();
         
         // Validate input
         if (courseName.isEmpty()) {
@@ -268,21 +284,24 @@ public class EnhancedCourseManagementPanel extends JPanel {
             return;
         }
         
+        if (!Constants.isValidGrade(grade)) {
+            showError(Constants.getInvalidGradeMessage());
+            return;
+        }
+        
         if (courseName.length() > Constants.MAX_COURSE_NAME_LENGTH) {
             showError("Course name too long (max " + Constants.MAX_COURSE_NAME_LENGTH + " characters)");
             return;
         }
         
         // Check for duplicates
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            if (courseName.equalsIgnoreCase((String) tableModel.getValueAt(i, 0))) {
-                showError("Course name already exists");
-                return;
-            }
+        if (tableModel.containsCourseName(courseName)) {
+            showError("Course name already exists");
+            return;
         }
         
         // Check unit limits
-        int currentTotal = getTotalUnits();
+        int currentTotal = semesterTotals.getTotalUnits();
         if (currentTotal + units > Constants.MAX_SEMESTER_UNITS) {
             showError("Adding this course would exceed maximum units (" + Constants.MAX_SEMESTER_UNITS + ")");
             return;
@@ -290,7 +309,7 @@ public class EnhancedCourseManagementPanel extends JPanel {
         
         // Add course to table
         Course course = new Course(courseName, units, grade);
-        addCourseToTable(course);
+        tableModel.addCourse(course);
         
         // Clear inputs
         clearInputs();
@@ -307,24 +326,26 @@ public class EnhancedCourseManagementPanel extends JPanel {
         
         String courseName = courseNameField.getText().trim();
         int units = (Integer) unitsSpinner.getValue();
-        String grade = (String) gradeComboBox.getSelectedItem();
+        String grade = String.valueOf(gradeComboBox.getSelectedItem()).trim();
         
         if (courseName.isEmpty()) {
             showError("Course name is required");
             return;
         }
         
+        if (!Constants.isValidGrade(grade)) {
+            showError(Constants.getInvalidGradeMessage());
+            return;
+        }
+        
         // Check for duplicates (excluding current row)
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            if (i != selectedRow && courseName.equalsIgnoreCase((String) tableModel.getValueAt(i, 0))) {
-                showError("Course name already exists");
-                return;
-            }
+        if (tableModel.containsCourseName(courseName, selectedRow)) {
+            showError("Course name already exists");
+            return;
         }
         
         // Update table
-        Course course = new Course(courseName, units, grade);
-        updateCourseInTable(selectedRow, course);
+        tableModel.setCourse(selectedRow, new Course(courseName, units, grade));
         
         showSuccess("Course updated successfully");
     }
@@ -336,7 +357,7 @@ public class EnhancedCourseManagementPanel extends JPanel {
             return;
         }
         
-        String courseName = (String) tableModel.getValueAt(selectedRow, 0);
+        String courseName = tableModel.getCourse(selectedRow).getCourseName();
         int result = JOptionPane.showConfirmDialog(
             this,
             "Are you sure you want to remove course: " + courseName + "?",
@@ -345,7 +366,7 @@ public class EnhancedCourseManagementPanel extends JPanel {
         );
         
         if (result == JOptionPane.YES_OPTION) {
-            tableModel.removeRow(selectedRow);
+            tableModel.removeCourse(selectedRow);
             clearInputs();
             showSuccess("Course removed successfully");
         }
@@ -365,7 +386,7 @@ public class EnhancedCourseManagementPanel extends JPanel {
         );
         
         if (result == JOptionPane.YES_OPTION) {
-            tableModel.setRowCount(0);
+            tableModel.clear();
             clearInputs();
             showSuccess("All courses cleared");
         }
@@ -374,9 +395,10 @@ public class EnhancedCourseManagementPanel extends JPanel {
     private void loadSelectedCourseToInputs() {
         int selectedRow = courseTable.getSelectedRow();
         if (selectedRow >= 0) {
-            courseNameField.setText((String) tableModel.getValueAt(selectedRow, 0));
-            unitsSpinner.setValue((Integer) tableModel.getValueAt(selectedRow, 1));
-            gradeComboBox.setSelectedItem((String) tableModel.getValueAt(selectedRow, 2));
+            Course course = tableModel.getCourse(selectedRow);
+            courseNameField.setText(course.getCourseName());
+            unitsSpinner.setValue(course.getUnits());
+            gradeComboBox.setSelectedItem(course.getLetterGrade());
         }
     }
     
@@ -388,7 +410,7 @@ public class EnhancedCourseManagementPanel extends JPanel {
     
     private void updateButtonStates() {
         boolean hasSelection = courseTable.getSelectedRow() >= 0;
-        boolean hasCourses = tableModel.getRowCount() > 0;
+        boolean hasCourses = semesterTotals.getCourseCount() > 0;
         
         updateCourseButton.setEnabled(hasSelection);
         removeCourseButton.setEnabled(hasSelection);
@@ -396,8 +418,8 @@ public class EnhancedCourseManagementPanel extends JPanel {
     }
     
     private void updateStatus() {
-        int courseCount = tableModel.getRowCount();
-        int totalUnits = getTotalUnits();
+        int courseCount = semesterTotals.getCourseCount();
+        int totalUnits = semesterTotals.getTotalUnits();
         
         courseCountLabel.setText("Courses: " + courseCount);
         totalUnitsLabel.setText("Total Units: " + totalUnits);
@@ -423,7 +445,8 @@ public class EnhancedCourseManagementPanel extends JPanel {
         String currentCGPA = ""; // Will be provided by parent component
         String cumulativeUnits = ""; // Will be provided by parent component
         
-        ValidationResult result = CGPACalculationValidator.validateCalculationReadiness(courses, currentCGPA, cumulativeUnits);
+        ValidationResult result = CGPACalculationValidator.validateCalculationReadiness(
+            courses, semesterTotals.getTotalUnits(), currentCGPA, cumulativeUnits);
         
         StringBuilder message = new StringBuilder();
         
@@ -434,66 +457,40 @@ public class EnhancedCourseManagementPanel extends JPanel {
             }
         } else {
             message.append("✓ All course requirements met!\n");
-            message.append("Ready to calculate CGPA with ").append(courses.size()).append(" courses totaling ").append(getTotalUnits()).append(" units.");
+            message.append("Ready to calculate CGPA with ").append(courses.size()).append(" courses totaling ").append(semesterTotals.getTotalUnits()).append(" units.");
         }
         
         validationArea.setText(message.toString());
     }
     
-    private void addCourseToTable(Course course) {
-        double gradePoints = Constants.getGradePoints(course.getLetterGrade());
-        double creditPoints = course.getUnits() * gradePoints;
-        
-        Object[] rowData = {
-            course.getCourseName(),
-            course.getUnits(),
-            course.getLetterGrade(),
-            String.format("%.1f", gradePoints),
-            String.format("%.1f", creditPoints)
-        };
-        
-        tableModel.addRow(rowData);
+    // Running totals, maintained on every add, update, remove and clear
+    public int getTotalUnits() {
+        return semesterTotals.getTotalUnits();
     }
     
-    private void updateCourseInTable(int row, Course course) {
-        double gradePoints = Constants.getGradePoints(course.getLetterGrade());
-        double creditPoints = course.getUnits() * gradePoints;
-        
-        tableModel.setValueAt(course.getCourseName(), row, 0);
-        tableModel.setValueAt(course.getUnits(), row, 1);
-        tableModel.setValueAt(course.getLetterGrade(), row, 2);
-        tableModel.setValueAt(String.format("%.1f", gradePoints), row, 3);
-        tableModel.setValueAt(String.format("%.1f", creditPoints), row, 4);
+    public double getTotalCreditPoints() {
+        return semesterTotals.getTotalCreditPoints();
     }
     
-    private int getTotalUnits() {
-        int total = 0;
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            total += (Integer) tableModel.getValueAt(i, 1);
-        }
-        return total;
+    public int getCourseCount() {
+        return semesterTotals.getCourseCount();
+    }
+    
+    public int getGradeCount(int gradeOrdinal) {
+        return semesterTotals.getGradeCount(gradeOrdinal);
     }
     
     public List<Course> getAllCourses() {
-        List<Course> courses = new ArrayList<>();
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            String name = (String) tableModel.getValueAt(i, 0);
-            int units = (Integer) tableModel.getValueAt(i, 1);
-            String grade = (String) tableModel.getValueAt(i, 2);
-            courses.add(new Course(name, units, grade));
-        }
-        return courses;
+        return tableModel.getCourses();
     }
     
     public void setCourses(List<Course> courses) {
-        tableModel.setRowCount(0);
-        for (Course course : courses) {
-            addCourseToTable(course);
-        }
+        // One table event for the whole list
+        tableModel.replaceCourses(courses);
     }
     
     public boolean canCalculateCGPA(String currentCGPA, String cumulativeUnits) {
-        return CGPACalculationValidator.canCalculate(getAllCourses(), currentCGPA, cumulativeUnits);
+        return CGPACalculationValidator.canCalculate(getAllCourses(), semesterTotals.getTotalUnits(), currentCGPA, cumulativeUnits);
     }
     
     public String getCalculationReadinessSummary(String currentCGPA, String cumulativeUnits) {
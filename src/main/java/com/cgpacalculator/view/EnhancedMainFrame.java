@@ -1,8 +1,15 @@
 package com.cgpacalculator.view;
 
+import com.cgpacalculator.engine.ProjectionResult;
+import com.cgpacalculator.model.ClassificationScheme;
 import com.cgpacalculator.model.Course;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.model.Semester;
+import com.cgpacalculator.model.Student;
 import com.cgpacalculator.utils.Constants;
 import com.cgpacalculator.utils.CGPACalculationValidator;
+import com.cgpacalculator.utils.Decimals;
 import com.cgpacalculator.utils.ValidationResult;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
@@ -10,23 +17,45 @@ import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Enhanced main frame with improved course management and validation
  */
 public class EnhancedMainFrame extends JFrame {
     
+    // Quiet period after the last edit before readiness is re-validated
+    private static final int READINESS_DEBOUNCE_MS = 150;
+    
+    // Academic history: completed semesters followed by the semester being edited, which is always last
+    private final Student student;
+    private final Semester currentSemester;
+    
     // Core components
     private final EnhancedCourseManagementPanel courseManagementPanel;
     private final JPanel currentCGPAPanel;
     private final JPanel calculationPanel;
     private final JPanel resultsPanel;
+    private final JPanel historyPanel;
+    
+    // Semester history components
+    private final SemesterHistoryTableModel historyTableModel;
+    private final JTable historyTable;
+    private final JButton completeSemesterButton;
+    private final JButton removeSemesterButton;
     
     // Current CGPA input components
     private final JTextField currentCGPAField;
     private final JTextField cumulativeUnitsField;
     
+    // Configured grading scales, in GradingScales.available() order; hidden when only one exists
+    private final List<GradingScale> gradingScales;
+    private final JComboBox<String> gradingScaleComboBox;
+    
     // Validation feedback components
     private final JLabel cgpaValidationLabel;
     private final JLabel unitsValidationLabel;
@@ -36,6 +65,9 @@ public class EnhancedMainFrame extends JFrame {
     private final JButton calculateButton;
     private final JButton saveDataButton;
     private final JButton loadDataButton;
+    private final JButton targetGradesButton;
+    private final JButton projectButton;
+    private final JLabel persistenceStatusLabel;
     
     // Results display components
     private final JLabel currentGPALabel;
@@ -44,13 +76,38 @@ public class EnhancedMainFrame extends JFrame {
     private final JLabel totalUnitsLabel;
     private final JTextArea motivationalMessageArea;
     
+    // Projection display: one bar per class of the scheme shown, by ordinal
+    private final JPanel projectionBarsGrid;
+    private ClassificationScheme projectionScheme;
+    private JProgressBar[] projectionBars;
+    private final JLabel projectionSummaryLabel;
+    
+    // Debounced readiness validation: edits restart the timer, the validator runs on
+    // a background thread, and only results from the newest snapshot are applied
+    private final Timer readinessTimer;
+    private final ExecutorService validationExecutor;
+    private long readinessSequence;
+    
     public EnhancedMainFrame() {
+        // Initialize the history; the course panel edits the current semester in place
+        this.student = new Student();
+        this.currentSemester = new Semester("Current Semester");
+        student.addSemester(currentSemester);
+        
         // Initialize components
-        this.courseManagementPanel = new EnhancedCourseManagementPanel();
+        this.courseManagementPanel = new EnhancedCourseManagementPanel(currentSemester);
+        
+        this.historyTableModel = new SemesterHistoryTableModel(student);
+        this.historyTable = createHistoryTable();
+        this.completeSemesterButton = createCompleteSemesterButton();
+        this.removeSemesterButton = createRemoveSemesterButton();
         
         this.currentCGPAField = createCurrentCGPAField();
         this.cumulativeUnitsField = createCumulativeUnitsField();
         
+        this.gradingScales = GradingScales.available();
+        this.gradingScaleComboBox = createGradingScaleComboBox();
+        
         this.cgpaValidationLabel = createValidationLabel();
         this.unitsValidationLabel = createValidationLabel();
         this.calculationReadinessLabel = createCalculationReadinessLabel();
@@ -58,17 +115,32 @@ public class EnhancedMainFrame extends JFrame {
         this.calculateButton = createCalculateButton();
         this.saveDataButton = createSaveDataButton();
         this.loadDataButton = createLoadDataButton();
+        this.targetGradesButton = createTargetGradesButton();
+        this.projectButton = createProjectButton();
+        this.persistenceStatusLabel = createPersistenceStatusLabel();
         
         this.currentGPALabel = createResultLabel("Current GPA: --");
         this.updatedCGPALabel = createResultLabel("Updated CGPA: --");
         this.classificationLabel = createResultLabel("Classification: --");
         this.totalUnitsLabel = createResultLabel("Total Units: --");
         this.motivationalMessageArea = createMotivationalMessageArea();
+        this.projectionBarsGrid = new JPanel();
+        showProjectionClasses(Constants.getClassificationScheme());
+        this.projectionSummaryLabel = new JLabel("Project CGPA to see likely outcomes");
         
         // Initialize layout panels
         this.currentCGPAPanel = createCurrentCGPAPanel();
         this.calculationPanel = createCalculationPanel();
         this.resultsPanel = createResultsPanel();
+        this.historyPanel = createHistoryPanel();
+        
+        this.readinessTimer = new Timer(READINESS_DEBOUNCE_MS, e -> validateReadinessInBackground());
+        readinessTimer.setRepeats(false);
+        this.validationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cgpa-validation");
+            thread.setDaemon(true);
+            return thread;
+        });
         
         // Set up the frame
         setupFrameProperties();
@@ -76,16 +148,31 @@ public class EnhancedMainFrame extends JFrame {
         setupEventHandlers();
         
         // Initial state
-        updateCalculationReadiness();
+        applyCalculationReadiness(takeReadinessSnapshot().validate());
     }
     
     private JTextField createCurrentCGPAField() {
         JTextField field = new JTextField(10);
-        field.setToolTipText("Enter current CGPA (0.00 - 5.00) - Optional for new students");
+        field.setToolTipText(currentCGPAToolTip());
         field.setHorizontalAlignment(JTextField.CENTER);
         return field;
     }
     
+    private static String currentCGPAToolTip() {
+        return String.format("Enter current CGPA (%.2f - %.2f) - Optional for new students",
+                             Constants.MIN_CGPA, Constants.getMaxCGPA());
+    }
+    
+    private JComboBox<String> createGradingScaleComboBox() {
+        JComboBox<String> comboBox = new JComboBox<>();
+        for (GradingScale scale : gradingScales) {
+            comboBox.addItem(scale.getDisplayName());
+        }
+        comboBox.setSelectedIndex(Math.max(gradingScales.indexOf(GradingScales.current()), 0));
+        comboBox.setToolTipText("Grading scale for grades and CGPA");
+        return comboBox;
+    }
+    
     private JTextField createCumulativeUnitsField() {
         JTextField field = new JTextField(10);
         field.setToolTipText("Enter current cumulative units - Optional for new students");
@@ -128,6 +215,66 @@ public class EnhancedMainFrame extends JFrame {
         return button;
     }
     
+    private JButton createTargetGradesButton() {
+        JButton button = new JButton("Target Grades...");
+        button.setToolTipText("Find the grades needed in planned courses to reach a classification");
+        return button;
+    }
+    
+    private JButton createProjectButton() {
+        JButton button = new JButton("Project CGPA");
+        button.setToolTipText("Simulate likely outcomes around the entered grades and estimate classification chances");
+        return button;
+    }
+    
+    // Rebuilds the projection bars for the classes of a scheme
+    private void showProjectionClasses(ClassificationScheme scheme) {
+        projectionScheme = scheme;
+        projectionBars = new JProgressBar[scheme.count()];
+        projectionBarsGrid.removeAll();
+        projectionBarsGrid.setLayout(new GridLayout(scheme.count(), 2, 5, 2));
+        for (int i = 0; i < projectionBars.length; i++) {
+            projectionBars[i] = new JProgressBar(0, 1000);
+            projectionBars[i].setStringPainted(true);
+            projectionBars[i].setString("--");
+            projectionBars[i].setForeground(new Color(scheme.getColor(i)));
+            projectionBarsGrid.add(new JLabel(scheme.getLabel(i)));
+            projectionBarsGrid.add(projectionBars[i]);
+        }
+        projectionBarsGrid.revalidate();
+        projectionBarsGrid.repaint();
+    }
+    
+    private JLabel createPersistenceStatusLabel() {
+        JLabel label = new JLabel(" ");
+        label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
+        label.setForeground(Color.DARK_GRAY);
+        label.setHorizontalAlignment(SwingConstants.CENTER);
+        return label;
+    }
+    
+    private JTable createHistoryTable() {
+        JTable table = new JTable(historyTableModel);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setFillsViewportHeight(true);
+        table.getColumnModel().getColumn(SemesterHistoryTableModel.NAME_COLUMN).setPreferredWidth(140);
+        return table;
+    }
+    
+    private JButton createCompleteSemesterButton() {
+        JButton button = new JButton("Complete Semester");
+        button.setToolTipText("Move the current courses into the history as a completed semester");
+        button.setEnabled(false);
+        return button;
+    }
+    
+    private JButton createRemoveSemesterButton() {
+        JButton button = new JButton("Remove Semester");
+        button.setToolTipText("Remove the selected completed semester from the history");
+        button.setEnabled(false);
+        return button;
+    }
+    
     private JLabel createResultLabel(String text) {
         JLabel label = new JLabel(text);
         label.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 14));
@@ -178,6 +325,15 @@ public class EnhancedMainFrame extends JFrame {
         gbc.gridx = 2; gbc.gridy = 1; gbc.gridwidth = 2; gbc.fill = GridBagConstraints.HORIZONTAL;
         panel.add(unitsValidationLabel, gbc);
         
+        // Grading scale, only when a configuration offers a choice
+        if (gradingScales.size() > 1) {
+            gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 1; gbc.fill = GridBagConstraints.NONE;
+            panel.add(new JLabel("Grading Scale:"), gbc);
+            
+            gbc.gridx = 1; gbc.gridy = 2; gbc.gridwidth = 3;
+            panel.add(gradingScaleComboBox, gbc);
+        }
+        
         return panel;
     }
     
@@ -190,6 +346,8 @@ public class EnhancedMainFrame extends JFrame {
         buttonPanel.add(calculateButton);
         buttonPanel.add(saveDataButton);
         buttonPanel.add(loadDataButton);
+        buttonPanel.add(targetGradesButton);
+        buttonPanel.add(projectButton);
         
         // Readiness panel
         JPanel readinessPanel = new JPanel(new BorderLayout());
@@ -197,6 +355,7 @@ public class EnhancedMainFrame extends JFrame {
         
         panel.add(readinessPanel, BorderLayout.NORTH);
         panel.add(buttonPanel, BorderLayout.CENTER);
+        panel.add(persistenceStatusLabel, BorderLayout.SOUTH);
         
         return panel;
     }
@@ -223,11 +382,38 @@ public class EnhancedMainFrame extends JFrame {
         messagePanel.add(scrollPane, BorderLayout.CENTER);
         
         panel.add(resultsGrid, BorderLayout.CENTER);
+        panel.add(createProjectionPanel(), BorderLayout.EAST);
         panel.add(messagePanel, BorderLayout.SOUTH);
         
         return panel;
     }
     
+    private JPanel createProjectionPanel() {
+        JPanel panel = new JPanel(new BorderLayout(5, 5));
+        panel.setBorder(BorderFactory.createTitledBorder("Projected Classification"));
+        
+        panel.add(projectionBarsGrid, BorderLayout.CENTER);
+        panel.add(projectionSummaryLabel, BorderLayout.SOUTH);
+        return panel;
+    }
+    
+    private JPanel createHistoryPanel() {
+        JPanel panel = new JPanel(new BorderLayout(5, 5));
+        panel.setBorder(new TitledBorder("Semester History"));
+        
+        JScrollPane scrollPane = new JScrollPane(historyTable);
+        scrollPane.setPreferredSize(new Dimension(340, 0));
+        
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
+        buttonPanel.add(completeSemesterButton);
+        buttonPanel.add(removeSemesterButton);
+        
+        panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+        
+        return panel;
+    }
+    
     private void setupFrameProperties() {
         setTitle("Enhanced CGPA Calculator - Complete Course Management");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -250,6 +436,7 @@ public class EnhancedMainFrame extends JFrame {
         // Add components to main panel
         mainContentPanel.add(topPanel, BorderLayout.NORTH);
         mainContentPanel.add(courseManagementPanel, BorderLayout.CENTER);
+        mainContentPanel.add(historyPanel, BorderLayout.EAST);
         mainContentPanel.add(resultsPanel, BorderLayout.SOUTH);
         
         add(mainContentPanel, BorderLayout.CENTER);
@@ -279,16 +466,45 @@ public class EnhancedMainFrame extends JFrame {
             public void changedUpdate(DocumentEvent e) { validateAndUpdateReadiness(); }
         });
         
-        // Listen for course changes
+        // Listen for course changes; only the current semester's history row and CGPA change
         courseManagementPanel.getCourseTable().getModel().addTableModelListener(e -> {
-            updateCalculationReadiness();
+            historyTableModel.semesterChanged(student.getSemesterCount() - 1);
+            completeSemesterButton.setEnabled(currentSemester.getCourseCount() > 0);
+            scheduleReadinessCheck();
+        });
+        
+        historyTable.getSelectionModel().addListSelectionListener(e -> {
+            removeSemesterButton.setEnabled(getSelectedCompletedSemester() >= 0);
         });
     }
     
     private void validateAndUpdateReadiness() {
+        // Field feedback is a single parse, so it stays immediate
         validateCGPAInput();
         validateUnitsInput();
-        updateCalculationReadiness();
+        updatePriorRecord();
+        scheduleReadinessCheck();
+    }
+    
+    // The typed CGPA and units are the record before the first listed semester
+    private void updatePriorRecord() {
+        double priorCGPA = 0.0;
+        int priorUnits = 0;
+        try {
+            double cgpa = Decimals.parse(currentCGPAField.getText());
+            int units = Integer.parseInt(cumulativeUnitsField.getText().trim());
+            if (cgpa >= Constants.MIN_CGPA && cgpa <= Constants.getMaxCGPA() && units > 0) {
+                priorCGPA = cgpa;
+                priorUnits = units;
+            }
+        } catch (NumberFormatException e) {
+            // Incomplete input counts as no prior record
+        }
+        
+        if (priorCGPA != student.getPriorCGPA() || priorUnits != student.getPriorUnits()) {
+            student.setPriorRecord(priorCGPA, priorUnits);
+            historyTableModel.historyChanged();
+        }
     }
     
     private void validateCGPAInput() {
@@ -297,9 +513,9 @@ public class EnhancedMainFrame extends JFrame {
         
         if (!cgpaText.isEmpty()) {
             try {
-                double cgpa = Double.parseDouble(cgpaText);
-                if (cgpa < Constants.MIN_CGPA || cgpa > Constants.MAX_CGPA) {
-                    cgpaValidationLabel.setText("✗ CGPA must be between 0.00 and 5.00");
+                double cgpa = Decimals.parse(cgpaText);
+                if (cgpa < Constants.MIN_CGPA || cgpa > Constants.getMaxCGPA()) {
+                    cgpaValidationLabel.setText("✗ " + Constants.getInvalidCGPAMessage());
                     cgpaValidationLabel.setForeground(Color.RED);
                 } else {
                     cgpaValidationLabel.setText("✓ Valid CGPA");
@@ -333,12 +549,36 @@ public class EnhancedMainFrame extends JFrame {
         }
     }
     
-    private void updateCalculationReadiness() {
-        List<Course> courses = courseManagementPanel.getAllCourses();
-        String currentCGPA = currentCGPAField.getText().trim();
-        String cumulativeUnits = cumulativeUnitsField.getText().trim();
+    // Restarts the debounce timer; a burst of edits leads to one validation
+    private void scheduleReadinessCheck() {
+        readinessTimer.restart();
+    }
+    
+    private void validateReadinessInBackground() {
+        ReadinessSnapshot snapshot = takeReadinessSnapshot();
+        long sequence = ++readinessSequence;
         
-        ValidationResult result = CGPACalculationValidator.validateCalculationReadiness(courses, currentCGPA, cumulativeUnits);
+        validationExecutor.execute(() -> {
+            ReadinessResult result = snapshot.validate();
+            SwingUtilities.invokeLater(() -> {
+                if (sequence == readinessSequence) {
+                    applyCalculationReadiness(result);
+                }
+            });
+        });
+    }
+    
+    private ReadinessSnapshot takeReadinessSnapshot() {
+        return new ReadinessSnapshot(
+            courseManagementPanel.getAllCourses(),
+            courseManagementPanel.getTotalUnits(),
+            currentCGPAField.getText().trim(),
+            cumulativeUnitsField.getText().trim());
+    }
+    
+    private void applyCalculationReadiness(ReadinessResult readiness) {
+        ValidationResult result = readiness.result;
+        int totalUnits = readiness.totalUnits;
         
         boolean canCalculate = !result.hasErrors();
         calculateButton.setEnabled(canCalculate);
@@ -355,7 +595,6 @@ public class EnhancedMainFrame extends JFrame {
         }
         
         // Update total units display
-        int totalUnits = courses.stream().mapToInt(Course::getUnits).sum();
         totalUnitsLabel.setText("Total Units: " + totalUnits);
     }
     
@@ -373,6 +612,52 @@ public class EnhancedMainFrame extends JFrame {
         loadDataButton.addActionListener(listener);
     }
     
+    public void addTargetGradesButtonListener(ActionListener listener) {
+        targetGradesButton.addActionListener(listener);
+    }
+    
+    public void addProjectButtonListener(ActionListener listener) {
+        projectButton.addActionListener(listener);
+    }
+    
+    /**
+     * Notified when the user picks another grading scale; see {@link #getSelectedGradingScale()}
+     */
+    public void addGradingScaleListener(ActionListener listener) {
+        gradingScaleComboBox.addActionListener(listener);
+    }
+    
+    public GradingScale getSelectedGradingScale() {
+        int index = gradingScaleComboBox.getSelectedIndex();
+        return index >= 0 ? gradingScales.get(index) : GradingScales.current();
+    }
+    
+    /**
+     * Shows the scale now in use: selects it, offers its grades and re-checks inputs against its range
+     */
+    public void refreshGradingScale() {
+        int index = gradingScales.indexOf(GradingScales.current());
+        if (index >= 0 && gradingScaleComboBox.getSelectedIndex() != index) {
+            gradingScaleComboBox.setSelectedIndex(index);
+        }
+        courseManagementPanel.refreshGradingScale();
+        if (projectionScheme != Constants.getClassificationScheme()) {
+            showProjectionClasses(Constants.getClassificationScheme());
+            clearProjectionDisplay();
+        }
+        currentCGPAField.setToolTipText(currentCGPAToolTip());
+        validateCGPAInput();
+        updatePriorRecord();
+    }
+    
+    public void addCompleteSemesterButtonListener(ActionListener listener) {
+        completeSemesterButton.addActionListener(listener);
+    }
+    
+    public void addRemoveSemesterButtonListener(ActionListener listener) {
+        removeSemesterButton.addActionListener(listener);
+    }
+    
     public String getCurrentCGPAInput() {
         return currentCGPAField.getText().trim();
     }
@@ -395,7 +680,67 @@ public class EnhancedMainFrame extends JFrame {
     
     public void setCourses(List<Course> courses) {
         courseManagementPanel.setCourses(courses);
-        updateCalculationReadiness();
+        scheduleReadinessCheck();
+    }
+    
+    public Student getStudent() {
+        return student;
+    }
+    
+    // Credit points (in hundredths) and units before the current semester: the typed prior
+    // record plus every completed semester. The credit is exact, not a rounded CGPA
+    public long getCreditHundredthsBeforeCurrentSemester() {
+        return student.getCreditHundredthsBefore(student.getSemesterCount() - 1);
+    }
+    
+    public int getUnitsBeforeCurrentSemester() {
+        return student.getUnitsBefore(student.getSemesterCount() - 1);
+    }
+    
+    public int getCompletedSemesterCount() {
+        return student.getSemesterCount() - 1;
+    }
+    
+    public List<Semester> getCompletedSemesters() {
+        return new ArrayList<>(student.getSemesters().subList(0, getCompletedSemesterCount()));
+    }
+    
+    public void setCompletedSemesters(List<Semester> semesters) {
+        while (getCompletedSemesterCount() > 0) {
+            student.removeSemester(0);
+        }
+        for (int i = 0; i < semesters.size(); i++) {
+            student.addSemester(i, semesters.get(i));
+        }
+        historyTableModel.historyChanged();
+    }
+    
+    // Moves the current courses into a completed semester and starts an empty current semester
+    public Semester completeCurrentSemester(String name) {
+        Semester completed = new Semester(name, currentSemester.getCourses());
+        student.addSemester(getCompletedSemesterCount(), completed);
+        courseManagementPanel.setCourses(Collections.emptyList());
+        historyTableModel.historyChanged();
+        return completed;
+    }
+    
+    // Index of the selected completed semester, or -1 if none (or the current semester) is selected
+    public int getSelectedCompletedSemester() {
+        int row = historyTable.getSelectedRow();
+        return row >= 0 && row < getCompletedSemesterCount() ? row : -1;
+    }
+    
+    public Semester removeCompletedSemester(int index) {
+        if (index < 0 || index >= getCompletedSemesterCount()) {
+            throw new IndexOutOfBoundsException("Completed semester " + index + " of " + getCompletedSemesterCount());
+        }
+        Semester removed = student.removeSemester(index);
+        historyTableModel.historyChanged();
+        return removed;
+    }
+    
+    public String getSuggestedSemesterName() {
+        return "Semester " + (getCompletedSemesterCount() + 1);
     }
     
     public void updateCurrentGPADisplay(double gpa) {
@@ -406,12 +751,11 @@ public class EnhancedMainFrame extends JFrame {
         updatedCGPALabel.setText(String.format("Updated CGPA: %.2f", cgpa));
     }
     
-    public void updateClassificationDisplay(String classification) {
-        classificationLabel.setText("Classification: " + classification);
+    public void updateClassificationDisplay(ClassificationScheme scheme, int classification) {
+        classificationLabel.setText("Classification: " + scheme.getLabel(classification));
         
         // Apply color coding
-        Color color = getClassificationColor(classification);
-        classificationLabel.setForeground(color);
+        classificationLabel.setForeground(new Color(scheme.getColor(classification)));
     }
     
     public void updateTotalUnitsDisplay(int units) {
@@ -428,6 +772,36 @@ public class EnhancedMainFrame extends JFrame {
         classificationLabel.setText("Classification: --");
         totalUnitsLabel.setText("Total Units: --");
         motivationalMessageArea.setText("Enter your courses and complete all requirements to see results!");
+        clearProjectionDisplay();
+    }
+    
+    public void showProjection(ProjectionResult projection) {
+        if (projection.getClassificationScheme() != projectionScheme) {
+            showProjectionClasses(projection.getClassificationScheme());
+        }
+        double[] probabilities = projection.getClassificationProbabilities();
+        for (int i = 0; i < projectionBars.length; i++) {
+            projectionBars[i].setValue((int) Math.round(probabilities[i] * projectionBars[i].getMaximum()));
+            projectionBars[i].setString(String.format("%.1f%%", probabilities[i] * 100));
+        }
+        projectionSummaryLabel.setText(String.format("Likely CGPA %.2f (90%%: %.2f - %.2f)",
+            projection.getMeanCGPA(), projection.getPercentileCGPA(0.05), projection.getPercentileCGPA(0.95)));
+    }
+    
+    public void clearProjectionDisplay() {
+        for (JProgressBar bar : projectionBars) {
+            bar.setValue(0);
+            bar.setString("--");
+        }
+        projectionSummaryLabel.setText("Project CGPA to see likely outcomes");
+    }
+    
+    // Disables the button and shows progress while a projection runs in the background
+    public void setProjectionRunning(boolean running) {
+        projectButton.setEnabled(!running);
+        if (running) {
+            projectionSummaryLabel.setText("Simulating...");
+        }
     }
     
     public void showErrorMessage(String title, String message) {
@@ -442,8 +816,19 @@ public class EnhancedMainFrame extends JFrame {
         JOptionPane.showMessageDialog(this, message, title, JOptionPane.WARNING_MESSAGE);
     }
     
+    public void showPersistenceStatus(String message, boolean error) {
+        persistenceStatusLabel.setText(message);
+        persistenceStatusLabel.setForeground(error ? Color.RED : Color.DARK_GRAY);
+    }
+    
+    public void setPersistenceControlsEnabled(boolean enabled) {
+        saveDataButton.setEnabled(enabled);
+        loadDataButton.setEnabled(enabled);
+    }
+    
     public boolean canCalculateCGPA() {
-        return calculateButton.isEnabled();
+        // The button may lag the latest edit by the debounce delay, so validate the current state
+        return !takeReadinessSnapshot().validate().result.hasErrors();
     }
     
     public EnhancedCourseManagementPanel getCourseManagementPanel() {
@@ -462,20 +847,34 @@ public class EnhancedMainFrame extends JFrame {
         return loadDataButton;
     }
     
-    private Color getClassificationColor(String classification) {
-        switch (classification) {
-            case Constants.FIRST_CLASS:
-                return new Color(76, 175, 80); // Green
-            case Constants.SECOND_CLASS_UPPER:
-                return new Color(139, 195, 74); // Light Green
-            case Constants.SECOND_CLASS_LOWER:
-                return new Color(255, 193, 7); // Amber
-            case Constants.THIRD_CLASS:
-                return new Color(255, 152, 0); // Orange
-            case Constants.FAIL_CLASS:
-                return new Color(244, 67, 54); // Red
-            default:
-                return Color.BLACK;
+    // Immutable copy of the inputs readiness depends on, safe to validate off the EDT
+    private static final class ReadinessSnapshot {
+        private final List<Course> courses;
+        private final int totalUnits;
+        private final String currentCGPA;
+        private final String cumulativeUnits;
+        
+        ReadinessSnapshot(List<Course> courses, int totalUnits, String currentCGPA, String cumulativeUnits) {
+            this.courses = Collections.unmodifiableList(courses);
+            this.totalUnits = totalUnits;
+            this.currentCGPA = currentCGPA;
+            this.cumulativeUnits = cumulativeUnits;
+        }
+        
+        ReadinessResult validate() {
+            ValidationResult result = CGPACalculationValidator.validateCalculationReadiness(
+                courses, totalUnits, currentCGPA, cumulativeUnits);
+            return new ReadinessResult(result, totalUnits);
+        }
+    }
+    
+    private static final class ReadinessResult {
+        private final ValidationResult result;
+        private final int totalUnits;
+        
+        ReadinessResult(ValidationResult result, int totalUnits) {
+            this.result = result;
+            this.totalUnits = totalUnits;
         }
     }
 }
\ No newline at end of file
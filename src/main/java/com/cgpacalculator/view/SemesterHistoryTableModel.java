@@ -0,0 +1,82 @@
+package com.cgpacalculator.view;
+
+import com.cgpacalculator.metrics.TableRefreshEvent;
+import com.cgpacalculator.model.Semester;
+import com.cgpacalculator.model.Student;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Read-only table of a student's semesters, one row per semester in order.
+ * Cells read the semesters' cached totals and the student's cached running totals,
+ * so repainting after an edit does not rescan any course.
+ */
+public class SemesterHistoryTableModel extends AbstractTableModel {
+    
+    public static final int NAME_COLUMN = 0;
+    public static final int COURSES_COLUMN = 1;
+    public static final int UNITS_COLUMN = 2;
+    public static final int GPA_COLUMN = 3;
+    public static final int CGPA_COLUMN = 4;
+    
+    private static final String[] COLUMN_NAMES = {"Semester", "Courses", "Units", "GPA", "CGPA"};
+    
+    private final Student student;
+    
+    public SemesterHistoryTableModel(Student student) {
+        this.student = student;
+    }
+    
+    public Student getStudent() {
+        return student;
+    }
+    
+    @Override
+    public int getRowCount() {
+        return student.getSemesterCount();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+    
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+    
+    @Override
+    public Object getValueAt(int row, int column) {
+        Semester semester = student.getSemester(row);
+        switch (column) {
+            case NAME_COLUMN:
+                return semester.getName();
+            case COURSES_COLUMN:
+                return semester.getCourseCount();
+            case UNITS_COLUMN:
+                return semester.getTotalUnits();
+            case GPA_COLUMN:
+                return String.format("%.2f", semester.getGPA());
+            case CGPA_COLUMN:
+                return String.format("%.2f", student.getCGPAThrough(row));
+            default:
+                throw new IndexOutOfBoundsException("Column " + column);
+        }
+    }
+    
+    // Totals of one semester changed; its own row and every later CGPA may differ
+    public void semesterChanged(int row) {
+        int last = getRowCount() - 1;
+        if (row <= last) {
+            fireTableRowsUpdated(row, last);
+        }
+    }
+    
+    // Semesters were added, removed or the prior record changed
+    public void historyChanged() {
+        TableRefreshEvent event = new TableRefreshEvent();
+        event.begin();
+        fireTableDataChanged();
+        event.finish("semesterHistory", getRowCount());
+    }
+}
@@ -0,0 +1,195 @@
+package com.cgpacalculator.view;
+
+import com.cgpacalculator.engine.TargetGradePlan;
+import com.cgpacalculator.engine.TargetGradeSolver;
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.model.Student;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import javax.swing.*;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+
+/**
+ * Dialog that shows the grades needed in planned courses to reach a classification
+ */
+public class TargetGradeDialog extends JDialog {
+    
+    private final Student student;
+    private final ClassificationScheme scheme;
+    private final JComboBox<String> targetComboBox;
+    private final JTextField targetCGPAField;
+    private final JTextField plannedUnitsField;
+    private final JTextArea resultArea;
+    
+    public TargetGradeDialog(Frame owner, Student student) {
+        super(owner, "Target Grades", true);
+        this.student = student;
+        this.scheme = Constants.getClassificationScheme();
+        
+        // Every class with a minimum CGPA is a target
+        this.targetComboBox = new JComboBox<>();
+        for (int ordinal = 0; ordinal < Math.max(scheme.count() - 1, 1); ordinal++) {
+            targetComboBox.addItem(scheme.getLabel(ordinal));
+        }
+        this.targetCGPAField = new JTextField(String.format("%.2f", scheme.getMinimum(0)), 6);
+        this.plannedUnitsField = new JTextField(30);
+        plannedUnitsField.setToolTipText("Units of each remaining course, e.g. 3, 3, 2, 2, 1");
+        this.resultArea = new JTextArea(16, 50);
+        resultArea.setEditable(false);
+        resultArea.setLineWrap(true);
+        resultArea.setWrapStyleWord(true);
+        resultArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        
+        targetComboBox.addActionListener(e ->
+            targetCGPAField.setText(String.format("%.2f", scheme.getMinimum(targetComboBox.getSelectedIndex()))));
+        
+        setupLayout();
+        pack();
+        setLocationRelativeTo(owner);
+    }
+    
+    private void setupLayout() {
+        JPanel inputPanel = new JPanel(new GridBagLayout());
+        inputPanel.setBorder(new TitledBorder("Goal"));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.anchor = GridBagConstraints.WEST;
+        
+        gbc.gridx = 0; gbc.gridy = 0;
+        inputPanel.add(new JLabel("Target:"), gbc);
+        gbc.gridx = 1;
+        inputPanel.add(targetComboBox, gbc);
+        gbc.gridx = 2;
+        inputPanel.add(new JLabel("CGPA:"), gbc);
+        gbc.gridx = 3;
+        inputPanel.add(targetCGPAField, gbc);
+        
+        gbc.gridx = 0; gbc.gridy = 1;
+        inputPanel.add(new JLabel("Planned course units:"), gbc);
+        gbc.gridx = 1; gbc.gridwidth = 3; gbc.fill = GridBagConstraints.HORIZONTAL;
+        inputPanel.add(plannedUnitsField, gbc);
+        
+        gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 4;
+        inputPanel.add(new JLabel(String.format("So far: CGPA %.2f over %d units",
+            student.getCGPA(), student.getTotalUnits())), gbc);
+        
+        JButton solveButton = new JButton("Find Grades");
+        solveButton.addActionListener(e -> solve());
+        JButton closeButton = new JButton("Close");
+        closeButton.addActionListener(e -> dispose());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(solveButton);
+        buttonPanel.add(closeButton);
+        getRootPane().setDefaultButton(solveButton);
+        
+        JPanel content = new JPanel(new BorderLayout(10, 10));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        content.add(inputPanel, BorderLayout.NORTH);
+        content.add(new JScrollPane(resultArea), BorderLayout.CENTER);
+        content.add(buttonPanel, BorderLayout.SOUTH);
+        setContentPane(content);
+    }
+    
+    private void solve() {
+        double target;
+        try {
+            target = Decimals.parse(targetCGPAField.getText());
+        } catch (NumberFormatException e) {
+            resultArea.setText("Please enter the target CGPA as a decimal number.");
+            return;
+        }
+        if (target < Constants.MIN_CGPA || target > Constants.getMaxCGPA()) {
+            resultArea.setText(String.format("The target CGPA must be between %.2f and %.2f.",
+                Constants.MIN_CGPA, Constants.getMaxCGPA()));
+            return;
+        }
+        
+        int[] plannedUnits = parsePlannedUnits(plannedUnitsField.getText());
+        if (plannedUnits == null) {
+            resultArea.setText(String.format(
+                "Please list the units of each planned course, separated by commas (each between %d and %d).",
+                Constants.MIN_COURSE_UNITS, Constants.MAX_COURSE_UNITS));
+            return;
+        }
+        
+        TargetGradePlan plan = TargetGradeSolver.solve(student, plannedUnits, target, TargetGradeSolver.DEFAULT_MAX_PLANS);
+        resultArea.setText(describe(plan));
+        resultArea.setCaretPosition(0);
+    }
+    
+    private static int[] parsePlannedUnits(String text) {
+        String[] parts = text.trim().split("[,\\s]+");
+        if (parts.length == 0 || parts[0].isEmpty()) {
+            return null;
+        }
+        int[] units = new int[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                units[i] = Integer.parseInt(parts[i]);
+                if (units[i] < Constants.MIN_COURSE_UNITS || units[i] > Constants.MAX_COURSE_UNITS) {
+                    return null;
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return units;
+    }
+    
+    private static String describe(TargetGradePlan plan) {
+        StringBuilder text = new StringBuilder();
+        switch (plan.getStatus()) {
+            case UNREACHABLE:
+                return String.format("A CGPA of %.2f cannot be reached with these %d courses.%n" +
+                    "Even straight %s grades would give %.2f.",
+                    plan.getTargetCGPA(), plan.getPlannedCourseCount(), plan.getGradingScale().labelOf(0),
+                    plan.getBestPossibleCGPA());
+            case ALREADY_SECURED:
+                return String.format("A CGPA of %.2f is already secured: it holds whatever grades you get.",
+                    plan.getTargetCGPA());
+            default:
+                text.append(String.format("Lowest grades that reach a CGPA of %.2f (most even first):%n%n",
+                    plan.getTargetCGPA()));
+        }
+        
+        for (int p = 0; p < plan.getPlanCount(); p++) {
+            text.append(String.format("Plan %d - CGPA %.2f%n", p + 1, plan.getResultingCGPA(p)));
+            for (int grade = 0; grade < plan.getGradingScale().count(); grade++) {
+                if (plan.countGrade(p, grade) > 0) {
+                    text.append("  ").append(plan.getGradingScale().labelOf(grade))
+                        .append(" in ").append(describeCourses(plan, p, grade))
+                        .append(System.lineSeparator());
+                }
+            }
+            text.append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+    
+    // e.g. "5 courses (3 x 3 units, 2 x 2 units)"
+    private static String describeCourses(TargetGradePlan plan, int p, int grade) {
+        int[] countByUnits = new int[Constants.MAX_COURSE_UNITS + 1];
+        int total = 0;
+        for (int course = 0; course < plan.getPlannedCourseCount(); course++) {
+            if (plan.getGradeOrdinal(p, course) == grade) {
+                countByUnits[plan.getPlannedUnits(course)]++;
+                total++;
+            }
+        }
+        
+        StringBuilder text = new StringBuilder();
+        text.append(total).append(total == 1 ? " course (" : " courses (");
+        boolean first = true;
+        for (int units = Constants.MAX_COURSE_UNITS; units >= Constants.MIN_COURSE_UNITS; units--) {
+            if (countByUnits[units] > 0) {
+                if (!first) {
+                    text.append(", ");
+                }
+                text.append(countByUnits[units]).append(" x ").append(units).append(units == 1 ? " unit" : " units");
+                first = false;
+            }
+        }
+        return text.append(')').toString();
+    }
+}
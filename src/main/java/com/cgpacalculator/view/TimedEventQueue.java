@@ -0,0 +1,64 @@
+package com.cgpacalculator.view;
+
+import com.cgpacalculator.metrics.EventDispatchEvent;
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.InvocationEvent;
+
+/**
+ * Event queue that reports slow Event Dispatch Thread tasks to Flight Recorder.
+ * Every dispatched AWT event and invokeLater task is timed as an {@link EventDispatchEvent};
+ * the description is only built for tasks that exceed the recording's threshold, so normal
+ * dispatching pays for two timestamps when a recording runs and nothing measurable otherwise.
+ * Events that run a nested loop, such as a modal dialog, are not reported themselves.
+ */
+public class TimedEventQueue extends EventQueue {
+    
+    // Dispatch nesting on the Event Dispatch Thread, and whether the event being dispatched
+    // ran a nested loop; only touched on that thread
+    private int depth;
+    private boolean nestedDispatch;
+    
+    /**
+     * Replaces the system event queue; call once, before the UI is built
+     */
+    public static void install() {
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimedEventQueue());
+    }
+    
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        int level = depth++;
+        boolean enclosingNested = nestedDispatch;
+        nestedDispatch = false;
+        EventDispatchEvent dispatch = new EventDispatchEvent();
+        dispatch.begin();
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            dispatch.end();
+            depth--;
+            // A modal loop (JOptionPane, ProgressMonitor) dispatched events inside this one, so its
+            // duration is mostly the user's time; the nested events are reported on their own
+            if (!nestedDispatch && dispatch.shouldCommit()) {
+                dispatch.setEventType(event.getClass().getSimpleName());
+                dispatch.setDetail(describe(event));
+                dispatch.commit();
+            }
+            nestedDispatch = enclosingNested || level > 0;
+        }
+    }
+    
+    // Button commands and invokeLater runnables name the slow code; other events name their source
+    private static String describe(AWTEvent event) {
+        if (event instanceof ActionEvent) {
+            return ((ActionEvent) event).getActionCommand();
+        }
+        if (event instanceof InvocationEvent) {
+            return event.paramString();
+        }
+        return event.getSource() == null ? null : event.getSource().getClass().getName();
+    }
+}
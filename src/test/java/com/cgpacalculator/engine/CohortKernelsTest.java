@@ -0,0 +1,112 @@
+package com.cgpacalculator.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.cgpacalculator.model.ClassificationScheme;
+import com.cgpacalculator.model.CourseStore;
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The vector kernel against the scalar loop. Skipped when the JVM or CPU cannot run it;
+ * the build starts the test JVM with the incubator module so it normally runs.
+ */
+class CohortKernelsTest {
+    
+    @AfterEach
+    void restoreScale() {
+        GradingScales.use(GradingScale.FIVE_POINT);
+    }
+    
+    @Test
+    void vectorMatchesScalarOnRaggedSegments() {
+        CohortKernel vector = CohortKernels.vector();
+        assumeTrue(vector != null, "vector kernel unavailable");
+        
+        SplittableRandom random = new SplittableRandom(25);
+        for (int trial = 0; trial < 200; trial++) {
+            CourseStore store = raggedStore(random, random.nextInt(1, 40), 70);
+            assertSameSums(vector, store, 0, store.getStudentCount());
+            int from = random.nextInt(store.getStudentCount());
+            assertSameSums(vector, store, from, random.nextInt(from, store.getStudentCount() + 1));
+        }
+    }
+    
+    @Test
+    void vectorMatchesScalarOnEveryScaleSize() {
+        CohortKernel vector = CohortKernels.vector();
+        assumeTrue(vector != null, "vector kernel unavailable");
+        
+        // Sizes either side of what two point tables hold on AVX2 and AVX-512
+        SplittableRandom random = new SplittableRandom(26);
+        for (int grades : new int[] {1, 5, 7, 8, 15, 16, 17, 30, 31, GradingScale.MAX_GRADES}) {
+            GradingScales.use(scale(random, grades));
+            for (int trial = 0; trial < 20; trial++) {
+                CourseStore store = raggedStore(random, random.nextInt(1, 30), 40);
+                assertSameSums(vector, store, 0, store.getStudentCount());
+            }
+        }
+    }
+    
+    @Test
+    void vectorMatchesScalarOnSegmentsTooLongForIntLanes() {
+        CohortKernel vector = CohortKernels.vector();
+        assumeTrue(vector != null, "vector kernel unavailable");
+        
+        // Maximum units at 100.00 points overflow int lanes after about 1700 rows
+        GradingScales.use(new GradingScale("hundred", null, new String[] {"A", "F"}, new double[] {100.0, 0.0},
+                                           null, ClassificationScheme.FIVE_POINT));
+        CourseStore.Builder builder = new CourseStore.Builder();
+        for (int rows : new int[] {3, 5000, 1, 1700, 0, 2}) {
+            builder.startStudent(0, 0);
+            for (int row = 0; row < rows; row++) {
+                builder.addCourse(row % 7, Byte.MAX_VALUE, 0);
+            }
+        }
+        CourseStore store = builder.build();
+        assertSameSums(vector, store, 0, store.getStudentCount());
+    }
+    
+    // Segments of 0 to maxRows rows, so students end before, on and after a vector boundary,
+    // including the store's last row; units span the whole stored range and some grades are invalid
+    private static CourseStore raggedStore(SplittableRandom random, int students, int maxRows) {
+        GradingScale scale = GradingScales.current();
+        CourseStore.Builder builder = new CourseStore.Builder(1, 1);
+        for (int student = 0; student < students; student++) {
+            builder.startStudent(0, 0);
+            int rows = random.nextInt(maxRows + 1);
+            for (int row = 0; row < rows; row++) {
+                int units = random.nextInt(4) == 0 ? random.nextInt(Byte.MAX_VALUE + 1) : random.nextInt(1, 7);
+                int grade = random.nextInt(10) == 0 ? GradingScale.INVALID_ORDINAL : random.nextInt(scale.count());
+                builder.addCourse(random.nextInt(50), units, grade);
+            }
+        }
+        return builder.build();
+    }
+    
+    private static GradingScale scale(SplittableRandom random, int grades) {
+        String[] labels = new String[grades];
+        double[] points = new double[grades];
+        for (int ordinal = 0; ordinal < grades; ordinal++) {
+            labels[ordinal] = "G" + ordinal;
+            points[ordinal] = random.nextInt(GradingScale.MAX_POINTS_HUNDREDTHS + 1) / 100.0;
+        }
+        return new GradingScale("scale-" + grades, null, labels, points, null, ClassificationScheme.FIVE_POINT);
+    }
+    
+    private static void assertSameSums(CohortKernel vector, CourseStore store, int from, int to) {
+        long[] expectedCredit = new long[to - from];
+        int[] expectedUnits = new int[to - from];
+        CohortKernels.SCALAR.sum(store, from, to, expectedCredit, expectedUnits);
+        
+        long[] credit = new long[to - from];
+        int[] units = new int[to - from];
+        vector.sum(store, from, to, credit, units);
+        assertArrayEquals(expectedCredit, credit, store + " students " + from + "-" + to);
+        assertArrayEquals(expectedUnits, units, store + " students " + from + "-" + to);
+    }
+}
@@ -0,0 +1,183 @@
+package com.cgpacalculator.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import com.cgpacalculator.utils.Constants;
+import com.cgpacalculator.utils.Decimals;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The solver against exhaustive search over every grade assignment of a few planned courses
+ */
+class TargetGradeSolverTest {
+    
+    private static final int ALL_PLANS = 100_000;
+    
+    @AfterEach
+    void restoreDefaults() {
+        GradingScales.use(GradingScale.FIVE_POINT);
+        Decimals.setRounding(Decimals.DEFAULT_ROUNDING);
+    }
+    
+    @Test
+    void matchesBruteForceOnTheFivePointScale() {
+        checkRandomCases(new SplittableRandom(11), 400);
+    }
+    
+    @Test
+    void matchesBruteForceWithUnevenAndRepeatedGradePoints() {
+        GradingScales.use(new GradingScale("uneven", "Uneven scale", new String[] {"A", "B+", "B", "C", "F"},
+            new double[] {5.0, 4.5, 4.5, 1.5, 0.0}, null, GradingScale.FIVE_POINT.getClassificationScheme()));
+        checkRandomCases(new SplittableRandom(12), 400);
+    }
+    
+    @Test
+    void matchesBruteForceUnderOtherRoundingModes() {
+        for (RoundingMode mode : new RoundingMode[] {RoundingMode.HALF_EVEN, RoundingMode.DOWN, RoundingMode.UP}) {
+            Decimals.setRounding(mode);
+            checkRandomCases(new SplittableRandom(mode.ordinal()), 150);
+        }
+    }
+    
+    @Test
+    void noUnitsAtAllIsUnreachable() {
+        TargetGradePlan plan = TargetGradeSolver.solve(0.0, 0, new int[0], 4.5, 10);
+        assertEquals(TargetGradePlan.Status.UNREACHABLE, plan.getStatus());
+        assertEquals(0, plan.getPlanCount());
+        assertEquals(TargetGradePlan.Status.UNREACHABLE, TargetGradeSolver.solve(0.0, 0, new int[0], 0.0, 10).getStatus());
+    }
+    
+    private static void checkRandomCases(SplittableRandom random, int cases) {
+        GradingScale scale = GradingScales.current();
+        int maxPoints = scale.hundredthsOf(0);
+        for (int i = 0; i < cases; i++) {
+            int[] units = new int[random.nextInt(1, 6)];
+            for (int course = 0; course < units.length; course++) {
+                units[course] = random.nextInt(Constants.MIN_COURSE_UNITS, Constants.MAX_COURSE_UNITS + 1);
+            }
+            int priorUnits = random.nextInt(4) == 0 ? 0 : random.nextInt(1, 60);
+            int priorCGPA = random.nextInt(maxPoints + 1);
+            int target = random.nextInt(maxPoints + 1);
+            check(scale, priorCGPA, priorUnits, units, target);
+        }
+    }
+    
+    private static void check(GradingScale scale, int priorCGPA, int priorUnits, int[] units, int target) {
+        String input = "prior " + priorCGPA + " over " + priorUnits + ", units " + Arrays.toString(units) + ", target " + target;
+        RoundingMode rounding = Decimals.getRounding();
+        long priorCredit = priorUnits > 0 ? (long) priorCGPA * priorUnits : 0;
+        int totalUnits = priorUnits + Arrays.stream(units).sum();
+        
+        // Every assignment: the least highest grade that reaches the target, then the least credit with it
+        int grades = scale.count();
+        int[] ordinals = new int[units.length];
+        int bestHighest = Integer.MAX_VALUE;
+        long bestCredit = Long.MAX_VALUE;
+        long topCredit = 0;
+        for (int course = 0; course < units.length; course++) {
+            topCredit += (long) units[course] * scale.hundredthsOf(0);
+        }
+        do {
+            long credit = credit(scale, units, ordinals);
+            int highest = highest(scale, ordinals);
+            if (Decimals.average(priorCredit + credit, totalUnits, rounding) >= target
+                    && (highest < bestHighest || (highest == bestHighest && credit < bestCredit))) {
+                bestHighest = highest;
+                bestCredit = credit;
+            }
+        } while (next(ordinals, grades));
+        
+        TargetGradePlan plan = TargetGradeSolver.solve(priorCGPA / 100.0, priorUnits, units, target / 100.0, ALL_PLANS);
+        assertEquals(Decimals.average(priorCredit + topCredit, totalUnits, rounding) / 100.0,
+                     plan.getBestPossibleCGPA(), 1e-9, input);
+        if (bestCredit == Long.MAX_VALUE) {
+            assertEquals(TargetGradePlan.Status.UNREACHABLE, plan.getStatus(), input);
+            return;
+        }
+        
+        int lowest = scale.hundredthsOf(scale.count() - 1);
+        for (int ordinal = 0; ordinal < scale.count(); ordinal++) {
+            lowest = Math.min(lowest, scale.hundredthsOf(ordinal));
+        }
+        assertEquals(bestHighest == lowest ? TargetGradePlan.Status.ALREADY_SECURED : TargetGradePlan.Status.REACHABLE,
+                     plan.getStatus(), input);
+        
+        // All minimal plans, up to reordering courses with equal units and grades with equal points
+        Set<String> expected = new HashSet<>();
+        Arrays.fill(ordinals, 0);
+        do {
+            if (highest(scale, ordinals) <= bestHighest && credit(scale, units, ordinals) == bestCredit) {
+                expected.add(key(scale, units, ordinals));
+            }
+        } while (next(ordinals, grades));
+        
+        Set<String> listed = new HashSet<>();
+        double resulting = Decimals.average(priorCredit + bestCredit, totalUnits, rounding) / 100.0;
+        for (int p = 0; p < plan.getPlanCount(); p++) {
+            int[] planOrdinals = new int[units.length];
+            for (int course = 0; course < units.length; course++) {
+                planOrdinals[course] = plan.getGradeOrdinal(p, course);
+            }
+            assertTrue(listed.add(key(scale, units, planOrdinals)), "plan listed twice: " + input);
+            assertEquals(resulting, plan.getResultingCGPA(p), 1e-9, input);
+        }
+        assertEquals(expected, listed, input);
+        
+        TargetGradePlan firstTwo = TargetGradeSolver.solve(priorCGPA / 100.0, priorUnits, units, target / 100.0, 2);
+        assertEquals(Math.min(2, expected.size()), firstTwo.getPlanCount(), input);
+    }
+    
+    private static long credit(GradingScale scale, int[] units, int[] ordinals) {
+        long credit = 0;
+        for (int course = 0; course < units.length; course++) {
+            credit += (long) units[course] * scale.hundredthsOf(ordinals[course]);
+        }
+        return credit;
+    }
+    
+    private static int highest(GradingScale scale, int[] ordinals) {
+        int highest = 0;
+        for (int ordinal : ordinals) {
+            highest = Math.max(highest, scale.hundredthsOf(ordinal));
+        }
+        return highest;
+    }
+    
+    // Sorted points per unit value, so equivalent plans share a key
+    private static String key(GradingScale scale, int[] units, int[] ordinals) {
+        StringBuilder key = new StringBuilder();
+        for (int courseUnits = Constants.MIN_COURSE_UNITS; courseUnits <= Constants.MAX_COURSE_UNITS; courseUnits++) {
+            int[] points = new int[units.length];
+            int count = 0;
+            for (int course = 0; course < units.length; course++) {
+                if (units[course] == courseUnits) {
+                    points[count++] = scale.hundredthsOf(ordinals[course]);
+                }
+            }
+            int[] sorted = Arrays.copyOf(points, count);
+            Arrays.sort(sorted);
+            key.append(courseUnits).append(Arrays.toString(sorted));
+        }
+        return key.toString();
+    }
+    
+    // Next assignment in mixed-radix order; false after the last
+    private static boolean next(int[] ordinals, int grades) {
+        for (int course = 0; course < ordinals.length; course++) {
+            if (++ordinals[course] < grades) {
+                return true;
+            }
+            ordinals[course] = 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package com.cgpacalculator.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Line splitting and field parsing, and the same results for every window and read size
+ */
+class TranscriptImporterTest {
+    
+    // Header, CRLF, quoted names with commas and quotes, blank and malformed lines,
+    // a case-insensitive duplicate, and a last line without a newline
+    private static final String TRANSCRIPT = "student,course,units,grade\r\n"
+        + "S1,Calculus,3,A\r\n"
+        + "S1,\"Physics, Mechanics\",4,b\r\n"
+        + "S1,\"The \"\"Good\"\" Life\",2,C\r\n"
+        + "\r\n"
+        + "S1,CALCULUS,3,A\r\n"
+        + "S1,Writing,5,A\r\n"
+        + "S1,Ethics,4,E\n"
+        + "   \t\n"
+        + "S2,Algebra,7,A\n"
+        + "S2,,3,B\n"
+        + "S2,Drawing,2,G\n"
+        + "S2,broken\n"
+        + "S4,Biology,6,A\n"
+        + "S4,Chemistry,6,B\n"
+        + "S4,geology,6,C\n"
+        + "S3, Statistics ,\t3 , a \n"
+        + "S3,Economics,3,AB";
+    
+    private static final String EXPECTED = "S1 courses=6 units=18 credit=6600 invalidUnits=0 invalidGrades=0 missingNames=0 duplicates=1 malformed=0 valid=false\n"
+        + "S2 courses=3 units=5 credit=1200 invalidUnits=1 invalidGrades=1 missingNames=1 duplicates=0 malformed=1 valid=false\n"
+        + "S4 courses=3 units=18 credit=7200 invalidUnits=0 invalidGrades=0 missingNames=0 duplicates=0 malformed=0 valid=true\n"
+        + "S3 courses=2 units=6 credit=1500 invalidUnits=0 invalidGrades=1 missingNames=0 duplicates=0 malformed=0 valid=false\n"
+        + "students=4 valid=1 rows=15 malformed=1";
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void parsesEveryKindOfLine() throws IOException {
+        assertEquals(EXPECTED, importStream(new TranscriptImporter(), stream(TRANSCRIPT, Integer.MAX_VALUE)));
+    }
+    
+    @Test
+    void streamResultsDoNotDependOnWindowOrReadSize() throws IOException {
+        for (int window = 32; window <= 128; window++) {
+            for (int chunk : new int[] {1, 3, 17, Integer.MAX_VALUE}) {
+                assertEquals(EXPECTED, importStream(new TranscriptImporter(window), stream(TRANSCRIPT, chunk)),
+                             "window " + window + ", chunk " + chunk);
+            }
+        }
+    }
+    
+    @Test
+    void mappedWindowsSplitOnLineBoundaries() throws IOException {
+        Path file = directory.resolve("transcript.csv");
+        Files.writeString(file, TRANSCRIPT);
+        for (int window = 32; window <= TRANSCRIPT.length() + 1; window++) {
+            TranscriptImporter importer = new TranscriptImporter(window);
+            StringBuilder text = new StringBuilder();
+            ImportSummary summary = importer.importFile(file, student -> text.append(describe(student)));
+            assertEquals(EXPECTED, text + describe(summary), "window " + window);
+            assertEquals(TRANSCRIPT.length(), summary.getBytesRead());
+        }
+    }
+    
+    @Test
+    void linesLongerThanTheWindowAreRejected() throws IOException {
+        String transcript = "S1,Calculus,3,A\nS1," + "x".repeat(40) + ",3,A\n";
+        assertThrows(IOException.class, () -> importStream(new TranscriptImporter(32), stream(transcript, 5)));
+        
+        Path file = directory.resolve("transcript.csv");
+        Files.writeString(file, transcript);
+        assertThrows(IOException.class, () -> new TranscriptImporter(32).importFile(file, student -> { }));
+    }
+    
+    @Test
+    void importerCanBeReused() throws IOException {
+        TranscriptImporter importer = new TranscriptImporter(64);
+        assertEquals(EXPECTED, importStream(importer, stream(TRANSCRIPT, 7)));
+        assertEquals(EXPECTED, importStream(importer, stream(TRANSCRIPT, 7)));
+    }
+    
+    private static String importStream(TranscriptImporter importer, InputStream in) throws IOException {
+        StringBuilder text = new StringBuilder();
+        ImportSummary summary = importer.importStream(in, student -> text.append(describe(student)));
+        return text + describe(summary);
+    }
+    
+    private static String describe(StudentAggregate student) {
+        return student.getStudentId() + " courses=" + student.getCourseCount() + " units=" + student.getTotalUnits()
+            + " credit=" + student.getTotalCreditHundredths() + " invalidUnits=" + student.getInvalidUnitRows()
+            + " invalidGrades=" + student.getInvalidGradeRows() + " missingNames=" + student.getMissingNameRows()
+            + " duplicates=" + student.getDuplicateCourseRows() + " malformed=" + student.getMalformedRows()
+            + " valid=" + student.isValid() + "\n";
+    }
+    
+    private static String describe(ImportSummary summary) {
+        return "students=" + summary.getStudents() + " valid=" + summary.getValidStudents()
+            + " rows=" + summary.getRows() + " malformed=" + summary.getMalformedRows();
+    }
+    
+    // Hands out at most chunk bytes per read, as pipes and sockets do
+    private static InputStream stream(String text, int chunk) {
+        return new FilterInputStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                return super.read(bytes, offset, Math.min(length, chunk));
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.cgpacalculator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The bucket table with its sign-bit correction, against a plain scan of the minimums
+ */
+class ClassificationSchemeTest {
+    
+    // Minimums off the hundredths grid and close together, where quantizing lands in the wrong class
+    private static final ClassificationScheme UNEVEN = new ClassificationScheme("uneven", null,
+        new String[] {"Top", "High", "Middle", "Low", "Pass", "Fail"},
+        new double[] {3.575, 3.545, 2.999, 1.0 / 3, 0.02}, new int[6]);
+    
+    private static final ClassificationScheme SINGLE = new ClassificationScheme("single", null,
+        new String[] {"Only"}, new double[0], new int[1]);
+    
+    @Test
+    void boundariesAndTheirNeighboursMatchTheScan() {
+        for (ClassificationScheme scheme : new ClassificationScheme[] {ClassificationScheme.FIVE_POINT, UNEVEN, SINGLE}) {
+            for (int ordinal = 0; ordinal < scheme.count() - 1; ordinal++) {
+                double minimum = scheme.getMinimum(ordinal);
+                double below = minimum;
+                double above = minimum;
+                for (int step = 0; step < 4; step++) {
+                    assertClassifies(scheme, below);
+                    assertClassifies(scheme, above);
+                    below = Math.nextDown(below);
+                    above = Math.nextUp(above);
+                }
+                assertClassifies(scheme, minimum - 0.005);
+                assertClassifies(scheme, minimum + 0.005);
+            }
+        }
+    }
+    
+    @Test
+    void outOfRangeCgpasTakeTheEndClasses() {
+        for (ClassificationScheme scheme : new ClassificationScheme[] {ClassificationScheme.FIVE_POINT, UNEVEN, SINGLE}) {
+            for (double cgpa : new double[] {-0.0, 0.0, -Double.MIN_VALUE, -0.004, -1.0, -1e9,
+                                             Double.NEGATIVE_INFINITY, 5.0, 99.99, 1e9, Double.POSITIVE_INFINITY}) {
+                assertClassifies(scheme, cgpa);
+            }
+        }
+        assertEquals(ClassificationScheme.FIVE_POINT.count() - 1, ClassificationScheme.FIVE_POINT.classify(-3.0));
+        assertEquals(0, ClassificationScheme.FIVE_POINT.classify(7.0));
+    }
+    
+    @Test
+    void randomCgpasMatchTheScan() {
+        SplittableRandom random = new SplittableRandom(23);
+        for (int i = 0; i < 200_000; i++) {
+            double cgpa = random.nextDouble(-0.5, 5.5);
+            assertClassifies(ClassificationScheme.FIVE_POINT, cgpa);
+            assertClassifies(UNEVEN, cgpa);
+        }
+    }
+    
+    @Test
+    void hundredthsMatchTheScan() {
+        for (ClassificationScheme scheme : new ClassificationScheme[] {ClassificationScheme.FIVE_POINT, UNEVEN, SINGLE}) {
+            for (int hundredths = -50; hundredths <= 600; hundredths++) {
+                double cgpa = hundredths / 100.0;
+                assertEquals(scan(scheme, cgpa), scheme.classifyHundredths(hundredths), scheme.getName() + " " + hundredths);
+                assertEquals(scan(scheme, cgpa), scheme.classify(cgpa), scheme.getName() + " " + cgpa);
+            }
+        }
+    }
+    
+    @Test
+    void minimumsCloserThanTheGapAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ClassificationScheme("close", null,
+            new String[] {"A", "B", "C"}, new double[] {3.5, 3.49}, new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> new ClassificationScheme("negative", null,
+            new String[] {"A", "B"}, new double[] {-1.0}, new int[2]));
+    }
+    
+    private static void assertClassifies(ClassificationScheme scheme, double cgpa) {
+        assertEquals(scan(scheme, cgpa), scheme.classify(cgpa), scheme.getName() + " " + cgpa);
+    }
+    
+    // The first class whose minimum the CGPA reaches
+    private static int scan(ClassificationScheme scheme, double cgpa) {
+        int ordinal = 0;
+        while (ordinal < scheme.count() - 1 && cgpa < scheme.getMinimum(ordinal)) {
+            ordinal++;
+        }
+        return ordinal;
+    }
+}
@@ -0,0 +1,103 @@
+package com.cgpacalculator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The name index against a map of case-folded names, through growth, removal and clearing
+ */
+class CourseNameIndexTest {
+    
+    @Test
+    void matchesAMapOfFoldedNames() {
+        SplittableRandom random = new SplittableRandom(13);
+        CourseNameIndex index = new CourseNameIndex(4);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            String name = randomName(random);
+            String folded = name.toLowerCase(Locale.ROOT);
+            if (random.nextInt(3) == 0) {
+                int left = Math.max(0, counts.getOrDefault(folded, 0) - 1);
+                counts.put(folded, left);
+                assertEquals(left, index.remove(name), name);
+            } else {
+                int now = counts.merge(folded, 1, Integer::sum);
+                assertEquals(now, index.add(name), name);
+            }
+            String probe = randomName(random);
+            assertEquals((int) counts.getOrDefault(probe.toLowerCase(Locale.ROOT), 0), index.count(probe), probe);
+            if (i % 5_000 == 0) {
+                assertEquals(counts.values().stream().filter(count -> count > 0).count(), index.size());
+            }
+        }
+        
+        index.clear();
+        assertEquals(0, index.size());
+        for (String name : counts.keySet()) {
+            assertFalse(index.contains(name), name);
+        }
+    }
+    
+    @Test
+    void namesDifferingOnlyInCaseAreOneName() {
+        CourseNameIndex index = new CourseNameIndex();
+        assertEquals(1, index.add("MTH101"));
+        assertEquals(2, index.add("mth101"));
+        assertEquals(3, index.add("Mth101"));
+        assertEquals(1, index.size());
+        assertTrue(index.contains("mTH101"));
+        assertFalse(index.contains("MTH 101"));
+        assertFalse(index.contains("MTH10"));
+        assertEquals(0, index.remove("PHY101"));
+    }
+    
+    @Test
+    void nonAsciiNamesFoldLikeEqualsIgnoreCase() {
+        CourseNameIndex index = new CourseNameIndex();
+        index.add("Économie");
+        index.add("ΦΥΣΙΚΗ");
+        assertTrue(index.contains("éCONOMIE"));
+        assertTrue(index.contains("φυσικη"));
+        assertFalse(index.contains("Economie"));
+        assertEquals(CourseNameIndex.foldedHashCode("ΦΥΣΙΚΗ"), CourseNameIndex.foldedHashCode("φυσικη"));
+    }
+    
+    @Test
+    void utf8KeysAgreeWithStringsForAsciiNames() {
+        CourseNameIndex index = new CourseNameIndex();
+        ByteBuffer line = ByteBuffer.wrap("id,Calculus I,3,A\nid,CALCULUS i,3,B\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, index.add(line, 3, 13));
+        assertEquals(2, index.add(line, 21, 31));
+        assertEquals(2, index.count("calculus I"));
+        assertEquals(3, index.add("Calculus I"));
+        assertEquals(1, index.size());
+    }
+    
+    @Test
+    void longNamesGrowTheKeyBuffer() {
+        CourseNameIndex index = new CourseNameIndex();
+        String name = "Advanced Topics ".repeat(40);
+        index.add(name);
+        assertTrue(index.contains(name.toUpperCase(Locale.ROOT)));
+        assertFalse(index.contains(name + "x"));
+    }
+    
+    // Short names from a small alphabet so cases collide, repeat and get removed often
+    private static String randomName(SplittableRandom random) {
+        char[] name = new char[random.nextInt(1, 5)];
+        for (int i = 0; i < name.length; i++) {
+            char c = (char) ('a' + random.nextInt(6));
+            name[i] = random.nextBoolean() ? Character.toUpperCase(c) : c;
+        }
+        return new String(name);
+    }
+}
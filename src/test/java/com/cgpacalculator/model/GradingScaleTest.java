@@ -0,0 +1,96 @@
+package com.cgpacalculator.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Grade lookup tables: one-character labels, packed multi-character keys and marks
+ */
+class GradingScaleTest {
+    
+    private static final GradingScale PLUS_MINUS = new GradingScale("plus-minus", "A+ to F",
+        new String[] {"A+", "A", "A-", "B+", "B", "F"}, new double[] {4.0, 4.0, 3.7, 3.3, 3.0, 0.0},
+        new int[] {90, 85, 80, 75, 70, 0}, ClassificationScheme.FIVE_POINT);
+    
+    @Test
+    void everyLabelResolvesCaseInsensitively() {
+        for (GradingScale scale : new GradingScale[] {GradingScale.FIVE_POINT, PLUS_MINUS}) {
+            for (int ordinal = 0; ordinal < scale.count(); ordinal++) {
+                String label = scale.getLabel(ordinal);
+                assertOrdinal(scale, ordinal, label);
+                assertOrdinal(scale, ordinal, label.toLowerCase());
+            }
+        }
+        assertEquals(0, GradingScale.FIVE_POINT.ordinalOf('a'));
+        assertEquals(0, GradingScale.FIVE_POINT.ordinalOf((byte) 'A'));
+        assertEquals(5.0, GradingScale.FIVE_POINT.pointsOf("a"));
+    }
+    
+    @Test
+    void marksFallInTheirBands() {
+        assertOrdinal(PLUS_MINUS, 0, "100");
+        assertOrdinal(PLUS_MINUS, 0, "90");
+        assertOrdinal(PLUS_MINUS, 1, "89");
+        assertOrdinal(PLUS_MINUS, 4, "70");
+        assertOrdinal(PLUS_MINUS, 5, "69");
+        assertOrdinal(PLUS_MINUS, 5, "0");
+        assertOrdinal(PLUS_MINUS, GradingScale.INVALID_ORDINAL, "101");
+        assertOrdinal(GradingScale.FIVE_POINT, GradingScale.INVALID_ORDINAL, "70");
+    }
+    
+    @Test
+    void nonGradesAreInvalid() {
+        for (String grade : new String[] {"", "G", "AA", "A+-", "A+B+C", " A", "A ", "A+ ", "é", "Ā+"}) {
+            assertOrdinal(PLUS_MINUS, GradingScale.INVALID_ORDINAL, grade);
+        }
+        assertEquals(GradingScale.INVALID_ORDINAL, PLUS_MINUS.ordinalOf((String) null));
+        assertEquals(GradingScale.INVALID_ORDINAL, PLUS_MINUS.ordinalOf('É'));
+        assertEquals(GradingScale.INVALID_ORDINAL, PLUS_MINUS.ordinalOf((byte) 0xC3));
+        assertEquals(0.0, PLUS_MINUS.pointsOf("G"));
+    }
+    
+    @Test
+    void controlCharactersNeverMatchALabel() {
+        // An all-NUL grade packs to the empty-slot key, and leading NULs to a shorter label's key
+        for (String grade : new String[] {"\0", "\0\0", "\0\0\0\0", "\0A", "\0A+", "\0\0A-", "\0" + "90", "\tA", "A\n"}) {
+            assertOrdinal(PLUS_MINUS, GradingScale.INVALID_ORDINAL, grade);
+            assertOrdinal(GradingScale.FIVE_POINT, GradingScale.INVALID_ORDINAL, grade);
+        }
+    }
+    
+    @Test
+    void invalidOrdinalHasNoPointsOrLabel() {
+        assertEquals(0.0, PLUS_MINUS.pointsOf(GradingScale.INVALID_ORDINAL));
+        assertEquals(0, PLUS_MINUS.hundredthsOf(GradingScale.INVALID_ORDINAL));
+        assertEquals("", PLUS_MINUS.labelOf(GradingScale.INVALID_ORDINAL));
+        assertEquals("", PLUS_MINUS.labelOf(PLUS_MINUS.count()));
+        assertEquals(370, PLUS_MINUS.hundredthsOf(2));
+    }
+    
+    @Test
+    void badScalesAreRejected() {
+        ClassificationScheme scheme = ClassificationScheme.FIVE_POINT;
+        assertThrows(IllegalArgumentException.class, () -> new GradingScale("dup", null,
+            new String[] {"A", "a"}, new double[] {5.0, 4.0}, null, scheme));
+        assertThrows(IllegalArgumentException.class, () -> new GradingScale("dup", null,
+            new String[] {"A+", "a+"}, new double[] {5.0, 4.0}, null, scheme));
+        assertThrows(IllegalArgumentException.class, () -> new GradingScale("space", null,
+            new String[] {"A B"}, new double[] {5.0}, null, scheme));
+        assertThrows(IllegalArgumentException.class, () -> new GradingScale("nul", null,
+            new String[] {"\0A"}, new double[] {5.0}, null, scheme));
+        assertThrows(IllegalArgumentException.class, () -> new GradingScale("points", null,
+            new String[] {"A"}, new double[] {4.005}, null, scheme));
+    }
+    
+    // The String and the byte-range lookups must agree
+    private static void assertOrdinal(GradingScale scale, int expected, String grade) {
+        assertEquals(expected, scale.ordinalOf(grade), "'" + grade + "'");
+        byte[] bytes = ("," + grade + ",").getBytes(StandardCharsets.UTF_8);
+        int to = bytes.length - 1;
+        assertEquals(expected, scale.ordinalOf(ByteBuffer.wrap(bytes), 1, to), "bytes of '" + grade + "'");
+    }
+}
@@ -0,0 +1,91 @@
+package com.cgpacalculator.persistence;
+
+import static com.cgpacalculator.persistence.CourseDataFixtures.courses;
+import static com.cgpacalculator.persistence.CourseDataFixtures.describe;
+import static com.cgpacalculator.persistence.CourseDataFixtures.history;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cgpacalculator.model.GradingScale;
+import com.cgpacalculator.model.GradingScales;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Binary snapshot round trips and rejection of damaged files
+ */
+class BinaryCourseDataFileTest {
+    
+    @TempDir
+    Path directory;
+    
+    @AfterEach
+    void restoreScale() {
+        GradingScales.use(GradingScale.FIVE_POINT);
+    }
+    
+    @Test
+    void roundTripKeepsHistoryAndInputs() throws IOException {
+        CourseData data = new CourseData(courses("Calculus", 3, "A", "Physics", 4, "E"), "4.25", "60", history());
+        
+        ByteBuffer encoded = BinaryCourseDataFile.encode(data);
+        assertEquals(describe(data), describe(BinaryCourseDataFile.decode(encoded, "test")));
+        
+        String file = directory.resolve("cgpa_data.bin").toString();
+        BinaryCourseDataFile.write(data, file);
+        assertTrue(BinaryCourseDataFile.isBinaryFile(file));
+        assertEquals(describe(data), describe(BinaryCourseDataFile.read(file)));
+    }
+    
+    @Test
+    void gradeLabelsOffTheScaleSurvive() throws IOException {
+        // "A-" is not on the 5-point scale and "" is no grade at all
+        CourseData data = new CourseData(courses("Calculus", 3, "A", "Ethics", 2, "A-", "Draft", 1, ""), "", "");
+        assertEquals(describe(data), describe(BinaryCourseDataFile.decode(BinaryCourseDataFile.encode(data), "test")));
+    }
+    
+    @Test
+    void snapshotLoadsUnderAnotherScale() throws IOException {
+        String file = directory.resolve("cgpa_data.bin").toString();
+        CourseData data = new CourseData(courses("Calculus", 3, "A", "Physics", 4, "E"), "", "", history());
+        BinaryCourseDataFile.write(data, file);
+        
+        GradingScales.use(new GradingScale("letters", "A-C scale", new String[] {"A", "B", "C"},
+            new double[] {5.0, 4.0, 3.0}, null, GradingScale.FIVE_POINT.getClassificationScheme()));
+        CourseData loaded = BinaryCourseDataFile.read(file);
+        assertEquals(describe(data), describe(loaded));
+        assertTrue(loaded.getCourses().get(0).isValid());
+        assertEquals(GradingScale.INVALID_ORDINAL, loaded.getCourses().get(1).getGradeOrdinal());
+    }
+    
+    @Test
+    void truncatedOrCorruptFileIsRejected() throws IOException {
+        String file = directory.resolve("cgpa_data.bin").toString();
+        BinaryCourseDataFile.write(new CourseData(courses("Calculus", 3, "A"), "4.00", "30", history()), file);
+        byte[] bytes = Files.readAllBytes(Path.of(file));
+        
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(Path.of(file), Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> BinaryCourseDataFile.read(file), "length " + length);
+        }
+        
+        bytes[bytes.length - 3] ^= 1;
+        Files.write(Path.of(file), bytes);
+        assertThrows(IOException.class, () -> BinaryCourseDataFile.read(file));
+    }
+    
+    @Test
+    void textFileIsNotBinary() throws IOException {
+        Path file = directory.resolve("cgpa_data.txt");
+        Files.writeString(file, "Calculus,3,A\n");
+        assertFalse(BinaryCourseDataFile.isBinaryFile(file.toString()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.cgpacalculator.persistence;
+
+import com.cgpacalculator.model.Course;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Course data shared by the persistence tests, and a text form to compare it by
+ */
+final class CourseDataFixtures {
+    
+    private CourseDataFixtures() {
+        throw new UnsupportedOperationException("CourseDataFixtures class cannot be instantiated");
+    }
+    
+    static List<SemesterData> history() {
+        return List.of(new SemesterData("Year 1 First", courses("Algebra", 3, "A", "Writing", 2, "C")),
+                       new SemesterData("Year 1 Second", courses("Mechanics", 4, "B")));
+    }
+    
+    // Name, units, grade triples
+    static List<Course> courses(Object... fields) {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < fields.length; i += 3) {
+            courses.add(new Course((String) fields[i], (Integer) fields[i + 1], (String) fields[i + 2]));
+        }
+        return courses;
+    }
+    
+    static String describe(CourseData data) {
+        StringBuilder text = new StringBuilder();
+        for (SemesterData semester : data.getHistory()) {
+            text.append(semester.getName()).append(": ");
+            describe(text, semester.getCourses());
+        }
+        text.append("current: ");
+        describe(text, data.getCourses());
+        return text.append(data.getCurrentCGPA()).append(" / ").append(data.getCumulativeUnits()).toString();
+    }
+    
+    private static void describe(StringBuilder text, List<Course> courses) {
+        for (Course course : courses) {
+            text.append(course.getCourseName()).append(',').append(course.getUnits()).append(',')
+                .append(course.getLetterGrade()).append("; ");
+        }
+    }
+}
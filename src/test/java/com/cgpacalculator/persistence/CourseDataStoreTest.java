@@ -0,0 +1,161 @@
+package com.cgpacalculator.persistence;
+
+import static com.cgpacalculator.persistence.CourseDataFixtures.describe;
+import static com.cgpacalculator.persistence.CourseDataFixtures.history;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cgpacalculator.model.Course;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Snapshot-plus-journal round trips, including torn journal tails
+ */
+class CourseDataStoreTest {
+    
+    @TempDir
+    Path directory;
+    
+    private String snapshotFile;
+    private String journalFile;
+    
+    @BeforeEach
+    void setUp() {
+        snapshotFile = directory.resolve("cgpa_data.bin").toString();
+        journalFile = directory.resolve("cgpa_data.journal").toString();
+    }
+    
+    @Test
+    void journalReplaysEveryKindOfChange() throws IOException {
+        List<CourseData> states = editSequence();
+        CourseDataStore store = newStore();
+        for (CourseData state : states) {
+            store.save(state);
+        }
+        assertTrue(store.getJournalRecordCount() > 0, "saves went to the journal");
+        
+        CourseDataStore reloaded = newStore();
+        assertEquals(describe(states.get(states.size() - 1)), describe(reloaded.load()));
+        assertEquals(store.getJournalRecordCount(), reloaded.getJournalRecordCount());
+    }
+    
+    @Test
+    void truncatedJournalTailLosesOnlyTheTornSave() throws IOException {
+        List<CourseData> states = editSequence();
+        CourseDataStore store = newStore();
+        long[] journalEnds = new long[states.size()];
+        for (int i = 0; i < states.size(); i++) {
+            store.save(states.get(i));
+            journalEnds[i] = Files.size(Path.of(journalFile));
+        }
+        byte[] journal = Files.readAllBytes(Path.of(journalFile));
+        
+        for (int length = CourseDataJournal.HEADER_SIZE; length <= journal.length; length++) {
+            Files.write(Path.of(journalFile), Arrays.copyOf(journal, length));
+            int expected = 0;
+            while (expected + 1 < states.size() && journalEnds[expected + 1] <= length) {
+                expected++;
+            }
+            assertEquals(describe(states.get(expected)), describe(newStore().load()), "length " + length);
+        }
+    }
+    
+    @Test
+    void saveAfterTornTailOverwritesIt() throws IOException {
+        List<CourseData> states = editSequence();
+        CourseDataStore store = newStore();
+        for (CourseData state : states) {
+            store.save(state);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            file.setLength(file.length() - 2);
+        }
+        
+        CourseDataStore reopened = newStore();
+        CourseData loaded = reopened.load();
+        List<Course> courses = new ArrayList<>(loaded.getCourses());
+        courses.add(new Course("Statistics", 3, "B"));
+        CourseData next = new CourseData(courses, loaded.getCurrentCGPA(), loaded.getCumulativeUnits(), loaded.getHistory());
+        reopened.save(next);
+        
+        assertEquals(describe(next), describe(newStore().load()));
+    }
+    
+    @Test
+    void journalForAnotherSnapshotIsIgnored() throws IOException {
+        List<CourseData> states = editSequence();
+        CourseDataStore store = newStore();
+        for (CourseData state : states) {
+            store.save(state);
+        }
+        byte[] staleJournal = Files.readAllBytes(Path.of(journalFile));
+        store.compact(states.get(1));
+        Files.write(Path.of(journalFile), staleJournal);
+        
+        assertEquals(describe(states.get(1)), describe(newStore().load()));
+    }
+    
+    @Test
+    void loadReportsProgressAndCanBeStopped() throws IOException {
+        List<CourseData> states = editSequence();
+        CourseDataStore store = newStore();
+        for (CourseData state : states) {
+            store.save(state);
+        }
+        long total = Files.size(Path.of(snapshotFile)) + Files.size(Path.of(journalFile));
+        
+        long[] last = {-1};
+        newStore().load((bytesRead, totalBytes) -> {
+            assertEquals(total, totalBytes);
+            assertTrue(bytesRead >= last[0]);
+            last[0] = bytesRead;
+            return true;
+        });
+        assertEquals(total, last[0]);
+        
+        assertThrows(InterruptedIOException.class, () -> newStore().load((bytesRead, totalBytes) -> bytesRead == 0));
+    }
+    
+    @Test
+    void nothingToLoad() throws IOException {
+        assertNull(newStore().load());
+    }
+    
+    private CourseDataStore newStore() {
+        return new CourseDataStore(snapshotFile, journalFile, null);
+    }
+    
+    // Adds, an edit in the middle, a removal, new inputs, a clear and a fresh start
+    private static List<CourseData> editSequence() {
+        List<SemesterData> history = history();
+        List<CourseData> states = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        states.add(new CourseData(new ArrayList<>(courses), "", "", history));
+        for (String name : new String[] {"Calculus", "Physics", "Chemistry", "Biology"}) {
+            courses.add(new Course(name, 3, "B"));
+            states.add(new CourseData(new ArrayList<>(courses), "", "", history));
+        }
+        courses.set(1, new Course("Physics", 4, "A"));
+        states.add(new CourseData(new ArrayList<>(courses), "", "", history));
+        courses.remove(2);
+        states.add(new CourseData(new ArrayList<>(courses), "", "", history));
+        states.add(new CourseData(new ArrayList<>(courses), "3.75", "45", history));
+        courses.clear();
+        states.add(new CourseData(new ArrayList<>(courses), "3.75", "45", history));
+        courses.add(new Course("Ethics", 2, "A-"));
+        states.add(new CourseData(new ArrayList<>(courses), "3.75", "45", history));
+        return states;
+    }
+}
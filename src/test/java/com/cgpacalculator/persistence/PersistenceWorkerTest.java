@@ -0,0 +1,78 @@
+package com.cgpacalculator.persistence;
+
+import static com.cgpacalculator.persistence.CourseDataFixtures.courses;
+import static com.cgpacalculator.persistence.CourseDataFixtures.describe;
+import static com.cgpacalculator.persistence.CourseDataFixtures.history;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Every background save reaches the listener, whether it succeeds or fails
+ */
+class PersistenceWorkerTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void savedStateLoadsBack() throws Exception {
+        CourseDataStore store = new CourseDataStore(file("cgpa_data.bin"), file("cgpa_data.journal"), null);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        PersistenceWorker worker = new PersistenceWorker(store, Runnable::run, listener(result));
+        CourseData data = new CourseData(courses("Calculus", 3, "A"), "4.00", "30", history());
+        
+        worker.save(data);
+        assertEquals("saved", result.get(10, TimeUnit.SECONDS));
+        assertEquals(describe(data), describe(worker.load((bytesRead, totalBytes) -> true).get(10, TimeUnit.SECONDS)));
+    }
+    
+    @Test
+    void runtimeFailureIsReportedAsFailedSave() throws Exception {
+        RuntimeException bug = new IllegalStateException("encoder bug");
+        CourseDataStore store = new CourseDataStore(file("cgpa_data.bin"), file("cgpa_data.journal"), null) {
+            @Override
+            public int save(CourseData data) {
+                throw bug;
+            }
+        };
+        CompletableFuture<String> result = new CompletableFuture<>();
+        PersistenceWorker worker = new PersistenceWorker(store, Runnable::run, new PersistenceWorker.Listener() {
+            @Override
+            public void saved(CourseData data, int bytesWritten) {
+                result.complete("saved");
+            }
+            
+            @Override
+            public void saveFailed(CourseData data, IOException error) {
+                result.complete("failed: " + error.getCause().getMessage());
+            }
+        });
+        
+        worker.save(new CourseData(courses("Calculus", 3, "A"), "", ""));
+        assertEquals("failed: encoder bug", result.get(10, TimeUnit.SECONDS));
+    }
+    
+    private String file(String name) {
+        return directory.resolve(name).toString();
+    }
+    
+    private static PersistenceWorker.Listener listener(CompletableFuture<String> result) {
+        return new PersistenceWorker.Listener() {
+            @Override
+            public void saved(CourseData data, int bytesWritten) {
+                result.complete("saved");
+            }
+            
+            @Override
+            public void saveFailed(CourseData data, IOException error) {
+                result.completeExceptionally(error);
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.cgpacalculator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exact hundredths arithmetic, checked against BigDecimal
+ */
+class DecimalsTest {
+    
+    @AfterEach
+    void restoreRounding() {
+        Decimals.setRounding(Decimals.DEFAULT_ROUNDING);
+    }
+    
+    @Test
+    void divideMatchesBigDecimalForEveryRoundingMode() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (RoundingMode mode : RoundingMode.values()) {
+            if (mode == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            for (long dividend = -400; dividend <= 400; dividend++) {
+                for (long divisor = 1; divisor <= 40; divisor++) {
+                    assertDivides(dividend, divisor, mode);
+                }
+            }
+            for (int i = 0; i < 100_000; i++) {
+                long dividend = random.nextLong(-1L << 40, 1L << 40);
+                long divisor = random.nextLong(1, 1L << 20);
+                assertDivides(dividend, divisor, mode);
+            }
+        }
+    }
+    
+    @Test
+    void divideWithUnnecessaryRoundingOnlyAcceptsExactQuotients() {
+        assertEquals(-7, Decimals.divide(-21, 3, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> Decimals.divide(22, 3, RoundingMode.UNNECESSARY));
+    }
+    
+    @Test
+    void minimumCreditIsTheLeastCreditThatRoundsToTheAverage() {
+        for (RoundingMode mode : new RoundingMode[] {RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.DOWN, RoundingMode.UP}) {
+            for (int units = 1; units <= 30; units++) {
+                for (long average = 0; average <= 500; average += 7) {
+                    long credit = Decimals.minimumCredit(average, units, mode);
+                    assertTrue(Decimals.divide(credit, units, mode) >= average, "reaches " + average);
+                    assertTrue(Decimals.divide(credit - 1, units, mode) < average, "least for " + average);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void parseHundredthsRoundsExtraDecimalsWithTheConfiguredMode() {
+        assertEquals(450, Decimals.parseHundredths("4.495"));
+        assertEquals(-5, Decimals.parseHundredths(" -0.05 "));
+        Decimals.setRounding(RoundingMode.DOWN);
+        assertEquals(449, Decimals.parseHundredths("4.499"));
+    }
+    
+    @Test
+    void parseHundredthsRejectsExponentsAndOverlongInput() {
+        assertThrows(NumberFormatException.class, () -> Decimals.parseHundredths("1e999999999"));
+        assertThrows(NumberFormatException.class, () -> Decimals.parseHundredths("4.5E0"));
+        assertThrows(NumberFormatException.class, () -> Decimals.parseHundredths("."));
+        assertThrows(NumberFormatException.class, () -> Decimals.parseHundredths("1." + "0".repeat(Decimals.MAX_DECIMAL_LENGTH)));
+    }
+    
+    private static void assertDivides(long dividend, long divisor, RoundingMode mode) {
+        long expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, mode).longValueExact();
+        assertEquals(expected, Decimals.divide(dividend, divisor, mode), dividend + "/" + divisor + " " + mode);
+    }
+}
@@ -18,7 +18,7 @@ REM Create build directory if needed
 if not exist "build\classes" mkdir build\classes
 
 echo Compiling Java files...
-javac -d build\classes -cp src\main\java src\main\java\com\cgpacalculator\*.java src\main\java\com\cgpacalculator\model\*.java src\main\java\com\cgpacalculator\view\*.java src\main\java\com\cgpacalculator\utils\*.java
+javac --add-modules jdk.incubator.vector -d build\classes -cp src\main\java src\main\java\com\cgpacalculator\*.java src\main\java\com\cgpacalculator\model\*.java src\main\java\com\cgpacalculator\view\*.java src\main\java\com\cgpacalculator\utils\*.java src\main\java\com\cgpacalculator\engine\*.java src\main\java\com\cgpacalculator\persistence\*.java src\main\java\com\cgpacalculator\importer\*.java src\main\java\com\cgpacalculator\cli\*.java src\main\java\com\cgpacalculator\server\*.java src\main\java\com\cgpacalculator\metrics\*.java src\main\java\com\cgpacalculator\simd\*.java
 
 if %errorlevel% neq 0 (
     echo.